@@ -0,0 +1,375 @@
+package org.exparity.beans.processor;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import org.exparity.beans.GenerateBeanDescriptor;
+import org.exparity.beans.core.BeanAccessor;
+import org.exparity.beans.core.BeanDescriptor;
+
+/**
+ * Annotation processor which generates a {@link BeanDescriptor} for each class annotated with {@link GenerateBeanDescriptor} and registers the generated descriptors in
+ * <code>META-INF/org.exparity.beans.core.BeanDescriptor.properties</code>, keyed on the name of the class they describe, so they're found at runtime. The generated descriptor lists the accessors and mutators which
+ * {@link org.exparity.beans.core.TypeInspector} would find on the class, leaving the inspector to pair them into properties using its naming strategy, and implements the
+ * {@link BeanAccessor} with direct calls to the get and set methods. Classes whose methods use types which the descriptor cannot reference are skipped with a warning and are
+ * introspected at runtime.
+ */
+@SupportedAnnotationTypes("org.exparity.beans.GenerateBeanDescriptor")
+public class BeanDescriptorProcessor extends AbstractProcessor {
+
+	private static final String REGISTRY = "META-INF/" + BeanDescriptor.class.getName() + ".properties";
+	private static final String SET_PREFIX = "set";
+	private static final String GET_PREFIX = "get";
+	private static final String IS_PREFIX = "is";
+
+	private final Map<String, String> descriptors = new LinkedHashMap<String, String>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv) {
+		for (Element element : roundEnv.getElementsAnnotatedWith(GenerateBeanDescriptor.class)) {
+			if (element.getKind().isClass() || element.getKind().isInterface()) {
+				generateDescriptor((TypeElement) element);
+			} else {
+				processingEnv.getMessager().printMessage(Kind.ERROR, "@GenerateBeanDescriptor can only be applied to a class", element);
+			}
+		}
+		if (roundEnv.processingOver() && !descriptors.isEmpty()) {
+			writeRegistry();
+		}
+		return true;
+	}
+
+	private void generateDescriptor(final TypeElement type) {
+		String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+		String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+		String simpleName = escape(packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) + "BeanDescriptor";
+		String descriptorName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+		List<ExecutableElement> accessors = new ArrayList<ExecutableElement>(), mutators = new ArrayList<ExecutableElement>();
+		for (ExecutableElement method : ElementFilter.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+			if (isObjectMethodOfInterface(type, method)) {
+				continue;
+			} else if (isAccessor(method)) {
+				accessors.add(method);
+			} else if (isSetter(method)) {
+				mutators.add(method);
+			}
+		}
+		String inaccessible = findInaccessibleType(type, accessors, mutators, packageName);
+		if (inaccessible != null) {
+			processingEnv.getMessager().printMessage(Kind.WARNING,
+					"Skip bean descriptor '" + descriptorName + "'. '" + inaccessible + "' cannot be referenced from package '" + packageName + "'",
+					type);
+			return;
+		}
+		try {
+			Writer writer = processingEnv.getFiler().createSourceFile(descriptorName, type).openWriter();
+			try {
+				writeDescriptor(new PrintWriter(writer), type, accessors, mutators, packageName, simpleName);
+			} finally {
+				writer.close();
+			}
+			descriptors.put(binaryName, descriptorName);
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to write bean descriptor '" + descriptorName + "'. " + e.getMessage(), type);
+		}
+	}
+
+	private void writeDescriptor(final PrintWriter out,
+			final TypeElement type,
+			final List<ExecutableElement> accessors,
+			final List<ExecutableElement> mutators,
+			final String packageName,
+			final String simpleName) {
+		String typeName = erasure(type.asType());
+		if (!packageName.isEmpty()) {
+			out.println("package " + packageName + ";");
+			out.println();
+		}
+		out.println("/**");
+		out.println(" * Bean descriptor for {@link " + typeName + "} generated by " + getClass().getName() + ". Do not edit.");
+		out.println(" */");
+		out.println("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+		out.println("public final class " + simpleName + " implements " + BeanDescriptor.class.getName() + ", " + BeanAccessor.class.getName() + " {");
+		out.println();
+		out.println("\tpublic Class<?> getType() {");
+		out.println("\t\treturn " + typeName + ".class;");
+		out.println("\t}");
+		out.println();
+		List<String> accessorNames = new ArrayList<String>(), accessorDeclaringTypes = new ArrayList<String>(), accessorTypes = new ArrayList<String>();
+		List<String> accessorTypeArguments = new ArrayList<String>();
+		for (ExecutableElement accessor : accessors) {
+			accessorNames.add("\"" + accessor.getSimpleName() + "\"");
+			accessorDeclaringTypes.add(erasure(accessor.getEnclosingElement().asType()) + ".class");
+			accessorTypes.add(erasure(accessor.getReturnType()) + ".class");
+			StringBuilder typeArguments = new StringBuilder("{");
+			for (TypeMirror typeArgument : classTypeArguments(accessor.getReturnType())) {
+				typeArguments.append(typeArguments.length() > 1 ? ", " : " ").append(erasure(typeArgument)).append(".class");
+			}
+			accessorTypeArguments.add(typeArguments.append(typeArguments.length() > 1 ? " }" : "}").toString());
+		}
+		List<String> mutatorNames = new ArrayList<String>(), mutatorDeclaringTypes = new ArrayList<String>(), mutatorTypes = new ArrayList<String>();
+		for (ExecutableElement mutator : mutators) {
+			mutatorNames.add("\"" + mutator.getSimpleName() + "\"");
+			mutatorDeclaringTypes.add(erasure(mutator.getEnclosingElement().asType()) + ".class");
+			mutatorTypes.add(erasure(mutator.getParameters().get(0).asType()) + ".class");
+		}
+		writeArray(out, "String[]", "getAccessorNames", accessorNames);
+		writeArray(out, "Class<?>[]", "getAccessorDeclaringTypes", accessorDeclaringTypes);
+		writeArray(out, "Class<?>[]", "getAccessorTypes", accessorTypes);
+		writeArray(out, "Class<?>[][]", "getAccessorTypeArguments", accessorTypeArguments);
+		writeArray(out, "String[]", "getMutatorNames", mutatorNames);
+		writeArray(out, "Class<?>[]", "getMutatorDeclaringTypes", mutatorDeclaringTypes);
+		writeArray(out, "Class<?>[]", "getMutatorTypes", mutatorTypes);
+		out.println("\tpublic " + BeanAccessor.class.getName() + " getBeanAccessor() {");
+		out.println("\t\treturn this;");
+		out.println("\t}");
+		out.println();
+		out.println("\tpublic Object get(final Object instance, final int index) {");
+		out.println("\t\t" + typeName + " bean = (" + typeName + ") instance;");
+		out.println("\t\tswitch (index) {");
+		for (int i = 0; i < accessors.size(); ++i) {
+			ExecutableElement accessor = accessors.get(i);
+			out.println("\t\t\tcase " + i + ":");
+			if (accessor.getReturnType().getKind() == TypeKind.VOID) {
+				writeCall(out, accessor, "bean." + accessor.getSimpleName() + "();");
+				out.println("\t\t\t\treturn null;");
+			} else {
+				writeCall(out, accessor, "return bean." + accessor.getSimpleName() + "();");
+			}
+		}
+		out.println("\t\t\tdefault:");
+		out.println("\t\t\t\tthrow new IllegalArgumentException(\"Unknown accessor '\" + index + \"'\");");
+		out.println("\t\t}");
+		out.println("\t}");
+		out.println();
+		out.println("\tpublic void set(final Object instance, final int index, final Object value) {");
+		out.println("\t\t" + typeName + " bean = (" + typeName + ") instance;");
+		out.println("\t\tswitch (index) {");
+		for (int i = 0; i < mutators.size(); ++i) {
+			ExecutableElement mutator = mutators.get(i);
+			out.println("\t\t\tcase " + i + ":");
+			writeCall(out, mutator, "bean." + mutator.getSimpleName() + "((" + boxedErasure(parameterTypeOf(type, mutator)) + ") value);");
+			out.println("\t\t\t\tbreak;");
+		}
+		out.println("\t\t\tdefault:");
+		out.println("\t\t\t\tthrow new IllegalArgumentException(\"Unknown mutator '\" + index + \"'\");");
+		out.println("\t\t}");
+		out.println("\t}");
+		out.println("}");
+		out.flush();
+	}
+
+	private void writeArray(final PrintWriter out, final String arrayType, final String methodName, final List<String> elements) {
+		out.println("\tpublic " + arrayType + " " + methodName + "() {");
+		out.println("\t\treturn new " + arrayType + " {");
+		for (String element : elements) {
+			out.println("\t\t\t\t" + element + ",");
+		}
+		out.println("\t\t};");
+		out.println("\t}");
+		out.println();
+	}
+
+	/**
+	 * Write the call to the method, wrapping any checked exceptions the method declares so the caller can unwrap them
+	 */
+	private void writeCall(final PrintWriter out, final ExecutableElement method, final String statement) {
+		if (method.getThrownTypes().isEmpty()) {
+			out.println("\t\t\t\t" + statement);
+		} else {
+			out.println("\t\t\t\ttry {");
+			out.println("\t\t\t\t\t" + statement);
+			out.println("\t\t\t\t} catch (RuntimeException e) {");
+			out.println("\t\t\t\t\tthrow e;");
+			out.println("\t\t\t\t} catch (Exception e) {");
+			out.println("\t\t\t\t\tthrow new java.lang.reflect.UndeclaredThrowableException(e);");
+			out.println("\t\t\t\t}");
+		}
+	}
+
+	/**
+	 * Escape the binary name of a class, less its package, for use in the name of its descriptor. Each '_' becomes "_1" and each '$' becomes '_'. The name of a member class
+	 * cannot start with a '1' so no two classes are given the same descriptor name, e.g. <code>Outer$Inner</code> is described by <code>Outer_InnerBeanDescriptor</code> and a
+	 * top-level <code>Outer_Inner</code> by <code>Outer_1InnerBeanDescriptor</code>
+	 */
+	private static String escape(final String name) {
+		return name.replace("_", "_1").replace('$', '_');
+	}
+
+	/**
+	 * Write the registry which maps the name of each described class to its descriptor, keeping the descriptors registered by a previous compilation into the same output
+	 */
+	private void writeRegistry() {
+		Properties registered = new Properties();
+		try {
+			FileObject existing = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", REGISTRY);
+			InputStream in = existing.openInputStream();
+			try {
+				registered.load(in);
+			} finally {
+				in.close();
+			}
+		} catch (IOException e) {
+			// No descriptors registered by a previous compilation
+		}
+		registered.putAll(descriptors);
+		try {
+			FileObject registry = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", REGISTRY);
+			PrintWriter out = new PrintWriter(registry.openWriter());
+			try {
+				for (String typeName : new TreeSet<String>(registered.stringPropertyNames())) {
+					out.println(typeName + "=" + registered.getProperty(typeName));
+				}
+			} finally {
+				out.close();
+			}
+		} catch (IOException e) {
+			processingEnv.getMessager().printMessage(Kind.ERROR, "Failed to write '" + REGISTRY + "'. " + e.getMessage());
+		}
+	}
+
+	/**
+	 * Return the type of the mutator's parameter when called on the annotated type. A method inherited from a generic superclass may need a more specific argument than its
+	 * declared parameter type
+	 */
+	private TypeMirror parameterTypeOf(final TypeElement type, final ExecutableElement mutator) {
+		ExecutableType member = (ExecutableType) processingEnv.getTypeUtils().asMemberOf((DeclaredType) type.asType(), mutator);
+		return member.getParameterTypes().get(0);
+	}
+
+	/**
+	 * Return the type arguments of the type which the runtime sees as classes, as {@link java.lang.reflect.ParameterizedType#getActualTypeArguments()} does
+	 */
+	private List<TypeMirror> classTypeArguments(final TypeMirror type) {
+		List<TypeMirror> typeArguments = new ArrayList<TypeMirror>();
+		if (type.getKind() == TypeKind.DECLARED) {
+			for (TypeMirror typeArgument : ((DeclaredType) type).getTypeArguments()) {
+				if (isClass(typeArgument)) {
+					typeArguments.add(typeArgument);
+				}
+			}
+		}
+		return typeArguments;
+	}
+
+	private boolean isClass(final TypeMirror type) {
+		switch (type.getKind()) {
+			case DECLARED:
+				return ((DeclaredType) type).getTypeArguments().isEmpty();
+			case ARRAY:
+				return isClass(((ArrayType) type).getComponentType());
+			default:
+				return type.getKind().isPrimitive();
+		}
+	}
+
+	/**
+	 * Return the name of the first type the descriptor would have to reference which cannot be referenced from the descriptor's package, or <code>null</code> if there is none
+	 */
+	private String findInaccessibleType(final TypeElement type, final List<ExecutableElement> accessors, final List<ExecutableElement> mutators, final String packageName) {
+		List<TypeMirror> referenced = new ArrayList<TypeMirror>();
+		referenced.add(type.asType());
+		for (ExecutableElement accessor : accessors) {
+			referenced.add(accessor.getEnclosingElement().asType());
+			referenced.add(accessor.getReturnType());
+			referenced.addAll(classTypeArguments(accessor.getReturnType()));
+		}
+		for (ExecutableElement mutator : mutators) {
+			referenced.add(mutator.getEnclosingElement().asType());
+			referenced.add(mutator.getParameters().get(0).asType());
+			referenced.add(parameterTypeOf(type, mutator));
+		}
+		for (TypeMirror reference : referenced) {
+			if (!isAccessible(processingEnv.getTypeUtils().erasure(reference), packageName)) {
+				return reference.toString();
+			}
+		}
+		return null;
+	}
+
+	private boolean isAccessible(final TypeMirror type, final String packageName) {
+		switch (type.getKind()) {
+			case ARRAY:
+				return isAccessible(((ArrayType) type).getComponentType(), packageName);
+			case DECLARED:
+				for (Element element = ((DeclaredType) type).asElement(); element.getKind().isClass() || element.getKind().isInterface(); element = element.getEnclosingElement()) {
+					if (element.getModifiers().contains(Modifier.PRIVATE)) {
+						return false;
+					} else if (!element.getModifiers().contains(Modifier.PUBLIC)
+							&& !processingEnv.getElementUtils().getPackageOf(element).getQualifiedName().contentEquals(packageName)) {
+						return false;
+					}
+				}
+				return true;
+			default:
+				return true;
+		}
+	}
+
+	/**
+	 * Test if the method is one of the methods of {@link Object} listed as a member of an interface. They are not returned by {@link Class#getMethods()} for an interface
+	 */
+	private boolean isObjectMethodOfInterface(final TypeElement type, final ExecutableElement method) {
+		return type.getKind().isInterface() && ((TypeElement) method.getEnclosingElement()).getQualifiedName().contentEquals(Object.class.getName());
+	}
+
+	/**
+	 * Test if the method is an accessor using the same rules as the {@link org.exparity.beans.core.TypeInspector}
+	 */
+	private boolean isAccessor(final ExecutableElement method) {
+		String name = method.getSimpleName().toString();
+		return isPublicInstanceMethod(method) && method.getParameters().isEmpty() && (name.startsWith(GET_PREFIX) || name.startsWith(IS_PREFIX));
+	}
+
+	/**
+	 * Test if the method is a mutator using the same rules as the {@link org.exparity.beans.core.TypeInspector}
+	 */
+	private boolean isSetter(final ExecutableElement method) {
+		return isPublicInstanceMethod(method) && method.getParameters().size() == 1 && method.getSimpleName().toString().startsWith(SET_PREFIX);
+	}
+
+	private boolean isPublicInstanceMethod(final ExecutableElement method) {
+		return method.getModifiers().contains(Modifier.PUBLIC) && !method.getModifiers().contains(Modifier.STATIC);
+	}
+
+	private String erasure(final TypeMirror type) {
+		return processingEnv.getTypeUtils().erasure(type).toString();
+	}
+
+	private String boxedErasure(final TypeMirror type) {
+		if (type.getKind().isPrimitive()) {
+			return processingEnv.getTypeUtils().boxedClass(processingEnv.getTypeUtils().getPrimitiveType(type.getKind())).getQualifiedName().toString();
+		}
+		return erasure(type);
+	}
+}
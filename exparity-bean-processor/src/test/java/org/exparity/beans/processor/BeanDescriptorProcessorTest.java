@@ -0,0 +1,195 @@
+package org.exparity.beans.processor;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.InputStream;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import org.exparity.beans.Type;
+import org.exparity.beans.core.BeanDescriptor;
+import org.exparity.beans.core.BeanNamingStrategy;
+import org.exparity.beans.core.TypeProperty;
+import org.exparity.beans.core.naming.LowerCaseNamingStrategy;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import static org.exparity.beans.Type.type;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+/**
+ * Unit test for the {@link BeanDescriptorProcessor}
+ */
+public class BeanDescriptorProcessorTest {
+
+	private static final String REGISTRY = "META-INF/" + BeanDescriptor.class.getName() + ".properties";
+
+	private static final String TRADE = "package sample;\n"
+			+ "@org.exparity.beans.GenerateBeanDescriptor\n"
+			+ "public class Trade {\n"
+			+ "	private long notional;\n"
+			+ "	private boolean live;\n"
+			+ "	private java.util.List<String> tags;\n"
+			+ "	public long getNotional() { return notional; }\n"
+			+ "	public void setNotional(final long notional) { this.notional = notional; }\n"
+			+ "	public boolean isLive() { return live; }\n"
+			+ "	public void setLive(final boolean live) { this.live = live; }\n"
+			+ "	public java.util.List<String> getTags() { return tags; }\n"
+			+ "	public void setTags(final java.util.List<String> tags) { this.tags = tags; }\n"
+			+ "	public String getDescription() throws java.io.IOException { return \"Trade\"; }\n"
+			+ "}\n";
+
+	private static final String ORDER = "package sample;\n"
+			+ "@org.exparity.beans.GenerateBeanDescriptor\n"
+			+ "public class Order {\n"
+			+ "	private Object reference;\n"
+			+ "	private int quantity;\n"
+			+ "	public String getReference() { return String.valueOf(reference); }\n"
+			+ "	public void setReference(final Object reference) { this.reference = reference; }\n"
+			+ "	public void setReference(final CharSequence reference) { this.reference = reference; }\n"
+			+ "	public void setReference(final String reference) { this.reference = reference; }\n"
+			+ "	public int getQuantity() { return quantity; }\n"
+			+ "	public void setquantity(final int quantity) { this.quantity = quantity; }\n"
+			+ "	public static String getDefault() { return \"Default\"; }\n"
+			+ "	public static void setDefault(final String reference) {}\n"
+			+ "}\n";
+
+	private static final String HIDDEN = "package sample;\n"
+			+ "@org.exparity.beans.GenerateBeanDescriptor\n"
+			+ "public class Hidden {\n"
+			+ "	private static class Value {}\n"
+			+ "	public Object getValue() { return new Value(); }\n"
+			+ "	public java.util.List<Value> getValues() { return null; }\n"
+			+ "}\n";
+
+	private static final String OUTER = "package sample;\n"
+			+ "public class Outer {\n"
+			+ "	@org.exparity.beans.GenerateBeanDescriptor\n"
+			+ "	public static class Inner {\n"
+			+ "		private int depth;\n"
+			+ "		public int getDepth() { return depth; }\n"
+			+ "		public void setDepth(final int depth) { this.depth = depth; }\n"
+			+ "	}\n"
+			+ "}\n";
+
+	private static final String OUTER_INNER = "package sample;\n"
+			+ "@org.exparity.beans.GenerateBeanDescriptor\n"
+			+ "public class Outer_Inner {\n"
+			+ "	private int level;\n"
+			+ "	public int getLevel() { return level; }\n"
+			+ "	public void setLevel(final int level) { this.level = level; }\n"
+			+ "}\n";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void canGenerateABeanDescriptor() throws Exception {
+		ClassLoader loader = compile("sample/Trade.java", TRADE);
+		Class<?> trade = loader.loadClass("sample.Trade");
+		Properties registry = registry(loader);
+		assertThat(registry.stringPropertyNames(), contains("sample.Trade"));
+		assertThat(registry.getProperty("sample.Trade"), equalTo("sample.TradeBeanDescriptor"));
+		BeanDescriptor descriptor = (BeanDescriptor) loader.loadClass(registry.getProperty("sample.Trade")).newInstance();
+		assertThat(descriptor.getType(), equalTo((Object) trade));
+		assertThat(Arrays.asList(descriptor.getAccessorNames()), hasItems("getNotional", "isLive", "getTags", "getDescription", "getClass"));
+	}
+
+	@Test
+	public void canInspectATypeUsingTheGeneratedDescriptor() throws Exception {
+		ClassLoader loader = compile("sample/Trade.java", TRADE);
+		Object instance = loader.loadClass("sample.Trade").newInstance();
+		List<String> names = new ArrayList<String>();
+		for (TypeProperty property : type(instance).propertyList()) {
+			names.add(property.getName());
+		}
+		assertThat(names, contains("live", "notional", "tags"));
+		type(instance).propertyNamed("notional").setValue(instance, 100L);
+		type(instance).propertyNamed("live").setValue(instance, true);
+		assertThat(type(instance).propertyNamed("notional").getValue(instance), equalTo((Object) 100L));
+		assertThat(type(instance).propertyNamed("live").getValue(instance), equalTo((Object) true));
+		assertThat(type(instance).accessorList().size(), equalTo(5));
+	}
+
+	@Test
+	public void canDescribeTheSamePropertiesAsIntrospection() throws Exception {
+		ClassLoader loader = compile("sample/Order.java", ORDER);
+		BeanNamingStrategy naming = new LowerCaseNamingStrategy();
+		List<String> described = describe(type(loader.loadClass("sample.Order"), naming));
+		assertThat(new File(folder.getRoot(), "classes/" + REGISTRY).delete(), equalTo(true));
+		ClassLoader introspecting = new URLClassLoader(new URL[] {
+			new File(folder.getRoot(), "classes").toURI().toURL()
+		}, getClass().getClassLoader());
+		assertThat(described, equalTo(describe(type(introspecting.loadClass("sample.Order"), naming))));
+		assertThat(described, contains("quantity(int)", "reference(java.lang.String)"));
+	}
+
+	@Test
+	public void canSkipATypeWhichTheDescriptorCannotReference() throws Exception {
+		ClassLoader loader = compile("sample/Hidden.java", HIDDEN);
+		assertThat(loader.getResource(REGISTRY), nullValue());
+		assertThat(type(loader.loadClass("sample.Hidden")).accessorList().size(), equalTo(3));
+	}
+
+	@Test
+	public void canGenerateDescriptorsForANestedClassAndATopLevelClassWithAnUnderscore() throws Exception {
+		ClassLoader loader = compile("sample/Outer.java", OUTER, "sample/Outer_Inner.java", OUTER_INNER);
+		Properties registry = registry(loader);
+		assertThat(registry.getProperty("sample.Outer$Inner"), equalTo("sample.Outer_InnerBeanDescriptor"));
+		assertThat(registry.getProperty("sample.Outer_Inner"), equalTo("sample.Outer_1InnerBeanDescriptor"));
+		assertThat(type(loader.loadClass("sample.Outer$Inner")).propertyType("depth"), equalTo((Object) int.class));
+		assertThat(type(loader.loadClass("sample.Outer_Inner")).propertyType("level"), equalTo((Object) int.class));
+	}
+
+	private Properties registry(final ClassLoader loader) throws Exception {
+		Properties registry = new Properties();
+		InputStream in = loader.getResourceAsStream(REGISTRY);
+		try {
+			registry.load(in);
+		} finally {
+			in.close();
+		}
+		return registry;
+	}
+
+	private List<String> describe(final Type type) {
+		List<String> properties = new ArrayList<String>();
+		for (TypeProperty property : type.propertyList()) {
+			properties.add(property.getName() + "(" + property.getMutator().getParameterTypes()[0].getName() + ")");
+		}
+		return properties;
+	}
+
+	/**
+	 * Compile the sources, given as pairs of path and source, with the processor and return a class loader for the compiled classes
+	 */
+	private ClassLoader compile(final String... pathsAndSources) throws Exception {
+		File sources = folder.newFolder("src"), classes = folder.newFolder("classes");
+		String classpath = new File(BeanDescriptor.class.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+		List<String> arguments = new ArrayList<String>(Arrays.asList("-classpath", classpath, "-processor", BeanDescriptorProcessor.class.getName(), "-d", classes.getPath()));
+		for (int i = 0; i < pathsAndSources.length; i += 2) {
+			File file = new File(sources, pathsAndSources[i]);
+			file.getParentFile().mkdirs();
+			Writer writer = new FileWriter(file);
+			try {
+				writer.write(pathsAndSources[i + 1]);
+			} finally {
+				writer.close();
+			}
+			arguments.add(file.getPath());
+		}
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		int result = compiler.run(null, null, null, arguments.toArray(new String[arguments.size()]));
+		assertThat("Compilation failed", result, equalTo(0));
+		return new URLClassLoader(new URL[] {
+			classes.toURI().toURL()
+		}, getClass().getClassLoader());
+	}
+}
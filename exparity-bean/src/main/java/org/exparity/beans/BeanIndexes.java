@@ -0,0 +1,83 @@
+package org.exparity.beans;
+
+import java.util.Collection;
+import org.exparity.beans.core.BeanNamingStrategy;
+import org.exparity.beans.core.PathExpression;
+import org.exparity.beans.core.TypeProperty;
+import org.exparity.beans.core.index.BeanIndex;
+import org.exparity.beans.core.index.SortedBeanIndex;
+import org.exparity.beans.core.naming.CamelCaseNamingStrategy;
+
+/**
+ * Static repository of indexes over collections of beans. Build an index once and use it to look up beans by the value of their properties. For example;</p>
+ * 
+ * <pre>
+ * BeanIndex&lt;Trade&gt; byCustomer = BeanIndexes.hashIndex(trades, Trade.class, &quot;customerId&quot;);
+ * List&lt;Trade&gt; trades = byCustomer.get(customerId);
+ * 
+ * SortedBeanIndex&lt;Trade&gt; byNotional = BeanIndexes.sortedIndex(trades, Trade.class, &quot;notional&quot;);
+ * List&lt;Trade&gt; largest = byNotional.top(10);
+ * </pre>
+ */
+public abstract class BeanIndexes {
+
+	/**
+	 * Return a {@link BeanIndex} of the beans keyed on the values of the named properties of the type
+	 */
+	public static <T> BeanIndex<T> hashIndex(final Collection<? extends T> beans, final Class<T> type, final String... properties) {
+		return hashIndex(beans, typeProperties(type, properties));
+	}
+
+	/**
+	 * Return a {@link BeanIndex} of the beans keyed on the values of the properties
+	 */
+	public static <T> BeanIndex<T> hashIndex(final Collection<? extends T> beans, final TypeProperty... properties) {
+		BeanIndex<T> index = new BeanIndex<T>(properties);
+		index.addAll(beans);
+		return index;
+	}
+
+	/**
+	 * Return a {@link BeanIndex} of the beans keyed on the values of the paths, relative to each bean, using camel-case property names
+	 */
+	public static <T> BeanIndex<T> hashIndexOnPaths(final Collection<? extends T> beans, final String... paths) {
+		return hashIndexOnPaths(beans, new CamelCaseNamingStrategy(), paths);
+	}
+
+	/**
+	 * Return a {@link BeanIndex} of the beans keyed on the values of the paths, relative to each bean, using the property names from the naming strategy
+	 */
+	public static <T> BeanIndex<T> hashIndexOnPaths(final Collection<? extends T> beans, final BeanNamingStrategy naming, final String... paths) {
+		PathExpression[] expressions = new PathExpression[paths.length];
+		for (int i = 0; i < paths.length; ++i) {
+			expressions[i] = Paths.compile(paths[i], naming);
+		}
+		BeanIndex<T> index = new BeanIndex<T>(expressions);
+		index.addAll(beans);
+		return index;
+	}
+
+	/**
+	 * Return a {@link SortedBeanIndex} of the beans sorted by the value of the named property of the type. The property is resolved from the same cached metadata as
+	 * {@link Type}.
+	 */
+	public static <T> SortedBeanIndex<T> sortedIndex(final Collection<? extends T> beans, final Class<T> type, final String property) {
+		return sortedIndex(beans, Type.type(type).propertyNamed(property));
+	}
+
+	/**
+	 * Return a {@link SortedBeanIndex} of the beans sorted by the value of the property
+	 */
+	public static <T> SortedBeanIndex<T> sortedIndex(final Collection<? extends T> beans, final TypeProperty property) {
+		return new SortedBeanIndex<T>(beans, property);
+	}
+
+	private static TypeProperty[] typeProperties(final Class<?> type, final String[] names) {
+		Type metadata = Type.type(type);
+		TypeProperty[] properties = new TypeProperty[names.length];
+		for (int i = 0; i < names.length; ++i) {
+			properties[i] = metadata.propertyNamed(names[i]);
+		}
+		return properties;
+	}
+}
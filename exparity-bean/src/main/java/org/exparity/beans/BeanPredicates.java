@@ -11,6 +11,7 @@ import org.exparity.beans.core.predicates.MatchesAlways;
 import org.exparity.beans.core.predicates.MatchesOneOf;
 import org.exparity.beans.core.predicates.HasName;
 import org.exparity.beans.core.predicates.OfDeclaringType;
+import org.exparity.beans.core.predicates.PredicateOptimizer;
 import org.exparity.beans.core.predicates.WithPropertyValue;
 import org.exparity.beans.core.predicates.WithValue;
 
@@ -104,4 +105,11 @@ public abstract class BeanPredicates {
 	public static BeanPropertyPredicate hasPathIgnoreOrdinal(final String path) {
 		return new HasPathIgnoreOrdinal(path);
 	}
+
+	/**
+	 * Return a {@link BeanPropertyPredicate} which matches the same properties as the supplied predicate but tests the cheapest predicates first. See {@link PredicateOptimizer}
+	 */
+	public static BeanPropertyPredicate optimize(final BeanPropertyPredicate predicate) {
+		return PredicateOptimizer.optimize(predicate);
+	}
 }
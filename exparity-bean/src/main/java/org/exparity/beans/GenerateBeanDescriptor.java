@@ -0,0 +1,26 @@
+package org.exparity.beans;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import org.exparity.beans.core.BeanDescriptor;
+
+/**
+ * Marks a class for which the exparity-bean-processor annotation processor should generate a {@link BeanDescriptor} at compile time. When the generated descriptor is on the
+ * classpath {@link Type}, {@link Bean}, and {@link Graph} use it to discover the properties of the class instead of introspecting the class reflectively. For example:</p>
+ * 
+ * <pre>
+ * &#064;GenerateBeanDescriptor
+ * public class MyObject {
+ * 	...
+ * }
+ * </pre>
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateBeanDescriptor {
+
+}
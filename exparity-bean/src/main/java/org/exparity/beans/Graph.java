@@ -0,0 +1,182 @@
+
+package org.exparity.beans;
+
+import java.util.List;
+import org.exparity.beans.core.BeanNamingStrategy;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyNotFoundException;
+import org.exparity.beans.core.Instance;
+import org.exparity.beans.core.PathExpression;
+import org.exparity.beans.core.Projection;
+import org.exparity.beans.core.Row;
+import org.exparity.beans.core.naming.CamelCaseNamingStrategy;
+import static org.exparity.beans.core.InstanceInspector.graphInspector;
+
+/**
+ * Utility class for inspecting objects which expose properties which follow the Java Bean get/set standard. For example;</p>
+ * 
+ * <pre>
+ * List&lt;BeanPropertyInstance&gt; = Graph.graph(myObject).propertyList()
+ * </pre>
+ */
+public class Graph extends Instance {
+
+	public static Graph graph(final Object instance) {
+		return graph(instance, new CamelCaseNamingStrategy());
+	}
+
+	public static Graph graph(final Object instance, final BeanNamingStrategy naming) {
+		return new Graph(instance, naming);
+	}
+
+	public Graph(final Object instance, final BeanNamingStrategy naming) {
+		super(graphInspector(), instance, naming);
+	}
+
+	public Graph(final Object instance) {
+		this(instance, new CamelCaseNamingStrategy());
+	}
+
+	/**
+	 * Do not walk below the properties at the given depth, where the properties on this instance are at depth 0. For example:</p>
+	 * 
+	 * <pre>
+	 * List&lt;BeanProperty&gt; properties = graph(myObject).maxDepth(1).propertyList()
+	 * </pre>
+	 * 
+	 * @param maxDepth the depth of the deepest properties to visit
+	 */
+	public Graph maxDepth(final int maxDepth) {
+		setInspector(getInspector().withLimits(getInspector().getLimits().withMaxDepth(maxDepth)));
+		return this;
+	}
+
+	/**
+	 * Only visit the properties at or below the given paths. Indexes in the paths are ignored and the getters of properties which do not lead to one of the paths are never called.
+	 * For example:</p>
+	 * 
+	 * <pre>
+	 * List&lt;BeanProperty&gt; prices = graph(order).includePaths(&quot;order.lines.price&quot;).propertyList()
+	 * </pre>
+	 * 
+	 * @param paths the paths of the properties to visit
+	 */
+	public Graph includePaths(final String... paths) {
+		setInspector(getInspector().withLimits(getInspector().getLimits().withIncludes(paths)));
+		return this;
+	}
+
+	/**
+	 * Do not visit the properties at or below the given paths. Indexes in the paths are ignored. For example:</p>
+	 * 
+	 * <pre>
+	 * List&lt;BeanProperty&gt; properties = graph(order).excludePaths(&quot;order.customer&quot;).propertyList()
+	 * </pre>
+	 * 
+	 * @param paths the paths of the properties to skip
+	 */
+	public Graph excludePaths(final String... paths) {
+		setInspector(getInspector().withLimits(getInspector().getLimits().withExcludes(paths)));
+		return this;
+	}
+
+	/**
+	 * Get the requested property by its path from the instance or return <code>null</code> if the property is not present. Only the getters, indexes, and keys along the path are
+	 * followed to find the property. The path starts with the name of the root object, unlike the paths given to {@link #propertiesAtPath(PathExpression)} and
+	 * {@link #valuesAtPath(PathExpression)} which are relative to it. For example:</p>
+	 * 
+	 * <pre>
+	 * BeanPropertyInstance surname = bean(myObject).propertyAtPath("person.surname")
+	 * </pre>
+	 * 
+	 * @param path the property path
+	 */
+	public BeanProperty propertyAtPath(final String path) {
+		return getInspector().propertyAtPath(getInstance(), getNamingStrategy(), path);
+	}
+
+	/**
+	 * Set the property at the given path on the instance. Only the getters along the path are called to find the property. For example:</p>
+	 * 
+	 * <pre>
+	 * graph(myObject).setPropertyAtPath(&quot;person.siblings[1].firstname&quot;, &quot;Tina&quot;)
+	 * </pre>
+	 * 
+	 * @param path the property path
+	 * @param value the property value
+	 */
+	public boolean setPropertyAtPath(final String path, final Object value) {
+		BeanProperty property = propertyAtPath(path);
+		if (property == null) {
+			throw new BeanPropertyNotFoundException(getInstance().getClass(), path);
+		}
+		return property.setValue(value);
+	}
+
+	/**
+	 * Return the properties matched by a compiled path expression relative to the instance. The path does not start with the name of the root object, so is
+	 * <code>orders[*].lines[*].price</code> where {@link #propertyAtPath(String)} takes <code>customer.orders[0].lines[0].price</code>, but the properties returned have full paths
+	 * from the root. For example:</p>
+	 * 
+	 * <pre>
+	 * List&lt;BeanProperty&gt; prices = graph(customer).propertiesAtPath(Paths.compile(&quot;orders[*].lines[*].price&quot;))
+	 * </pre>
+	 * 
+	 * @param path the compiled path expression
+	 */
+	public List<BeanProperty> propertiesAtPath(final PathExpression path) {
+		return path.properties(getInstance());
+	}
+
+	/**
+	 * Return the values of the properties matched by a compiled path expression relative to the instance. The path does not start with the name of the root object, so is
+	 * <code>orders[*].lines[*].price</code> where {@link #propertyAtPath(String)} takes <code>customer.orders[0].lines[0].price</code>. For example:</p>
+	 * 
+	 * <pre>
+	 * List&lt;Object&gt; prices = graph(customer).valuesAtPath(Paths.compile(&quot;orders[*].lines[*].price&quot;))
+	 * </pre>
+	 * 
+	 * @param path the compiled path expression
+	 */
+	public List<Object> valuesAtPath(final PathExpression path) {
+		return path.values(getInstance());
+	}
+
+	/**
+	 * Return the values of the paths relative to the instance in a single walk of the instance. Paths which start with the same properties share the getter calls for them. A path
+	 * with a wildcard has a list of the values it matched as its column. For example:</p>
+	 * 
+	 * <pre>
+	 * Row row = graph(order).project(&quot;id&quot;, &quot;customer.name&quot;, &quot;lines[*].sku&quot;)
+	 * </pre>
+	 * 
+	 * @param paths the paths of the columns
+	 */
+	public Row project(final String... paths) {
+		return project(new Projection(paths, getNamingStrategy()));
+	}
+
+	/**
+	 * Return the values of the paths of a compiled projection relative to the instance. Compile the projection once with {@link Paths#projection(String...)} when projecting many
+	 * objects.
+	 * 
+	 * @param projection the compiled projection
+	 */
+	public Row project(final Projection projection) {
+		return projection.project(getInstance());
+	}
+
+	/**
+	 * Get the requested property by its path whilst ignoriing any ordinals if its in a collection, map, or array from the instance or return <code>null</code> if the property is
+	 * not present. For example:</p>
+	 * 
+	 * <pre>
+	 * BeanPropertyInstance nameOfFirstSibling = bean(myObject).propertyAtPathIgnoreOrdinal("person.siblings.firstname")
+	 * </pre>
+	 * 
+	 * @param path the property path
+	 */
+	public BeanProperty propertyAtPathIgnoreOrdinal(final String path) {
+		return findAny(BeanPredicates.hasPathIgnoreOrdinal(path));
+	}
+}
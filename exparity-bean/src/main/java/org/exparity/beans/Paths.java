@@ -0,0 +1,52 @@
+package org.exparity.beans;
+
+import org.exparity.beans.core.BeanNamingStrategy;
+import org.exparity.beans.core.PathExpression;
+import org.exparity.beans.core.Projection;
+import org.exparity.beans.core.naming.CamelCaseNamingStrategy;
+
+/**
+ * Static repository of compiled {@link PathExpression} and {@link Projection} instances. Compile an expression once and evaluate it against many objects. For example;</p>
+ * 
+ * <pre>
+ * PathExpression prices = Paths.compile(&quot;orders[*].lines[*].price&quot;);
+ * for (Customer customer : customers) {
+ * 	List&lt;Object&gt; values = prices.values(customer);
+ * }
+ * </pre>
+ */
+public abstract class Paths {
+
+	/**
+	 * Return a {@link PathExpression} for the path using camel-case property names
+	 */
+	public static PathExpression compile(final String path) {
+		return compile(path, new CamelCaseNamingStrategy());
+	}
+
+	/**
+	 * Return a {@link PathExpression} for the path using the property names from the naming strategy
+	 */
+	public static PathExpression compile(final String path, final BeanNamingStrategy naming) {
+		return new PathExpression(path, naming);
+	}
+
+	/**
+	 * Return a {@link Projection} of the paths using camel-case property names. For example;</p>
+	 * 
+	 * <pre>
+	 * Projection columns = Paths.projection(&quot;id&quot;, &quot;customer.name&quot;, &quot;lines[*].sku&quot;);
+	 * List&lt;Row&gt; rows = columns.projectAll(orders);
+	 * </pre>
+	 */
+	public static Projection projection(final String... paths) {
+		return projection(new CamelCaseNamingStrategy(), paths);
+	}
+
+	/**
+	 * Return a {@link Projection} of the paths using the property names from the naming strategy
+	 */
+	public static Projection projection(final BeanNamingStrategy naming, final String... paths) {
+		return new Projection(paths, naming);
+	}
+}
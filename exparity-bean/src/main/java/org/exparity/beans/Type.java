@@ -3,13 +3,13 @@ package org.exparity.beans;
 
 import java.lang.reflect.Method;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang.ArrayUtils;
 import org.exparity.beans.core.BeanNamingStrategy;
 import org.exparity.beans.core.BeanPropertyNotFoundException;
 import org.exparity.beans.core.BeanPropertyOrderingStrategy;
+import org.exparity.beans.core.Column;
 import org.exparity.beans.core.ImmutableTypeProperty;
 import org.exparity.beans.core.TypeInspector;
 import org.exparity.beans.core.TypeProperty;
@@ -105,7 +105,7 @@ public class Type implements Typed {
 	 * @param name the property name
 	 */
 	public boolean hasProperty(final String name) {
-		return propertyMap().containsKey(name);
+		return inspector.propertyMap(type, naming).containsKey(name);
 	}
 
 	/**
@@ -143,7 +143,8 @@ public class Type implements Typed {
 	}
 
 	/**
-	 * Return a list of the publicly exposes get/set properties on a class. For example:
+	 * Return a list of the publicly exposes get/set properties on a class. The list is read-only and shared by every caller for the class, so copy it before modifying it. For
+	 * example:
 	 * <p/>
 	 * 
 	 * <pre>
@@ -151,26 +152,19 @@ public class Type implements Typed {
 	 * </pre>
 	 */
 	public List<TypeProperty> propertyList() {
-		final List<TypeProperty> propertyList = new ArrayList<TypeProperty>();
-		visit(new TypeVisitor() {
-
-			public void visit(final TypeProperty property) {
-				propertyList.add(property);
-			}
-		});
-		orderBy.sort(propertyList);
-		return propertyList;
+		return inspector.propertyList(type, naming, orderBy);
 	}
 
 	/**
-	 * Return a list of the accessors exposed on this type
+	 * Return a list of the accessors exposed on this type. The list is read-only and shared by every caller for the type, so copy it before modifying it.
 	 */
 	public List<ImmutableTypeProperty> accessorList() {
 		return inspector.accessorList(type, naming);
 	}
 
 	/**
-	 * Return a map of the publicly exposes get/set properties on the type with the property name as the key and the initial character lowercased For example:
+	 * Return a map of the publicly exposes get/set properties on the type with the property name as the key and the initial character lowercased. The map is read-only and shared
+	 * by every caller for the type, so copy it before modifying it. For example:
 	 * <p/>
 	 * 
 	 * <pre>
@@ -178,14 +172,7 @@ public class Type implements Typed {
 	 * </pre>
 	 */
 	public Map<String, TypeProperty> propertyMap() {
-		final Map<String, TypeProperty> propertyMap = new HashMap<String, TypeProperty>();
-		visit(new TypeVisitor() {
-
-			public void visit(final TypeProperty property) {
-				propertyMap.put(property.getName(), property);
-			}
-		});
-		return propertyMap;
+		return inspector.propertyMap(type, naming);
 	}
 
 	/**
@@ -198,7 +185,7 @@ public class Type implements Typed {
 	 * @param name the property name
 	 */
 	public TypeProperty propertyNamed(final String propertyName) {
-		TypeProperty property = propertyMap().get(propertyName);
+		TypeProperty property = inspector.propertyMap(type, naming).get(propertyName);
 		if (property == null) {
 			throw new BeanPropertyNotFoundException(type, propertyName);
 		}
@@ -218,6 +205,20 @@ public class Type implements Typed {
 		return propertyNamed(name);
 	}
 
+	/**
+	 * Return a {@link Column} which reads the property from every object in a list into an array. The property is resolved once rather than looked up for each object. Will throw
+	 * a {@link BeanPropertyNotFoundException} if the type has no such property. For example:</p>
+	 * 
+	 * <pre>
+	 * double[] notionals = type(Trade.class).column(&quot;notional&quot;).extractDoubles(trades)
+	 * </pre>
+	 * 
+	 * @param name the property name
+	 */
+	public Column column(final String name) {
+		return new Column(propertyNamed(name));
+	}
+
 	/**
 	 * Return the property type on the type for the supplied property name or <code>null</code> if the property doesn't exist. For example:</p>
 	 * 
@@ -243,12 +244,11 @@ public class Type implements Typed {
 	 * @throws BeanPropertyNotFoundException if the property is not found
 	 */
 	public Method getAccessor(final String name) {
-		for (ImmutableTypeProperty property : accessorList()) {
-			if (property.hasName(name)) {
-				return property.getAccessor();
-			}
+		ImmutableTypeProperty property = inspector.accessorNamed(type, naming, name);
+		if (property == null) {
+			throw new BeanPropertyNotFoundException(type, name);
 		}
-		throw new BeanPropertyNotFoundException(type, name);
+		return property.getAccessor();
 	}
 
 	public Class<?>[] typeHierachy() {
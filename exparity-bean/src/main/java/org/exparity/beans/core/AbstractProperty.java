@@ -31,6 +31,13 @@ public abstract class AbstractProperty {
 		this.params = params;
 	}
 
+	protected AbstractProperty(final AbstractProperty property) {
+		this.declaringType = property.declaringType;
+		this.name = property.name;
+		this.type = property.type;
+		this.params = property.params;
+	}
+
 	/**
 	 * Return the name of the property
 	 */
@@ -169,6 +176,13 @@ public abstract class AbstractProperty {
 		return type.isPrimitive();
 	}
 
+	/**
+	 * Test if the property holds a value rather than a bean, i.e. it is primitive or its type is a {@link LeafTypes leaf type}, so a graph walk has nothing to inspect beneath it
+	 */
+	public boolean isScalar() {
+		return LeafTypes.isLeaf(type.getType());
+	}
+
 	/**
 	 * Test if the property is an array
 	 */
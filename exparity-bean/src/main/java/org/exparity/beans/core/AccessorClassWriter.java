@@ -0,0 +1,367 @@
+package org.exparity.beans.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang.ClassUtils;
+
+/**
+ * Writes the class file of a {@link BeanAccessor} for one bean type. The <code>get</code> and <code>set</code> methods are a <code>tableswitch</code> over the slot with a
+ * direct <code>invokevirtual</code>, or <code>invokeinterface</code>, of the accessor or mutator in each case. Slots without a method go to a default case which throws an
+ * {@link IllegalArgumentException}.
+ * <p/>
+ * The class file is written as version 49 so that it can be verified without stack map frames.
+ */
+class AccessorClassWriter {
+
+	private static final int ACC_PUBLIC = 0x0001, ACC_FINAL = 0x0010, ACC_SUPER = 0x0020;
+	private static final int CONSTANT_UTF8 = 1, CONSTANT_CLASS = 7, CONSTANT_METHOD_REF = 10, CONSTANT_INTERFACE_METHOD_REF = 11, CONSTANT_NAME_AND_TYPE = 12;
+	private static final int ACONST_NULL = 0x01, ILOAD_2 = 0x1c, ALOAD_0 = 0x2a, ALOAD_1 = 0x2b, ALOAD_3 = 0x2d, POP = 0x57, POP2 = 0x58, DUP = 0x59, TABLESWITCH = 0xaa,
+			ARETURN = 0xb0, RETURN = 0xb1, INVOKEVIRTUAL = 0xb6, INVOKESPECIAL = 0xb7, INVOKESTATIC = 0xb8, INVOKEINTERFACE = 0xb9, NEW = 0xbb, ATHROW = 0xbf, CHECKCAST = 0xc0;
+
+	private final List<byte[]> constants = new ArrayList<byte[]>();
+	private final Map<String, Integer> constantIndexes = new HashMap<String, Integer>();
+
+	/**
+	 * Return the class file for a {@link BeanAccessor} with the name which calls the methods by slot. A <code>null</code> method leaves its slot to the default case.
+	 *
+	 * @param name the binary name of the class, e.g. org.exparity.beans.core.Accessor$1
+	 * @param getters the accessor for each slot
+	 * @param setters the mutator for each slot
+	 */
+	static byte[] write(final String name, final Method[] getters, final Method[] setters) {
+		return new AccessorClassWriter().toClassFile(internalName(name), getters, setters);
+	}
+
+	private byte[] toClassFile(final String name, final Method[] getters, final Method[] setters) {
+		int thisClass = classConstant(name), superClass = classConstant("java/lang/Object"), beanAccessor = classConstant(internalName(BeanAccessor.class.getName()));
+		byte[] init = method("<init>", "()V", 1, 1, init());
+		byte[] get = method("get", "(Ljava/lang/Object;I)Ljava/lang/Object;", 2, 3, get(getters));
+		byte[] set = method("set", "(Ljava/lang/Object;ILjava/lang/Object;)V", 4, 4, set(setters));
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeInt(0xCAFEBABE);
+			out.writeShort(0);
+			out.writeShort(49);
+			out.writeShort(constants.size() + 1);
+			for (byte[] constant : constants) {
+				out.write(constant);
+			}
+			out.writeShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+			out.writeShort(thisClass);
+			out.writeShort(superClass);
+			out.writeShort(1);
+			out.writeShort(beanAccessor);
+			out.writeShort(0);
+			out.writeShort(3);
+			out.write(init);
+			out.write(get);
+			out.write(set);
+			out.writeShort(0);
+			out.flush();
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private Code init() {
+		Code code = new Code();
+		code.op(ALOAD_0);
+		code.op(INVOKESPECIAL).u2(methodConstant(Object.class, "<init>", "()V"));
+		code.op(RETURN);
+		return code;
+	}
+
+	/**
+	 * Load the bean, call the accessor, and return the result boxed
+	 */
+	private Code get(final Method[] getters) {
+		Code[] cases = new Code[getters.length];
+		for (int slot = 0; slot < getters.length; ++slot) {
+			Method getter = getters[slot];
+			if (getter != null) {
+				Code code = new Code();
+				code.op(ALOAD_1);
+				code.op(CHECKCAST).u2(classConstant(getter.getDeclaringClass()));
+				invoke(code, getter);
+				Class<?> returnType = getter.getReturnType();
+				if (returnType == void.class) {
+					code.op(ACONST_NULL);
+				} else if (returnType.isPrimitive()) {
+					Class<?> wrapper = ClassUtils.primitiveToWrapper(returnType);
+					code.op(INVOKESTATIC).u2(methodConstant(wrapper, "valueOf", "(" + descriptor(returnType) + ")" + descriptor(wrapper)));
+				}
+				code.op(ARETURN);
+				cases[slot] = code;
+			}
+		}
+		return tableswitch(cases);
+	}
+
+	/**
+	 * Load the bean and the value, unboxed for a primitive parameter, call the mutator, and discard anything it returns
+	 */
+	private Code set(final Method[] setters) {
+		Code[] cases = new Code[setters.length];
+		for (int slot = 0; slot < setters.length; ++slot) {
+			Method setter = setters[slot];
+			if (setter != null) {
+				Code code = new Code();
+				code.op(ALOAD_1);
+				code.op(CHECKCAST).u2(classConstant(setter.getDeclaringClass()));
+				code.op(ALOAD_3);
+				Class<?> parameterType = setter.getParameterTypes()[0];
+				if (parameterType.isPrimitive()) {
+					Class<?> wrapper = ClassUtils.primitiveToWrapper(parameterType);
+					code.op(CHECKCAST).u2(classConstant(wrapper));
+					code.op(INVOKEVIRTUAL).u2(methodConstant(wrapper, parameterType.getName() + "Value", "()" + descriptor(parameterType)));
+				} else {
+					code.op(CHECKCAST).u2(classConstant(parameterType));
+				}
+				invoke(code, setter);
+				Class<?> returnType = setter.getReturnType();
+				if (returnType == long.class || returnType == double.class) {
+					code.op(POP2);
+				} else if (returnType != void.class) {
+					code.op(POP);
+				}
+				code.op(RETURN);
+				cases[slot] = code;
+			}
+		}
+		return tableswitch(cases);
+	}
+
+	private void invoke(final Code code, final Method method) {
+		Class<?> owner = method.getDeclaringClass();
+		String type = descriptor(method);
+		if (owner.isInterface()) {
+			int arguments = 1;
+			for (Class<?> parameterType : method.getParameterTypes()) {
+				arguments += parameterType == long.class || parameterType == double.class ? 2 : 1;
+			}
+			code.op(INVOKEINTERFACE).u2(constant(CONSTANT_INTERFACE_METHOD_REF, owner, method.getName(), type)).u1(arguments).u1(0);
+		} else {
+			code.op(INVOKEVIRTUAL).u2(methodConstant(owner, method.getName(), type));
+		}
+	}
+
+	/**
+	 * Switch on the slot in local 2 to the case for it, or to a default which throws an {@link IllegalArgumentException}
+	 */
+	private Code tableswitch(final Code[] cases) {
+		// the opcode follows the iload at offset 0, so two bytes of padding align its operands on a four byte boundary
+		int padding = 2, switchLength = cases.length == 0 ? 0 : 1 + padding + 12 + 4 * cases.length;
+		int[] offsets = new int[cases.length];
+		int offset = 1 + switchLength;
+		for (int slot = 0; slot < cases.length; ++slot) {
+			if (cases[slot] != null) {
+				offsets[slot] = offset;
+				offset += cases[slot].length();
+			}
+		}
+		int defaultOffset = offset;
+		Code code = new Code();
+		code.op(ILOAD_2);
+		if (cases.length > 0) {
+			code.op(TABLESWITCH);
+			for (int i = 0; i < padding; ++i) {
+				code.u1(0);
+			}
+			code.u4(defaultOffset - 1).u4(0).u4(cases.length - 1);
+			for (int slot = 0; slot < cases.length; ++slot) {
+				code.u4((cases[slot] != null ? offsets[slot] : defaultOffset) - 1);
+			}
+			for (Code caseCode : cases) {
+				if (caseCode != null) {
+					code.append(caseCode);
+				}
+			}
+		}
+		int exception = classConstant(internalName(IllegalArgumentException.class.getName()));
+		code.op(NEW).u2(exception);
+		code.op(DUP);
+		code.op(INVOKESPECIAL).u2(methodConstant(IllegalArgumentException.class, "<init>", "()V"));
+		code.op(ATHROW);
+		return code;
+	}
+
+	private byte[] method(final String name, final String type, final int maxStack, final int maxLocals, final Code code) {
+		try {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			DataOutputStream out = new DataOutputStream(bytes);
+			out.writeShort(ACC_PUBLIC);
+			out.writeShort(utf8Constant(name));
+			out.writeShort(utf8Constant(type));
+			out.writeShort(1);
+			out.writeShort(utf8Constant("Code"));
+			out.writeInt(12 + code.length());
+			out.writeShort(maxStack);
+			out.writeShort(maxLocals);
+			out.writeInt(code.length());
+			code.writeTo(out);
+			out.writeShort(0);
+			out.writeShort(0);
+			out.flush();
+			return bytes.toByteArray();
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private int utf8Constant(final String value) {
+		String key = "Utf8 " + value;
+		Integer index = constantIndexes.get(key);
+		if (index == null) {
+			try {
+				ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+				DataOutputStream out = new DataOutputStream(bytes);
+				out.writeByte(CONSTANT_UTF8);
+				out.writeUTF(value);
+				out.flush();
+				index = add(key, bytes.toByteArray());
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		return index;
+	}
+
+	private int classConstant(final Class<?> type) {
+		return classConstant(type.isArray() ? descriptor(type) : internalName(type.getName()));
+	}
+
+	private int classConstant(final String internalName) {
+		String key = "Class " + internalName;
+		Integer index = constantIndexes.get(key);
+		return index != null ? index : add(key, new byte[] {
+				CONSTANT_CLASS, 0, 0
+		}, utf8Constant(internalName));
+	}
+
+	private int methodConstant(final Class<?> owner, final String name, final String type) {
+		return constant(CONSTANT_METHOD_REF, owner, name, type);
+	}
+
+	private int constant(final int tag, final Class<?> owner, final String name, final String type) {
+		String key = tag + " " + owner.getName() + "." + name + type;
+		Integer index = constantIndexes.get(key);
+		if (index != null) {
+			return index;
+		}
+		int ownerIndex = classConstant(owner), nameAndType = nameAndTypeConstant(name, type);
+		return add(key, new byte[] {
+				(byte) tag, (byte) (ownerIndex >> 8), (byte) ownerIndex, (byte) (nameAndType >> 8), (byte) nameAndType
+		});
+	}
+
+	private int nameAndTypeConstant(final String name, final String type) {
+		String key = "NameAndType " + name + type;
+		Integer index = constantIndexes.get(key);
+		if (index != null) {
+			return index;
+		}
+		int nameIndex = utf8Constant(name), typeIndex = utf8Constant(type);
+		return add(key, new byte[] {
+				CONSTANT_NAME_AND_TYPE, (byte) (nameIndex >> 8), (byte) nameIndex, (byte) (typeIndex >> 8), (byte) typeIndex
+		});
+	}
+
+	/**
+	 * Add a constant which refers to one other constant, written into the last two bytes
+	 */
+	private int add(final String key, final byte[] constant, final int reference) {
+		constant[constant.length - 2] = (byte) (reference >> 8);
+		constant[constant.length - 1] = (byte) reference;
+		return add(key, constant);
+	}
+
+	private int add(final String key, final byte[] constant) {
+		constants.add(constant);
+		constantIndexes.put(key, constants.size());
+		return constants.size();
+	}
+
+	private static String internalName(final String name) {
+		return name.replace('.', '/');
+	}
+
+	private static String descriptor(final Method method) {
+		StringBuilder descriptor = new StringBuilder("(");
+		for (Class<?> parameterType : method.getParameterTypes()) {
+			descriptor.append(descriptor(parameterType));
+		}
+		return descriptor.append(')').append(descriptor(method.getReturnType())).toString();
+	}
+
+	private static String descriptor(final Class<?> type) {
+		if (type.isArray()) {
+			return internalName(type.getName());
+		} else if (type == void.class) {
+			return "V";
+		} else if (type == boolean.class) {
+			return "Z";
+		} else if (type == byte.class) {
+			return "B";
+		} else if (type == char.class) {
+			return "C";
+		} else if (type == short.class) {
+			return "S";
+		} else if (type == int.class) {
+			return "I";
+		} else if (type == long.class) {
+			return "J";
+		} else if (type == float.class) {
+			return "F";
+		} else if (type == double.class) {
+			return "D";
+		}
+		return "L" + internalName(type.getName()) + ";";
+	}
+
+	/**
+	 * The bytecode of a method body
+	 */
+	private static class Code {
+
+		private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+		Code op(final int opcode) {
+			return u1(opcode);
+		}
+
+		Code u1(final int value) {
+			bytes.write(value);
+			return this;
+		}
+
+		Code u2(final int value) {
+			return u1(value >> 8).u1(value);
+		}
+
+		Code u4(final int value) {
+			return u2(value >> 16).u2(value);
+		}
+
+		Code append(final Code code) {
+			byte[] appended = code.bytes.toByteArray();
+			bytes.write(appended, 0, appended.length);
+			return this;
+		}
+
+		int length() {
+			return bytes.size();
+		}
+
+		void writeTo(final DataOutputStream out) throws IOException {
+			bytes.writeTo(out);
+		}
+	}
+}
@@ -0,0 +1,25 @@
+package org.exparity.beans.core;
+
+/**
+ * Provides indexed access to the get/set properties of a single class. Each {@link TypeProperty} discovered on the class is assigned a slot, see {@link TypeProperty#getSlot()},
+ * which is used to select the property to get or set.
+ */
+public interface BeanAccessor {
+
+	/**
+	 * Return the value of the property in the given slot from the instance
+	 * 
+	 * @param instance the object to get the value from
+	 * @param slot the slot of the property
+	 */
+	public Object get(final Object instance, final int slot);
+
+	/**
+	 * Set the value of the property in the given slot on the instance
+	 * 
+	 * @param instance the object to set the value on
+	 * @param slot the slot of the property
+	 * @param value the value to set the property to
+	 */
+	public void set(final Object instance, final int slot, final Object value);
+}
@@ -0,0 +1,125 @@
+package org.exparity.beans.core;
+
+/**
+ * A mutable view of the property currently being visited by a {@link BeanCursorVisitor}. The same cursor is moved from property to property during a visit so the path, the stack,
+ * and the {@link BeanProperty} are only created if they are requested.
+ */
+public class BeanCursor {
+
+	private Object instance;
+	private TypeProperty property;
+	private BeanPropertyPath parentPath;
+	private BeanPropertyPath path;
+	private ObjectStack stack;
+	private final ValueCache values;
+
+	BeanCursor() {
+		this(null);
+	}
+
+	/**
+	 * Create a cursor which reads the values of properties through the cache, or directly from the objects if the cache is <code>null</code>
+	 */
+	BeanCursor(final ValueCache values) {
+		this.values = values;
+	}
+
+	/**
+	 * Position the cursor on a property of the instance
+	 */
+	void moveTo(final Object instance, final TypeProperty property, final BeanPropertyPath parentPath, final ObjectStack stack) {
+		this.instance = instance;
+		this.property = property;
+		this.parentPath = parentPath;
+		this.stack = stack;
+		this.path = null;
+	}
+
+	/**
+	 * Return the object which declares the current property
+	 */
+	public Object getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Return the type property the cursor is positioned on
+	 */
+	public TypeProperty getProperty() {
+		return property;
+	}
+
+	/**
+	 * Return the name of the current property
+	 */
+	public String getName() {
+		return property.getName();
+	}
+
+	/**
+	 * Return the slot of the current property on its type
+	 */
+	public int getSlot() {
+		return property.getSlot();
+	}
+
+	/**
+	 * Return the type of the current property
+	 */
+	public Class<?> getType() {
+		return property.getType();
+	}
+
+	/**
+	 * Return the value of the current property on the current instance
+	 */
+	public Object getValue() {
+		return values == null ? property.getValue(instance) : values.getValue(instance, property);
+	}
+
+	/**
+	 * Return the path to the current property
+	 */
+	public BeanPropertyPath getPath() {
+		if (path == null) {
+			path = parentPath.append(property.getName());
+		}
+		return path;
+	}
+
+	/**
+	 * Return the number of objects visited to get to the current instance. The properties on the object the visit started from are at depth 0
+	 */
+	public int getDepth() {
+		return stack.size() - 1;
+	}
+
+	/**
+	 * Return a stack of the objects that have been visited to get to the current instance. The latest object is last in the array. The array is shared by every property on the
+	 * current instance so should not be modified.
+	 */
+	public Object[] getStack() {
+		return stack.toArray();
+	}
+
+	/**
+	 * Return an immutable {@link BeanProperty} for the current property which can be kept after the cursor has moved on
+	 */
+	public BeanProperty toBeanProperty() {
+		return new BeanProperty(property, getPath(), instance, values);
+	}
+
+	/**
+	 * Release any values memoized while the cursor was moved over the object
+	 */
+	void close() {
+		if (values != null) {
+			values.close();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "BeanCursor [" + (property == null ? "" : getPath().fullPath()) + "]";
+	}
+}
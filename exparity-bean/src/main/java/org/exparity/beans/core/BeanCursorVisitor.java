@@ -0,0 +1,18 @@
+package org.exparity.beans.core;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A callback interface which is fired for each property found on an object and receives a single reusable {@link BeanCursor} positioned on the property. Use in preference to a
+ * {@link BeanVisitor} when visiting large object graphs as no {@link BeanProperty} is created unless the visitor asks for one.
+ */
+public interface BeanCursorVisitor {
+
+	/**
+	 * Callback fired for each property found on an object. The cursor is moved on after the callback returns so should not be kept by the visitor.
+	 *
+	 * @param cursor the cursor positioned on the property being visited
+	 * @param stop set the value to <code>true</code> if the visit is to be stopped
+	 */
+	public void visit(final BeanCursor cursor, AtomicBoolean stop);
+}
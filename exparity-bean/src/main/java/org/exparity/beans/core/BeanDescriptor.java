@@ -0,0 +1,60 @@
+package org.exparity.beans.core;
+
+/**
+ * A pre-computed description of the accessors and mutators on a class, normally generated at compile time for classes annotated with
+ * {@link org.exparity.beans.GenerateBeanDescriptor}. Descriptors are registered in <code>META-INF/org.exparity.beans.core.BeanDescriptor.properties</code>
+ * resources, which map the name of each described class to the name of its descriptor, and are used by the {@link TypeInspector} in preference to introspecting the class. A
+ * descriptor must have a public no-argument constructor.</p>
+ * <p>
+ * A descriptor lists the public, non-static get/is methods which take no arguments and the public, non-static set methods which take one argument. It does not pair them into
+ * properties; the {@link TypeInspector} pairs them in the same way as it pairs the methods of a class it introspects, using the naming strategy it was given. The accessor
+ * arrays are parallel arrays, as are the mutator arrays. The {@link BeanAccessor} gets a value using the index of an accessor and sets a value using the index of a mutator.
+ * </p>
+ */
+public interface BeanDescriptor {
+
+	/**
+	 * Return the class this descriptor describes
+	 */
+	public Class<?> getType();
+
+	/**
+	 * Return the names of the accessors
+	 */
+	public String[] getAccessorNames();
+
+	/**
+	 * Return the class which declares each accessor
+	 */
+	public Class<?>[] getAccessorDeclaringTypes();
+
+	/**
+	 * Return the return type of each accessor
+	 */
+	public Class<?>[] getAccessorTypes();
+
+	/**
+	 * Return the type arguments of the return type of each accessor which are classes
+	 */
+	public Class<?>[][] getAccessorTypeArguments();
+
+	/**
+	 * Return the names of the mutators
+	 */
+	public String[] getMutatorNames();
+
+	/**
+	 * Return the class which declares each mutator
+	 */
+	public Class<?>[] getMutatorDeclaringTypes();
+
+	/**
+	 * Return the parameter type of each mutator
+	 */
+	public Class<?>[] getMutatorTypes();
+
+	/**
+	 * Return the {@link BeanAccessor} used to get and set the values of the properties on the class
+	 */
+	public BeanAccessor getBeanAccessor();
+}
@@ -0,0 +1,93 @@
+package org.exparity.beans.core;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.WeakHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Registry of the {@link BeanDescriptor} implementations available from each {@link ClassLoader}. Descriptors are registered in
+ * <code>META-INF/org.exparity.beans.core.BeanDescriptor.properties</code> resources which map the name of each described class to the name of its descriptor. The resources
+ * visible to a class loader are read once, the first time a class from that loader is inspected, and a descriptor is only loaded and created when the class it describes is
+ * inspected. Only the class names are retained per loader so the registry does not prevent a loader from being unloaded.
+ */
+class BeanDescriptors {
+
+	private static final String REGISTRY = "META-INF/" + BeanDescriptor.class.getName() + ".properties";
+	private static final Logger LOG = LoggerFactory.getLogger(BeanDescriptors.class);
+
+	private static final Map<ClassLoader, Map<String, String>> DESCRIPTOR_NAMES = new WeakHashMap<ClassLoader, Map<String, String>>();
+
+	private static final ClassValue<BeanDescriptor> DESCRIPTORS = new ClassValue<BeanDescriptor>() {
+
+		@Override
+		protected BeanDescriptor computeValue(final Class<?> type) {
+			ClassLoader loader = type.getClassLoader();
+			if (loader == null) {
+				return null;
+			}
+			String descriptorName = descriptorNamesFor(loader).get(type.getName());
+			if (descriptorName == null) {
+				return null;
+			}
+			try {
+				BeanDescriptor descriptor = (BeanDescriptor) Class.forName(descriptorName, true, loader).getDeclaredConstructor().newInstance();
+				return descriptor.getType().equals(type) ? descriptor : null;
+			} catch (Exception e) {
+				LOG.warn("Skip bean descriptor '{}'. {}", descriptorName, e.getMessage());
+				return null;
+			}
+		}
+	};
+
+	/**
+	 * Return the descriptor for the type or <code>null</code> if no descriptor has been generated for it
+	 */
+	static BeanDescriptor descriptorFor(final Class<?> type) {
+		return DESCRIPTORS.get(type);
+	}
+
+	private static synchronized Map<String, String> descriptorNamesFor(final ClassLoader loader) {
+		Map<String, String> descriptorNames = DESCRIPTOR_NAMES.get(loader);
+		if (descriptorNames == null) {
+			descriptorNames = loadDescriptorNames(loader);
+			DESCRIPTOR_NAMES.put(loader, descriptorNames);
+		}
+		return descriptorNames;
+	}
+
+	private static Map<String, String> loadDescriptorNames(final ClassLoader loader) {
+		Map<String, String> descriptorNames = new HashMap<String, String>();
+		try {
+			Enumeration<URL> registries = loader.getResources(REGISTRY);
+			while (registries.hasMoreElements()) {
+				URL registry = registries.nextElement();
+				try {
+					Properties mappings = new Properties();
+					InputStream in = registry.openStream();
+					try {
+						mappings.load(in);
+					} finally {
+						in.close();
+					}
+					for (String typeName : mappings.stringPropertyNames()) {
+						if (!descriptorNames.containsKey(typeName)) {
+							descriptorNames.put(typeName, mappings.getProperty(typeName).trim());
+						}
+					}
+				} catch (IOException e) {
+					LOG.warn("Skip bean descriptors in '{}'. {}", registry, e.getMessage());
+				}
+			}
+		} catch (IOException e) {
+			LOG.warn("Skip bean descriptors. {}", e.getMessage());
+		}
+		return descriptorNames;
+	}
+}
@@ -0,0 +1,266 @@
+
+package org.exparity.beans.core;
+
+import java.lang.reflect.Method;
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+
+/**
+ * A {@link BeanProperty} which is bound to a particular instance
+ * <p/>
+ * A property found during a visit which memoizes values reads through the visit's cache, so {@link #getValue()} and the primitive getters such as {@link #getInt()} share the one
+ * call to the getter. The primitive getters then convert the cached value rather than calling the getter without boxing.
+ * 
+ * @author Stewart Bissett
+ */
+public class BeanProperty extends AbstractProperty {
+
+	private final Object instance;
+	private final TypeProperty property;
+	private final BeanPropertyPath path;
+	private final ValueCache values;
+
+	public BeanProperty(final String propertyName, final BeanPropertyPath path, final MethodWrapper accessor, final MethodWrapper mutator, final Object instance) {
+		this(new TypeProperty(propertyName, accessor, mutator), path, instance);
+	}
+
+	BeanProperty(final TypeProperty property, final BeanPropertyPath path, final Object instance) {
+		this(property, path, instance, null);
+	}
+
+	BeanProperty(final TypeProperty property, final BeanPropertyPath path, final Object instance, final ValueCache values) {
+		super(property);
+		this.instance = instance;
+		this.property = property;
+		this.path = path;
+		this.values = values;
+	}
+
+	/**
+	 * Return the object instance this property is bound to
+	 */
+	public Object getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Return the path this property is at
+	 */
+	public BeanPropertyPath getPath() {
+		return path;
+	}
+
+	/**
+	 * Return the accessor {@link Method} for this property
+	 */
+	public Method getAccessor() {
+		return property.getAccessor();
+	}
+
+	/**
+	 * Return the mutator {@link Method} for this property
+	 */
+	public Method getMutator() {
+		return property.getMutator();
+	}
+
+	/**
+	 * Return the {@link TypeProperty} this property is an instance of
+	 */
+	TypeProperty getTypeProperty() {
+		return property;
+	}
+
+	/**
+	 * Return the value of this property from the given object cast to the given type. Will throw a {@link ClassCastException} if the value is not of the given type.
+	 * 
+	 * @param type the type to return the value as
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getValue(final Class<T> type) {
+		return (T) getValue();
+	}
+
+	/**
+	 * Return the value of this property from the contained instance. If the property was found during a visit which memoizes values the getter is only called once for the visit
+	 */
+	public Object getValue() {
+		return values == null ? property.getValue(instance) : values.getValue(instance, property);
+	}
+
+	/**
+	 * Return the value of this property from the contained instance as a boolean without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a boolean
+	 */
+	public boolean getBoolean() {
+		return values == null ? property.getBoolean(instance) : Primitives.toBoolean(values.getValue(instance, property), property);
+	}
+
+	/**
+	 * Return the value of this property from the contained instance as a byte without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a byte
+	 */
+	public byte getByte() {
+		return values == null ? property.getByte(instance) : Primitives.toByte(values.getValue(instance, property), property);
+	}
+
+	/**
+	 * Return the value of this property from the contained instance as a char without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a char
+	 */
+	public char getChar() {
+		return values == null ? property.getChar(instance) : Primitives.toChar(values.getValue(instance, property), property);
+	}
+
+	/**
+	 * Return the value of this property from the contained instance as a short without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a short
+	 */
+	public short getShort() {
+		return values == null ? property.getShort(instance) : Primitives.toShort(values.getValue(instance, property), property);
+	}
+
+	/**
+	 * Return the value of this property from the contained instance as an int without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to an int
+	 */
+	public int getInt() {
+		return values == null ? property.getInt(instance) : Primitives.toInt(values.getValue(instance, property), property);
+	}
+
+	/**
+	 * Return the value of this property from the contained instance as a long without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a long
+	 */
+	public long getLong() {
+		return values == null ? property.getLong(instance) : Primitives.toLong(values.getValue(instance, property), property);
+	}
+
+	/**
+	 * Return the value of this property from the contained instance as a float without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a float
+	 */
+	public float getFloat() {
+		return values == null ? property.getFloat(instance) : Primitives.toFloat(values.getValue(instance, property), property);
+	}
+
+	/**
+	 * Return the value of this property from the contained instance as a double without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a double
+	 */
+	public double getDouble() {
+		return values == null ? property.getDouble(instance) : Primitives.toDouble(values.getValue(instance, property), property);
+	}
+
+	/**
+	 * Return <code>true</code> if the value of this property on this instance matches the supplied value
+	 */
+	public boolean hasValue(final Object value) {
+		return value == null ? this.isNull() : value.equals(getValue());
+	}
+
+	/**
+	 * Return <code>true</code> if the value of this property on this instance is null
+	 */
+	public boolean isNull() {
+		return getValue() == null;
+	}
+
+	/**
+	 * Set the value of this property on the object to the given value. Will throw a {@link RuntimeException} if the property does not exist or return <code>true</code> if the
+	 * property was successfullly set.
+	 * 
+	 * @param value the value to set this property to on the instance
+	 */
+	public boolean setValue(final Object value) {
+		return changed(property.setValue(instance, value));
+	}
+
+	/**
+	 * Set the value of this property on the contained instance to the given boolean without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set
+	 * from a boolean or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setBoolean(final boolean value) {
+		return changed(property.setBoolean(instance, value));
+	}
+
+	/**
+	 * Set the value of this property on the contained instance to the given byte without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set
+	 * from a byte or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setByte(final byte value) {
+		return changed(property.setByte(instance, value));
+	}
+
+	/**
+	 * Set the value of this property on the contained instance to the given char without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set
+	 * from a char or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setChar(final char value) {
+		return changed(property.setChar(instance, value));
+	}
+
+	/**
+	 * Set the value of this property on the contained instance to the given short without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set
+	 * from a short or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setShort(final short value) {
+		return changed(property.setShort(instance, value));
+	}
+
+	/**
+	 * Set the value of this property on the contained instance to the given int without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set
+	 * from an int or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setInt(final int value) {
+		return changed(property.setInt(instance, value));
+	}
+
+	/**
+	 * Set the value of this property on the contained instance to the given long without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set
+	 * from a long or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setLong(final long value) {
+		return changed(property.setLong(instance, value));
+	}
+
+	/**
+	 * Set the value of this property on the contained instance to the given float without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set
+	 * from a float or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setFloat(final float value) {
+		return changed(property.setFloat(instance, value));
+	}
+
+	/**
+	 * Set the value of this property on the contained instance to the given double without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set
+	 * from a double or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setDouble(final double value) {
+		return changed(property.setDouble(instance, value));
+	}
+
+	/**
+	 * Forget any value memoized for this property once it has been set
+	 */
+	private boolean changed(final boolean set) {
+		if (values != null) {
+			values.forget(instance, property);
+		}
+		return set;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof BeanProperty)) {
+			return false;
+		}
+		BeanProperty rhs = (BeanProperty) obj;
+		return new EqualsBuilder().append(getDeclaringType(), rhs.getDeclaringType()).append(getName(), rhs.getName()).append(instance, rhs.instance).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(getDeclaringType()).append(getName()).append(instance).toHashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "BeanProperty [" + getDeclaringType() + "." + getName() + " [" + instance + "]]";
+	}
+}
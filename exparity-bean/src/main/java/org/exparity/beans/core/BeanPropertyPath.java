@@ -0,0 +1,248 @@
+package org.exparity.beans.core;
+
+import static org.apache.commons.lang.StringUtils.countMatches;
+import static org.apache.commons.lang.StringUtils.equalsIgnoreCase;
+import org.apache.commons.lang.StringUtils;
+
+/**
+ * A path to a property held as a chain of segments, each linked to the path of its parent. Appending to a path only records the segment so the string forms of the path are built
+ * the first time they are requested and then kept.
+ *
+ * @author Stewart Bissett
+ */
+public class BeanPropertyPath {
+
+	private static final String PATH_SEPERATOR = ".";
+	private static final String UNRESOLVED = new String();
+	private static final int NOT_COUNTED = -1;
+	private static final int NAME_SEGMENT = 0, INDEX_SEGMENT = 1, KEY_SEGMENT = 2;
+
+	private final BeanPropertyPath parent;
+	private final int segmentType;
+	private final String name;
+	private final Object key;
+	private final int index;
+	private String path = UNRESOLVED;
+	private String pathWithNoIndexes = UNRESOLVED;
+	private int depth = NOT_COUNTED;
+
+	public BeanPropertyPath(final String path) {
+		this(null, NAME_SEGMENT, null, null, 0);
+		this.path = path;
+	}
+
+	private BeanPropertyPath(final BeanPropertyPath parent, final int segmentType, final String name, final Object key, final int index) {
+		this.parent = parent;
+		this.segmentType = segmentType;
+		this.name = name;
+		this.key = key;
+		this.index = index;
+	}
+
+	/**
+	 * Append the supplied path to this path to form a new instance of {@link PropertyPath}.This instance is not mutated
+	 */
+	public BeanPropertyPath append(final String name) {
+		return new BeanPropertyPath(this, NAME_SEGMENT, name, null, 0);
+	}
+
+	/**
+	 * Append the supplied index to this path to form a new instance of {@link PropertyPath}.This instance is not mutated
+	 */
+	public BeanPropertyPath appendIndex(final String index) {
+		return new BeanPropertyPath(this, KEY_SEGMENT, null, index, 0);
+	}
+
+	/**
+	 * Append the supplied index to this path to form a new instance of {@link PropertyPath}.This instance is not mutated
+	 */
+	public BeanPropertyPath appendIndex(final int index) {
+		return new BeanPropertyPath(this, INDEX_SEGMENT, null, null, index);
+	}
+
+	/**
+	 * Append the key of a map entry to this path to form a new instance of {@link PropertyPath}. The key is only converted to a string if the path is requested. This instance is
+	 * not mutated
+	 */
+	BeanPropertyPath appendKey(final Object key) {
+		return new BeanPropertyPath(this, KEY_SEGMENT, null, key, 0);
+	}
+
+	/**
+	 * Return the path with all array indexes and map keys removed e.g. x.y[0].z[1] would be returned as x.y.z. The form is built from the form already held by the nearest
+	 * ancestor so requesting it for each property during a visit only appends the new property names.
+	 */
+	public String fullPathWithNoIndexes() {
+		String pathWithNoIndexes = this.pathWithNoIndexes;
+		if (pathWithNoIndexes == UNRESOLVED) {
+			if (parent == null) {
+				pathWithNoIndexes = path == null ? null : removeIndexes(path);
+			} else {
+				pathWithNoIndexes = resolveWithNoIndexes();
+			}
+			this.pathWithNoIndexes = pathWithNoIndexes;
+		}
+		return pathWithNoIndexes;
+	}
+
+	/**
+	 * Return <code>true</code> if this path starts with the supplied prefix
+	 */
+	public boolean startsWith(final String prefix) {
+		return fullPathWithNoIndexes().startsWith(prefix);
+	}
+
+	/**
+	 * Return the full path including indexes if present
+	 */
+	public String fullPath() {
+		String path = this.path;
+		if (path == UNRESOLVED) {
+			BeanPropertyPath resolved = parent;
+			while (resolved.path == UNRESOLVED) {
+				resolved = resolved.parent;
+			}
+			path = resolve(resolved);
+			this.path = path;
+		}
+		return path;
+	}
+
+	public boolean isEmpty() {
+		if (path == UNRESOLVED && (segmentType != NAME_SEGMENT || StringUtils.isNotEmpty(name))) {
+			return false;
+		}
+		return StringUtils.isEmpty(fullPath());
+	}
+
+	/**
+	 * Return the depth of this path starting from 0 at root level. For example, if the path was x.y.z then the depth would be 2.
+	 */
+	public Integer depth() {
+		int depth = this.depth;
+		if (depth == NOT_COUNTED) {
+			depth = countMatches(fullPath(), PATH_SEPERATOR);
+			this.depth = depth;
+		}
+		return depth;
+	}
+
+	/**
+	 * Build the path by appending each segment from the resolved ancestor down to this segment. Iterates rather than recurses so very deep paths can be resolved.
+	 */
+	private String resolve(final BeanPropertyPath resolved) {
+		int length = 0;
+		for (BeanPropertyPath segment = this; segment != resolved; segment = segment.parent) {
+			++length;
+		}
+		BeanPropertyPath[] segments = new BeanPropertyPath[length];
+		for (BeanPropertyPath segment = this; segment != resolved; segment = segment.parent) {
+			segments[--length] = segment;
+		}
+		StringBuilder path = resolved.path == null ? null : new StringBuilder(resolved.path);
+		for (BeanPropertyPath segment : segments) {
+			switch (segment.segmentType) {
+				case INDEX_SEGMENT:
+					path = (path == null ? new StringBuilder("null") : path).append('[').append(segment.index).append(']');
+					break;
+				case KEY_SEGMENT:
+					path = (path == null ? new StringBuilder("null") : path).append('[').append(segment.key).append(']');
+					break;
+				default:
+					if (isBlank(path)) {
+						path = segment.name == null ? null : new StringBuilder(segment.name);
+					} else {
+						path.append(PATH_SEPERATOR).append(segment.name);
+					}
+			}
+		}
+		return path == null ? null : path.toString();
+	}
+
+	/**
+	 * Build the path with no indexes by appending the names from the nearest ancestor which holds its path with no indexes down to this segment. The form is also kept on the
+	 * parent so the siblings of this segment only need to append their own name.
+	 */
+	private String resolveWithNoIndexes() {
+		int length = 0;
+		BeanPropertyPath resolved = this;
+		while (resolved.pathWithNoIndexes == UNRESOLVED && resolved.parent != null) {
+			resolved = resolved.parent;
+			++length;
+		}
+		BeanPropertyPath[] segments = new BeanPropertyPath[length];
+		for (BeanPropertyPath segment = this; segment != resolved; segment = segment.parent) {
+			segments[--length] = segment;
+		}
+		String base = resolved.fullPathWithNoIndexes();
+		StringBuilder path = base == null ? null : new StringBuilder(base);
+		for (int i = 0; i < segments.length; ++i) {
+			BeanPropertyPath segment = segments[i];
+			if (i == segments.length - 1 && segment.parent.pathWithNoIndexes == UNRESOLVED) {
+				segment.parent.pathWithNoIndexes = path == null ? null : path.toString();
+			}
+			if (segment.segmentType == NAME_SEGMENT) {
+				if (isBlank(path)) {
+					path = segment.name == null ? null : new StringBuilder(segment.name);
+				} else {
+					path.append(PATH_SEPERATOR).append(segment.name);
+				}
+			}
+		}
+		return path == null ? null : path.toString();
+	}
+
+	/**
+	 * Remove the indexes and keys enclosed in '[' and ']' from a path
+	 */
+	private static String removeIndexes(final String path) {
+		int start = path.indexOf('[');
+		if (start < 0) {
+			return path;
+		}
+		StringBuilder withNoIndexes = new StringBuilder(path.length());
+		int from = 0;
+		while (start >= 0) {
+			int end = path.indexOf(']', start);
+			if (end < 0) {
+				break;
+			}
+			withNoIndexes.append(path, from, start);
+			from = end + 1;
+			start = path.indexOf('[', from);
+		}
+		return withNoIndexes.append(path, from, path.length()).toString();
+	}
+
+	private static boolean isBlank(final StringBuilder path) {
+		if (path != null) {
+			for (int i = 0; i < path.length(); ++i) {
+				if (!Character.isWhitespace(path.charAt(i))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof BeanPropertyPath)) {
+			return false;
+		}
+		return equalsIgnoreCase(((BeanPropertyPath) obj).fullPath(), fullPath());
+	}
+
+	@Override
+	public int hashCode() {
+		return fullPath().hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "PropertyPath [" + fullPath() + "]";
+	}
+}
@@ -0,0 +1,17 @@
+package org.exparity.beans.core;
+
+/**
+ * A callback interface which is fired for each property found on an object, receives the reusable {@link BeanCursor} positioned on the property, and returns a
+ * {@link TraversalControl} to prune the rest of the walk. Use in preference to a {@link BeanCursorVisitor} when only part of an object graph is of interest so the getters on the
+ * rest of the graph are never called.
+ */
+public interface BeanTraversalVisitor {
+
+	/**
+	 * Callback fired for each property found on an object. The cursor is moved on after the callback returns so should not be kept by the visitor.
+	 *
+	 * @param cursor the cursor positioned on the property being visited
+	 * @return how the walk should continue from the property
+	 */
+	public TraversalControl visit(final BeanCursor cursor);
+}
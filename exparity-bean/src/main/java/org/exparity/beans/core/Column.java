@@ -0,0 +1,184 @@
+package org.exparity.beans.core;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import org.apache.commons.lang.ClassUtils;
+
+/**
+ * A single property read from every object in a list into an array, e.g. the notional of a million trades into a <code>double[]</code>. The property is resolved once and its
+ * getter is called directly for each object, so no {@link BeanProperty} is created and primitive values are not boxed. Lists with at least the parallel threshold number of
+ * objects are split into ranges of the threshold size which are read on the common {@link ForkJoinPool}.
+ * <p/>
+ * Every object in the list must be a non-null instance of the type the property was resolved on. Instances are safe to share between threads.
+ */
+public class Column {
+
+	/**
+	 * The default number of objects a list must have before it is read in parallel
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
+
+	private final TypeProperty property;
+	private final int threshold;
+
+	public Column(final TypeProperty property) {
+		this(property, DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	public Column(final TypeProperty property, final int threshold) {
+		this.property = property;
+		this.threshold = Math.max(threshold, 1);
+	}
+
+	/**
+	 * Return a copy of this column which reads lists with at least the threshold number of objects in parallel
+	 */
+	public Column withParallelThreshold(final int threshold) {
+		return new Column(property, threshold);
+	}
+
+	/**
+	 * Return the property this column reads
+	 */
+	public TypeProperty getProperty() {
+		return property;
+	}
+
+	/**
+	 * Return the value of the property on each object as a double without boxing. Will throw a {@link BeanPropertyException} if a value cannot be converted to a double
+	 */
+	public double[] extractDoubles(final List<?> instances) {
+		final List<?> elements = randomAccess(instances);
+		final double[] values = new double[elements.size()];
+		read(values.length, new Range() {
+
+			@Override
+			void read(final int from, final int to) {
+				for (int i = from; i < to; ++i) {
+					values[i] = property.getDouble(elements.get(i));
+				}
+			}
+		});
+		return values;
+	}
+
+	/**
+	 * Return the value of the property on each object as a long without boxing. Will throw a {@link BeanPropertyException} if a value cannot be converted to a long
+	 */
+	public long[] extractLongs(final List<?> instances) {
+		final List<?> elements = randomAccess(instances);
+		final long[] values = new long[elements.size()];
+		read(values.length, new Range() {
+
+			@Override
+			void read(final int from, final int to) {
+				for (int i = from; i < to; ++i) {
+					values[i] = property.getLong(elements.get(i));
+				}
+			}
+		});
+		return values;
+	}
+
+	/**
+	 * Return the value of the property on each object as an int without boxing. Will throw a {@link BeanPropertyException} if a value cannot be converted to an int
+	 */
+	public int[] extractInts(final List<?> instances) {
+		final List<?> elements = randomAccess(instances);
+		final int[] values = new int[elements.size()];
+		read(values.length, new Range() {
+
+			@Override
+			void read(final int from, final int to) {
+				for (int i = from; i < to; ++i) {
+					values[i] = property.getInt(elements.get(i));
+				}
+			}
+		});
+		return values;
+	}
+
+	/**
+	 * Return the value of the property on each object in an array of the given type. A primitive type gives an array of its wrapper type, e.g. <code>int.class</code> gives an
+	 * <code>Integer[]</code>, so use {@link #extractInts(List)}, {@link #extractLongs(List)}, or {@link #extractDoubles(List)} to read primitive values without boxing. Will throw an
+	 * {@link ArrayStoreException} if a value is not of the given type.
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T[] extract(final List<?> instances, final Class<T> type) {
+		final List<?> elements = randomAccess(instances);
+		final Object[] values = (Object[]) Array.newInstance(ClassUtils.primitiveToWrapper(type), elements.size());
+		read(values.length, new Range() {
+
+			@Override
+			void read(final int from, final int to) {
+				for (int i = from; i < to; ++i) {
+					values[i] = property.getValue(elements.get(i));
+				}
+			}
+		});
+		return (T[]) values;
+	}
+
+	/**
+	 * Return the value of the property on each object
+	 */
+	public Object[] extract(final List<?> instances) {
+		return extract(instances, Object.class);
+	}
+
+	private void read(final int size, final Range range) {
+		if (size < threshold) {
+			range.read(0, size);
+		} else {
+			ForkJoinPool.commonPool().invoke(new Split(range, 0, size));
+		}
+	}
+
+	private static List<?> randomAccess(final List<?> instances) {
+		return instances instanceof RandomAccess ? instances : Arrays.asList(instances.toArray());
+	}
+
+	@Override
+	public String toString() {
+		return "Column [" + property.getDeclaringType() + "." + property.getName() + "]";
+	}
+
+	/**
+	 * Reads the property on a range of the objects into the array
+	 */
+	private static abstract class Range {
+
+		abstract void read(final int from, final int to);
+	}
+
+	/**
+	 * A task which reads a range of the objects, splitting it in half until it is no bigger than the threshold
+	 */
+	@SuppressWarnings("serial")
+	private class Split extends RecursiveAction {
+
+		private final Range range;
+		private final int from, to;
+
+		Split(final Range range, final int from, final int to) {
+			this.range = range;
+			this.from = from;
+			this.to = to;
+		}
+
+		@Override
+		protected void compute() {
+			if (to - from <= threshold) {
+				range.read(from, to);
+			} else {
+				int middle = (from + to) >>> 1;
+				ForkJoinTask.invokeAll(new Split(range, from, middle), new Split(range, middle, to));
+			}
+		}
+	}
+}
@@ -0,0 +1,55 @@
+package org.exparity.beans.core;
+
+/**
+ * An {@link IdentitySet} which can be shared by the tasks of a parallel inspection. The objects are spread across a number of locked {@link HashIdentitySet} stripes by their
+ * identity hash code so tasks rarely wait on each other and no object is allocated per entry.
+ */
+class ConcurrentIdentitySet implements IdentitySet {
+
+	private static final int STRIPES = 64;
+
+	private final HashIdentitySet[] stripes = new HashIdentitySet[STRIPES];
+
+	ConcurrentIdentitySet() {
+		for (int i = 0; i < STRIPES; ++i) {
+			stripes[i] = new HashIdentitySet();
+		}
+	}
+
+	public boolean add(final Object object) {
+		HashIdentitySet stripe = stripeFor(object);
+		synchronized (stripe) {
+			return stripe.add(object);
+		}
+	}
+
+	public boolean contains(final Object object) {
+		HashIdentitySet stripe = stripeFor(object);
+		synchronized (stripe) {
+			return stripe.contains(object);
+		}
+	}
+
+	public int size() {
+		int size = 0;
+		for (HashIdentitySet stripe : stripes) {
+			synchronized (stripe) {
+				size += stripe.size();
+			}
+		}
+		return size;
+	}
+
+	public void clear() {
+		for (HashIdentitySet stripe : stripes) {
+			synchronized (stripe) {
+				stripe.clear();
+			}
+		}
+	}
+
+	private HashIdentitySet stripeFor(final Object object) {
+		int hash = System.identityHashCode(object);
+		return stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+	}
+}
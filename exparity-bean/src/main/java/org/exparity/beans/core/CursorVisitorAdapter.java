@@ -0,0 +1,24 @@
+package org.exparity.beans.core;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import static org.exparity.beans.core.TraversalControl.CONTINUE;
+import static org.exparity.beans.core.TraversalControl.STOP;
+
+/**
+ * Adapts a {@link BeanCursorVisitor} to a {@link BeanTraversalVisitor} by passing it the stop flag of the visit and returning {@link TraversalControl#STOP} once it is set
+ */
+class CursorVisitorAdapter implements BeanTraversalVisitor {
+
+	private final BeanCursorVisitor visitor;
+	private final AtomicBoolean stop;
+
+	CursorVisitorAdapter(final BeanCursorVisitor visitor, final AtomicBoolean stop) {
+		this.visitor = visitor;
+		this.stop = stop;
+	}
+
+	public TraversalControl visit(final BeanCursor cursor) {
+		visitor.visit(cursor, stop);
+		return stop.get() ? STOP : CONTINUE;
+	}
+}
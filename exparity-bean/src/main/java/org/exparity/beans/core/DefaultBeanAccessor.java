@@ -0,0 +1,59 @@
+package org.exparity.beans.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Implementation of a {@link BeanAccessor} which calls the accessor and mutator in each slot through the {@link MethodWrapper} discovered for the slot by the
+ * {@link TypeInspector}. When {@link GeneratedAccessors} are enabled the slots which can be generated are called through the class generated for the type instead, and calls
+ * whose arguments do not match the method exactly still go to the {@link MethodWrapper}.
+ */
+class DefaultBeanAccessor implements BeanAccessor {
+
+	private static final Logger LOG = LoggerFactory.getLogger(DefaultBeanAccessor.class);
+
+	private final MethodWrapper[] accessors, mutators;
+	private final boolean[] generatedGetters, generatedSetters;
+	private final BeanAccessor generated;
+
+	DefaultBeanAccessor(final Class<?> type, final MethodWrapper[] accessors, final MethodWrapper[] mutators) {
+		this.accessors = accessors;
+		this.mutators = mutators;
+		this.generatedGetters = new boolean[accessors.length];
+		this.generatedSetters = new boolean[mutators.length];
+		this.generated = GeneratedAccessors.isEnabled() ? GeneratedAccessors.generate(type, accessors, mutators, generatedGetters, generatedSetters) : null;
+	}
+
+	public Object get(final Object instance, final int slot) {
+		MethodWrapper accessor = accessors[slot];
+		if (!generatedGetters[slot] || !accessor.accepts(instance)) {
+			return accessor.invoke(instance);
+		}
+		try {
+			return generated.get(instance, slot);
+		} catch (IllegalAccessError e) {
+			LOG.debug("Invoke '{}' without the generated accessor. {}", accessor.getName(), e.getMessage());
+			generatedGetters[slot] = false;
+			return accessor.invoke(instance);
+		} catch (Exception e) {
+			throw accessor.unexpectedException(instance, e);
+		}
+	}
+
+	public void set(final Object instance, final int slot, final Object value) {
+		MethodWrapper mutator = mutators[slot];
+		if (!generatedSetters[slot] || !mutator.accepts(instance, value)) {
+			mutator.invoke(instance, value);
+			return;
+		}
+		try {
+			generated.set(instance, slot, value);
+		} catch (IllegalAccessError e) {
+			LOG.debug("Invoke '{}' without the generated mutator. {}", mutator.getName(), e.getMessage());
+			generatedSetters[slot] = false;
+			mutator.invoke(instance, value);
+		} catch (Exception e) {
+			throw mutator.unexpectedException(instance, e);
+		}
+	}
+}
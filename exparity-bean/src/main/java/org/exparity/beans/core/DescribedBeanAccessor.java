@@ -0,0 +1,49 @@
+package org.exparity.beans.core;
+
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * Implementation of a {@link BeanAccessor} which decorates the accessor supplied by a {@link BeanDescriptor} so that failures are reported in the same way as they are for
+ * properties discovered reflectively. Each property slot is mapped to the index the descriptor gave its accessor and its mutator
+ */
+class DescribedBeanAccessor implements BeanAccessor {
+
+	private final BeanAccessor delegate;
+	private final MethodWrapper[] accessors, mutators;
+	private final int[] accessorIndexes, mutatorIndexes;
+
+	DescribedBeanAccessor(final BeanAccessor delegate, final MethodWrapper[] accessors, final MethodWrapper[] mutators, final int[] accessorIndexes, final int[] mutatorIndexes) {
+		this.delegate = delegate;
+		this.accessors = accessors;
+		this.mutators = mutators;
+		this.accessorIndexes = accessorIndexes;
+		this.mutatorIndexes = mutatorIndexes;
+	}
+
+	public Object get(final Object instance, final int slot) {
+		if (!accessors[slot].accepts(instance)) {
+			return accessors[slot].reflectiveInvoke(instance);
+		}
+		try {
+			return delegate.get(instance, accessorIndexes[slot]);
+		} catch (RuntimeException e) {
+			throw accessors[slot].unexpectedException(instance, unwrap(e));
+		}
+	}
+
+	public void set(final Object instance, final int slot, final Object value) {
+		if (!mutators[slot].accepts(instance, value)) {
+			mutators[slot].reflectiveInvoke(instance, value);
+			return;
+		}
+		try {
+			delegate.set(instance, mutatorIndexes[slot], value);
+		} catch (RuntimeException e) {
+			throw mutators[slot].unexpectedException(instance, unwrap(e));
+		}
+	}
+
+	private Throwable unwrap(final Throwable e) {
+		return e instanceof UndeclaredThrowableException ? e.getCause() : e;
+	}
+}
@@ -0,0 +1,133 @@
+package org.exparity.beans.core;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Optional generation of a {@link BeanAccessor} class for each introspected bean type. The generated class gets and sets each slot with a direct call to the accessor or mutator
+ * from a <code>switch</code> over the slot, so every call site in it only ever sees one method and can be inlined. Generation is off by default and is switched on with
+ * {@link #setEnabled(boolean)}, or by starting the JVM with <code>-Dorg.exparity.beans.generateAccessors=true</code>. It only applies to types introspected after it is switched
+ * on.
+ * <p/>
+ * Each class is defined by its own {@link ClassLoader} beneath the loader of the bean type. A slot whose methods cannot be called from there, for example because they're
+ * declared on a non-public class, is left to the {@link MethodWrapper}, as is every slot of a type whose loader cannot see this library.
+ */
+public final class GeneratedAccessors {
+
+	private static final Logger LOG = LoggerFactory.getLogger(GeneratedAccessors.class);
+
+	private static final AtomicInteger COUNT = new AtomicInteger();
+	private static volatile boolean enabled = Boolean.getBoolean("org.exparity.beans.generateAccessors");
+
+	private GeneratedAccessors() {}
+
+	/**
+	 * Switch the generation of accessor classes on or off for types introspected from now on
+	 */
+	public static void setEnabled(final boolean enabled) {
+		GeneratedAccessors.enabled = enabled;
+	}
+
+	/**
+	 * Return <code>true</code> if accessor classes are generated for newly introspected types
+	 */
+	public static boolean isEnabled() {
+		return enabled;
+	}
+
+	/**
+	 * Return a generated {@link BeanAccessor} for the slots, or <code>null</code> if no slot can be generated. The slots which the generated class can get and set are flagged in
+	 * getters and setters.
+	 */
+	static BeanAccessor generate(final Class<?> type, final MethodWrapper[] accessors, final MethodWrapper[] mutators, final boolean[] getters, final boolean[] setters) {
+		ClassLoader parent = type.getClassLoader();
+		if (!isVisible(BeanAccessor.class, parent)) {
+			return null;
+		}
+		Method[] getterMethods = new Method[accessors.length], setterMethods = new Method[mutators.length];
+		boolean generated = false;
+		for (int slot = 0; slot < accessors.length; ++slot) {
+			if (isGeneratable(accessors[slot].getMethod(), parent)) {
+				getterMethods[slot] = accessors[slot].getMethod();
+				getters[slot] = generated = true;
+			}
+		}
+		for (int slot = 0; slot < mutators.length; ++slot) {
+			if (isGeneratable(mutators[slot].getMethod(), parent)) {
+				setterMethods[slot] = mutators[slot].getMethod();
+				setters[slot] = generated = true;
+			}
+		}
+		if (!generated) {
+			return null;
+		}
+		String name = GeneratedAccessors.class.getName() + "$" + type.getSimpleName() + "$" + COUNT.incrementAndGet();
+		try {
+			byte[] classFile = AccessorClassWriter.write(name, getterMethods, setterMethods);
+			return (BeanAccessor) new AccessorLoader(parent).define(name, classFile).getDeclaredConstructor().newInstance();
+		} catch (Exception e) {
+			LOG.debug("Invoke the properties of '{}' without a generated accessor. {}", type, e.getMessage());
+		} catch (LinkageError e) {
+			LOG.debug("Invoke the properties of '{}' without a generated accessor. {}", type, e.getMessage());
+		}
+		Arrays.fill(getters, false);
+		Arrays.fill(setters, false);
+		return null;
+	}
+
+	/**
+	 * Test if the generated class can call the method. It must be a public instance method of a public class and every type in its signature must resolve to the same class from
+	 * the loader of the bean type
+	 */
+	private static boolean isGeneratable(final Method method, final ClassLoader loader) {
+		if (Modifier.isStatic(method.getModifiers()) || !Modifier.isPublic(method.getModifiers()) || !isAccessible(method.getDeclaringClass(), loader)
+				|| !isVisible(method.getReturnType(), loader)) {
+			return false;
+		}
+		for (Class<?> parameterType : method.getParameterTypes()) {
+			if (!isAccessible(parameterType, loader)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isAccessible(final Class<?> type, final ClassLoader loader) {
+		Class<?> component = type;
+		while (component.isArray()) {
+			component = component.getComponentType();
+		}
+		return (component.isPrimitive() || Modifier.isPublic(component.getModifiers())) && isVisible(type, loader);
+	}
+
+	private static boolean isVisible(final Class<?> type, final ClassLoader loader) {
+		if (type.isPrimitive()) {
+			return true;
+		} else if (type.isArray()) {
+			return isVisible(type.getComponentType(), loader);
+		}
+		try {
+			return Class.forName(type.getName(), false, loader) == type;
+		} catch (ClassNotFoundException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Defines a single generated accessor so that it can be unloaded along with the bean type
+	 */
+	private static class AccessorLoader extends ClassLoader {
+
+		AccessorLoader(final ClassLoader parent) {
+			super(parent);
+		}
+
+		Class<?> define(final String name, final byte[] classFile) {
+			return defineClass(name, classFile, 0, classFile.length);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+package org.exparity.beans.core;
+
+import java.util.Arrays;
+
+/**
+ * An {@link IdentitySet} backed by an open-addressing table with linear probing so adding an object allocates nothing unless the table has to grow. Not safe to share between
+ * threads.
+ */
+class HashIdentitySet implements IdentitySet {
+
+	private static final int DEFAULT_CAPACITY = 256;
+
+	private Object[] table;
+	private int size;
+
+	HashIdentitySet() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Create a set sized to hold the expected number of objects without growing
+	 */
+	HashIdentitySet(final int expectedSize) {
+		int capacity = 4;
+		while (capacity < expectedSize * 2) {
+			capacity <<= 1;
+		}
+		this.table = new Object[capacity];
+	}
+
+	public boolean add(final Object object) {
+		Object[] table = this.table;
+		int mask = table.length - 1;
+		int index = indexFor(object, mask);
+		for (Object entry = table[index]; entry != null; entry = table[index]) {
+			if (entry == object) {
+				return false;
+			}
+			index = (index + 1) & mask;
+		}
+		table[index] = object;
+		if (++size * 2 > table.length) {
+			resize();
+		}
+		return true;
+	}
+
+	public boolean contains(final Object object) {
+		int mask = table.length - 1;
+		int index = indexFor(object, mask);
+		for (Object entry = table[index]; entry != null; entry = table[index]) {
+			if (entry == object) {
+				return true;
+			}
+			index = (index + 1) & mask;
+		}
+		return false;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public void clear() {
+		if (size > 0) {
+			Arrays.fill(table, null);
+			size = 0;
+		}
+	}
+
+	private void resize() {
+		Object[] previous = table;
+		Object[] resized = new Object[previous.length << 1];
+		int mask = resized.length - 1;
+		for (Object entry : previous) {
+			if (entry != null) {
+				int index = indexFor(entry, mask);
+				while (resized[index] != null) {
+					index = (index + 1) & mask;
+				}
+				resized[index] = entry;
+			}
+		}
+		this.table = resized;
+	}
+
+	private static int indexFor(final Object object, final int mask) {
+		int hash = System.identityHashCode(object) * 0x9E3779B9;
+		return (hash ^ (hash >>> 16)) & mask;
+	}
+}
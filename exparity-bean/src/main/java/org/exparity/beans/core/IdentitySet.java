@@ -0,0 +1,21 @@
+package org.exparity.beans.core;
+
+/**
+ * A set of objects compared by identity rather than equality. Used to track the objects already inspected during a traversal so cycles are only followed once.
+ */
+interface IdentitySet {
+
+	/**
+	 * Add the object to the set. Return <code>true</code> if the object was added or <code>false</code> if the object is already in the set.
+	 */
+	boolean add(final Object object);
+
+	/**
+	 * Return <code>true</code> if the set contains the object
+	 */
+	boolean contains(final Object object);
+
+	int size();
+
+	void clear();
+}
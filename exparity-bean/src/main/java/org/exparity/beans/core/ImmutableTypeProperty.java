@@ -0,0 +1,136 @@
+
+package org.exparity.beans.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import static org.exparity.beans.Type.type;
+
+/**
+ * Immutable value object to encapsulate an property on an Object which follows the get/is Java beans standard for accessors.</p>
+ * <p>
+ * An instance of this class is not bound to a specific instance of an object, rather it represents a re-usable defintion of a get/set pair on a given class
+ * </p>
+ * 
+ * @author Stewart Bissett
+ */
+public class ImmutableTypeProperty extends AbstractProperty {
+
+	private final MethodWrapper accessor;
+
+	public ImmutableTypeProperty(final String propertyName, final MethodWrapper accessor) {
+		super(accessor.getDeclaringClass(), propertyName, type(accessor.getReturnType()), accessor.genericArgs());
+		this.accessor = accessor;
+	}
+
+	/**
+	 * Return the accessor {@link Method} for this property
+	 */
+	public Method getAccessor() {
+		return accessor.getMethod();
+	}
+
+	/**
+	 * Return the value of this property. Will throw a {@link BeanPropertyException} if the property is not found on the given instance
+	 */
+	public Object getValue(final Object instance) {
+		return accessor.invoke(instance);
+	}
+
+	/**
+	 * Return the value of this property from the given object cast to the given type. Will throw a {@link ClassCastException} if the value is not of the given type.
+	 * 
+	 * @param type the type to return the value as
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getValue(final Object instance, final Class<T> type) {
+		return (T) getValue(instance);
+	}
+
+	/**
+	 * Return the value of this property as a boolean without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a boolean
+	 */
+	public boolean getBoolean(final Object instance) {
+		MethodHandle handle = accessor.primitiveHandle(instance, Primitives.BOOLEAN);
+		return handle == null ? Primitives.toBoolean(getValue(instance), this) : accessor.invokeBoolean(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a byte without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a byte
+	 */
+	public byte getByte(final Object instance) {
+		MethodHandle handle = accessor.primitiveHandle(instance, Primitives.BYTE);
+		return handle == null ? Primitives.toByte(getValue(instance), this) : accessor.invokeByte(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a char without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a char
+	 */
+	public char getChar(final Object instance) {
+		MethodHandle handle = accessor.primitiveHandle(instance, Primitives.CHAR);
+		return handle == null ? Primitives.toChar(getValue(instance), this) : accessor.invokeChar(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a short without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a short
+	 */
+	public short getShort(final Object instance) {
+		MethodHandle handle = accessor.primitiveHandle(instance, Primitives.SHORT);
+		return handle == null ? Primitives.toShort(getValue(instance), this) : accessor.invokeShort(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as an int without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to an int
+	 */
+	public int getInt(final Object instance) {
+		MethodHandle handle = accessor.primitiveHandle(instance, Primitives.INT);
+		return handle == null ? Primitives.toInt(getValue(instance), this) : accessor.invokeInt(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a long without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a long
+	 */
+	public long getLong(final Object instance) {
+		MethodHandle handle = accessor.primitiveHandle(instance, Primitives.LONG);
+		return handle == null ? Primitives.toLong(getValue(instance), this) : accessor.invokeLong(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a float without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a float
+	 */
+	public float getFloat(final Object instance) {
+		MethodHandle handle = accessor.primitiveHandle(instance, Primitives.FLOAT);
+		return handle == null ? Primitives.toFloat(getValue(instance), this) : accessor.invokeFloat(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a double without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a double
+	 */
+	public double getDouble(final Object instance) {
+		MethodHandle handle = accessor.primitiveHandle(instance, Primitives.DOUBLE);
+		return handle == null ? Primitives.toDouble(getValue(instance), this) : accessor.invokeDouble(handle, instance);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof ImmutableTypeProperty)) {
+			return false;
+		}
+		ImmutableTypeProperty rhs = (ImmutableTypeProperty) obj;
+		return new EqualsBuilder().append(getDeclaringType(), rhs.getDeclaringType()).append(getName(), rhs.getName()).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(getDeclaringType()).append(getName()).toHashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "ImmutableTypeProperty [" + getDeclaringType() + "." + getName() + "]";
+	}
+}
@@ -0,0 +1,183 @@
+package org.exparity.beans.core;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.exparity.beans.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static java.lang.System.identityHashCode;
+import static org.exparity.beans.Type.type;
+import static org.exparity.beans.core.TraversalControl.SKIP_CHILDREN;
+import static org.exparity.beans.core.TraversalControl.SKIP_SIBLINGS;
+import static org.exparity.beans.core.TraversalControl.STOP;
+
+/**
+ * A single inspection of an object. Decides which objects are entered and how each property is visited, leaving the subclass to decide how the walk moves on to the properties of
+ * a bean and the elements of an array, {@link Iterable}, or {@link Map} once they have been entered.
+ */
+abstract class Inspection {
+
+	private static final Logger LOG = LoggerFactory.getLogger(Inspection.class);
+
+	protected final BeanCursor cursor;
+	protected final BeanNamingStrategy naming;
+	protected final BeanTraversalVisitor visitor;
+	protected final IdentitySet inspected;
+	protected final boolean inspectChildren;
+	protected final AtomicBoolean stop;
+	protected final boolean memoizeValues;
+
+	Inspection(final BeanNamingStrategy naming,
+			final BeanTraversalVisitor visitor,
+			final IdentitySet inspected,
+			final boolean inspectChildren,
+			final AtomicBoolean stop,
+			final boolean memoizeValues) {
+		this.naming = naming;
+		this.visitor = visitor;
+		this.inspected = inspected;
+		this.inspectChildren = inspectChildren;
+		this.stop = stop;
+		this.memoizeValues = memoizeValues;
+		this.cursor = new BeanCursor(memoizeValues ? new ValueCache() : null);
+	}
+
+	/**
+	 * Inspect the instance and all the objects reachable from it until the visit is stopped
+	 */
+	void inspect(final Object instance) {
+		try {
+			enterObject(ObjectStack.EMPTY, new BeanPropertyPath(naming.describeRoot(instance.getClass())), instance);
+			walk();
+		} finally {
+			cursor.close();
+		}
+	}
+
+	/**
+	 * Walk the objects which have been entered but not yet inspected. Does nothing if objects are inspected as they are entered
+	 */
+	void walk() {}
+
+	/**
+	 * Enter the properties of a bean. The walk must call {@link #visitProperty(Object, TypeProperty, BeanPropertyPath, ObjectStack)} for each property in turn until it returns
+	 * <code>false</code>
+	 */
+	abstract void enterBean(final Object instance, final List<TypeProperty> properties, final BeanPropertyPath path, final ObjectStack stack);
+
+	/**
+	 * Enter the elements of an array. The walk must call {@link #enterValue(ObjectStack, BeanPropertyPath, Object)} for each element until the visit is stopped
+	 */
+	abstract void enterArray(final ObjectStack stack, final BeanPropertyPath path, final Object instance);
+
+	/**
+	 * Enter the elements of an {@link Iterable}. The walk must call {@link #enterValue(ObjectStack, BeanPropertyPath, Object)} for each element until the visit is stopped
+	 */
+	abstract void enterIterable(final ObjectStack stack, final BeanPropertyPath path, final Iterable<?> instance);
+
+	/**
+	 * Enter the values of a {@link Map}. The walk must call {@link #enterValue(ObjectStack, BeanPropertyPath, Object)} for each value until the visit is stopped
+	 */
+	abstract void enterMap(final ObjectStack stack, final BeanPropertyPath path, final Map<?, ?> instance);
+
+	/**
+	 * Visit a property of the instance and enter its value unless the visitor skips it. Return <code>false</code> if the remaining properties of the instance must not be visited
+	 */
+	@SuppressWarnings("rawtypes")
+	boolean visitProperty(final Object instance, final TypeProperty property, final BeanPropertyPath path, final ObjectStack stack) {
+		cursor.moveTo(instance, property, path, stack);
+		TraversalControl control = visitor.visit(cursor);
+		if (STOP.equals(control)) {
+			stop.set(true);
+		}
+		if (stop.get()) {
+			LOG.debug("Stopped Visit of {}. Stop set to true", cursor.getPath());
+			return false;
+		} else if (SKIP_SIBLINGS.equals(control)) {
+			return false;
+		} else if (SKIP_CHILDREN.equals(control)) {
+			return true;
+		}
+		if (property.isArray()) {
+			Object value = cursor.getValue();
+			if (value != null) {
+				enterArray(stack, cursor.getPath(), value);
+			}
+		} else if (property.isIterable()) {
+			Iterable value = (Iterable) cursor.getValue();
+			if (value != null) {
+				enterIterable(stack, cursor.getPath(), value);
+			}
+		} else if (property.isMap()) {
+			Map value = (Map) cursor.getValue();
+			if (value != null) {
+				enterMap(stack, cursor.getPath(), value);
+			}
+		} else if (!property.isScalar()) {
+			try {
+				Object propertyValue = cursor.getValue();
+				if (propertyValue != null) {
+					enterValue(stack, cursor.getPath(), propertyValue);
+				}
+			} catch (Exception e) {
+				LOG.trace("Skip {}. Exception thrown on calling get", property);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Enter an object reached from another object unless it is an instance of a {@link LeafTypes leaf type}
+	 */
+	void enterValue(final ObjectStack stack, final BeanPropertyPath path, final Object value) {
+		if (value != null && !LeafTypes.isLeaf(value.getClass())) {
+			enterObject(stack, path, value);
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	void enterObject(final ObjectStack stack, final BeanPropertyPath path, final Object instance) {
+		if (instance == null) {
+			return;
+		} else if (stop.get()) {
+			LOG.debug("Stopped Visit of {}. Stop set to true", path);
+			return;
+		}
+		logInspection(path, "Object", instance);
+		if (inspected != null && !inspected.add(instance)) {
+			return;
+		}
+		if (!inspectChildren && !stack.isEmpty()) {
+			return;
+		}
+		Type type = type(instance.getClass(), naming);
+		if (type.isArray()) {
+			enterArray(ObjectStack.EMPTY, path, instance);
+		} else if (type.is(Iterable.class)) {
+			enterIterable(ObjectStack.EMPTY, path, (Iterable) instance);
+		} else if (type.is(Map.class)) {
+			enterMap(ObjectStack.EMPTY, path, (Map) instance);
+		} else {
+			BeanPropertyPath rootPath = path.isEmpty() ? new BeanPropertyPath(naming.describeType(instance.getClass())) : path;
+			enterBean(instance, type.propertyList(), rootPath, stack.push(instance));
+		}
+	}
+
+	/**
+	 * Return the path of the elements of an array, {@link Collection}, or {@link Map} entered with an empty path, for example as the root of the inspection
+	 */
+	BeanPropertyPath containerPath(final BeanPropertyPath path, final Class<?> containerType) {
+		return path.isEmpty() ? new BeanPropertyPath(naming.describeType(containerType)) : path;
+	}
+
+	void logInspection(final BeanPropertyPath path, final String loggedType, final Object instance) {
+		if (LOG.isTraceEnabled()) {
+			LOG.trace("Inspect Path [{}]. {} [{}:{}]", new Object[] {
+					path.fullPath(), loggedType, instance.getClass().getSimpleName(), identityHashCode(instance)
+			});
+		}
+	}
+}
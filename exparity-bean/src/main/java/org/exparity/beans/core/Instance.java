@@ -10,11 +10,14 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.exparity.beans.core.functions.SetValue;
-import org.exparity.beans.core.visitors.ApplyFunctionIf;
-import org.exparity.beans.core.visitors.CapturePropertyIf;
+import org.exparity.beans.core.predicates.PredicateOptimizer;
+import org.exparity.beans.core.visitors.ApplyFunctionToMatches;
+import org.exparity.beans.core.visitors.CaptureFirstMatch;
+import org.exparity.beans.core.visitors.CaptureMatchesToList;
 import org.exparity.beans.core.visitors.CapturePropertyToList;
-import org.exparity.beans.core.visitors.CapturePropertyToListIf;
 import org.exparity.beans.core.visitors.CapturePropertyToMap;
+import org.exparity.beans.core.visitors.ParallelApplyFunctionIf;
+import org.exparity.beans.core.visitors.ParallelCapturePropertyToListIf;
 import org.exparity.beans.core.visitors.Print;
 import static org.exparity.beans.BeanPredicates.*;
 
@@ -23,7 +26,7 @@ import static org.exparity.beans.BeanPredicates.*;
  */
 public abstract class Instance {
 
-	private final InstanceInspector inspector;
+	private InstanceInspector inspector;
 	private final Object instance;
 	private BeanNamingStrategy naming;
 
@@ -192,7 +195,7 @@ public abstract class Instance {
 	 * @param name the property name
 	 */
 	public BeanProperty propertyNamed(final String name) {
-		BeanProperty property = findAny(named(name));
+		BeanProperty property = inspector.propertyNamed(instance, naming, name);
 		if (property == null) {
 			throw new BeanPropertyNotFoundException(this.instance.getClass(), name);
 		}
@@ -244,7 +247,7 @@ public abstract class Instance {
 	 * @param predicate a predicate to match the properties
 	 */
 	public BeanProperty findAny(final BeanPropertyPredicate predicate) {
-		CapturePropertyIf visitor = new CapturePropertyIf(predicate);
+		CaptureFirstMatch visitor = new CaptureFirstMatch(PredicateOptimizer.optimize(predicate));
 		visit(visitor);
 		return visitor.getMatchedProperty();
 	}
@@ -273,7 +276,7 @@ public abstract class Instance {
 	 * @param predicate a predicate to match the properties
 	 */
 	public void apply(final BeanPropertyFunction function, final BeanPropertyPredicate predicate) {
-		visit(new ApplyFunctionIf(function, predicate));
+		visit(new ApplyFunctionToMatches(function, PredicateOptimizer.optimize(predicate)));
 	}
 
 	/**
@@ -289,10 +292,74 @@ public abstract class Instance {
 	 */
 	public List<BeanProperty> find(final BeanPropertyPredicate predicate) {
 		final List<BeanProperty> collection = new ArrayList<BeanProperty>();
-		visit(new CapturePropertyToListIf(predicate, collection));
+		visit(new CaptureMatchesToList(PredicateOptimizer.optimize(predicate), collection));
 		return collection;
 	}
 
+	/**
+	 * Find all properties which match the predicate, visiting large collections in parallel. The predicate must be thread-safe. The properties are returned in the same order as
+	 * {@link #find(BeanPropertyPredicate)} unless an object is reachable from more than one element of a collection which is split between tasks. A shared object is only
+	 * visited once, by whichever task reaches it first, so where its properties appear in the list is not deterministic. For example</p>
+	 * 
+	 * <pre>
+	 * List&lt;BeanProperty&gt; prices = graph(portfolio).parallelFind(BeanPredicates.named(&quot;price&quot;))
+	 * </pre>
+	 * 
+	 * @param predicate a predicate to match the properties
+	 */
+	public List<BeanProperty> parallelFind(final BeanPropertyPredicate predicate) {
+		final List<BeanProperty> collection = new ArrayList<BeanProperty>();
+		parallelVisit(new ParallelCapturePropertyToListIf(PredicateOptimizer.optimize(predicate), collection));
+		return collection;
+	}
+
+	/**
+	 * Return a list of the publicly exposes get/set properties on this instance, visiting large collections in parallel. For example:</p>
+	 * 
+	 * <pre>
+	 * List&lt;BeanProperty&gt; properties = graph(portfolio).parallelPropertyList()
+	 * </pre>
+	 */
+	public List<BeanProperty> parallelPropertyList() {
+		return parallelFind(anyProperty());
+	}
+
+	/**
+	 * Apply the {@link BeanPropertyFunction} to all properties which match the predicate, visiting large collections in parallel. The function and predicate must be thread-safe.
+	 * The properties are not visited in a deterministic order, and an object reachable from more than one element of a split collection is visited once by whichever task reaches
+	 * it first. For example</p>
+	 * 
+	 * <pre>
+	 * graph(portfolio).parallelApply(BeanFunctions.setValue(null), BeanPredicates.named(&quot;price&quot;))
+	 * </pre>
+	 * 
+	 * @param function the function to apply to the matching properties
+	 * @param predicate a predicate to match the properties
+	 */
+	public void parallelApply(final BeanPropertyFunction function, final BeanPropertyPredicate predicate) {
+		parallelVisit(new ParallelApplyFunctionIf(function, PredicateOptimizer.optimize(predicate)));
+	}
+
+	/**
+	 * Apply the {@link BeanPropertyFunction} to all properties, visiting large collections in parallel. The function must be thread-safe.
+	 * 
+	 * @param function the function to apply to the properties
+	 */
+	public void parallelApply(final BeanPropertyFunction function) {
+		parallelApply(function, anyProperty());
+	}
+
+	/**
+	 * Visit the supplied bean or graph instance in parallel on the common {@link java.util.concurrent.ForkJoinPool}. See {@link ParallelBeanVisitor} for how the visitor is
+	 * shared between tasks. The forked visitors are merged in the order of the elements they visited, but an object reachable from more than one element of a split collection is
+	 * visited once, by whichever task reaches it first, so the visitor its properties are merged from is not deterministic.
+	 * 
+	 * @param visitor the visitor which will be notified of every bean property encountered
+	 */
+	public void parallelVisit(final ParallelBeanVisitor visitor) {
+		inspector.parallelInspect(instance, naming, visitor);
+	}
+
 	/**
 	 * Visit the supplied bean or graph instance and notify the visitor for each bean property found. For example:</p>
 	 * 
@@ -310,6 +377,41 @@ public abstract class Instance {
 		inspector.inspect(instance, naming, visitor);
 	}
 
+	/**
+	 * Visit the supplied bean or graph instance and move a single reusable cursor over each bean property found. For example:</p>
+	 *
+	 * <pre>
+	 * graph(myObject).visit(new BeanCursorVisitor() {
+	 *
+	 * 	public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+	 * 		total += cursor.getProperty().getDouble(cursor.getInstance());
+	 * 	}
+	 * });
+	 * </pre>
+	 * @param visitor the visitor which will be notified of every bean property encountered
+	 */
+	public void visit(final BeanCursorVisitor visitor) {
+		inspector.inspect(instance, naming, visitor);
+	}
+
+	/**
+	 * Visit the supplied bean or graph instance and move a single reusable cursor over each bean property found. The visitor returns a {@link TraversalControl} to prune the rest
+	 * of the visit. For example:</p>
+	 *
+	 * <pre>
+	 * graph(myObject).visit(new BeanTraversalVisitor() {
+	 *
+	 * 	public TraversalControl visit(final BeanCursor cursor) {
+	 * 		return cursor.getType().equals(Engine.class) ? TraversalControl.SKIP_CHILDREN : TraversalControl.CONTINUE;
+	 * 	}
+	 * });
+	 * </pre>
+	 * @param visitor the visitor which will be notified of every bean property encountered
+	 */
+	public void visit(final BeanTraversalVisitor visitor) {
+		inspector.inspect(instance, naming, visitor);
+	}
+
 	/**
 	 * Test if the supplied instance has a Bean property with the given name. For example</p>
 	 * 
@@ -321,7 +423,7 @@ public abstract class Instance {
 	 * @param name the property name
 	 */
 	public boolean hasProperty(final String name) {
-		return hasProperty(named(name));
+		return inspector.propertyNamed(instance, naming, name) != null;
 	}
 
 	/**
@@ -383,6 +485,48 @@ public abstract class Instance {
 		return hasProperty(matchesAll(predicate, ofType(type)));
 	}
 
+	/**
+	 * Return the object this instance wraps
+	 */
+	protected Object getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Return the naming strategy used to describe the properties
+	 */
+	protected BeanNamingStrategy getNamingStrategy() {
+		return naming;
+	}
+
+	/**
+	 * Return the inspector used to walk the instance
+	 */
+	protected InstanceInspector getInspector() {
+		return inspector;
+	}
+
+	/**
+	 * Override the inspector used to walk the instance
+	 */
+	protected void setInspector(final InstanceInspector inspector) {
+		this.inspector = inspector;
+	}
+
+	/**
+	 * Call the getter of each property at most once per object during a visit if memoize is <code>true</code>. Use when getters are computed or lazily loaded and the same
+	 * property is read by the inspection, the predicate, and the visitor. For example:</p>
+	 * 
+	 * <pre>
+	 * graph(order).setMemoizeValues(true);
+	 * </pre>
+	 * 
+	 * @param memoize <code>true</code> to memoize the values read during a visit
+	 */
+	public void setMemoizeValues(final boolean memoize) {
+		this.inspector = inspector.withMemoizedValues(memoize);
+	}
+
 	/**
 	 * Override the default naming strategy
 	 */
@@ -0,0 +1,261 @@
+
+package org.exparity.beans.core;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.exparity.beans.core.predicates.HasName;
+import org.exparity.beans.core.predicates.HasPath;
+import org.exparity.beans.core.visitors.CapturePropertyIf;
+import static org.exparity.beans.core.InstanceInspector.InspectionDepth.GRAPH;
+import static org.exparity.beans.core.InstanceInspector.Overflow.DENY_OVERFLOW;
+import static org.exparity.beans.core.InstanceInspector.Traversal.ITERATIVE;
+
+/**
+ * Helper class which inspects the bean and exposes the properties of the bean to support the visitor pattern
+ * 
+ * @author Stewart Bissett
+ */
+public class InstanceInspector {
+
+	public enum InspectionDepth {
+		BEAN, GRAPH
+	};
+
+	public enum Overflow {
+		ALLOW_OVERFLOW, DENY_OVERFLOW
+	};
+
+	/**
+	 * The engine used to walk the object. A {@link #RECURSIVE} traversal recurses on the call stack for each child object, an {@link #ITERATIVE} traversal keeps its own stack so
+	 * can inspect graphs of any depth. Both decide which objects to enter and how to visit each property in the same way so visit properties in the same order.
+	 */
+	public enum Traversal {
+		RECURSIVE, ITERATIVE
+	};
+
+	public static InstanceInspector beanInspector() {
+		return new InstanceInspector(InspectionDepth.BEAN, Overflow.DENY_OVERFLOW, Traversal.RECURSIVE);
+	}
+
+	public static InstanceInspector graphInspector() {
+		return graphInspector(Traversal.ITERATIVE);
+	};
+
+	public static InstanceInspector graphInspector(final Traversal traversal) {
+		return new InstanceInspector(InspectionDepth.GRAPH, Overflow.DENY_OVERFLOW, traversal);
+	};
+
+	/**
+	 * The default number of elements a collection must have before a parallel inspection splits it between tasks
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 1024;
+
+	private final TypeInspector typeInspector = new TypeInspector();
+	private final InspectionDepth depth;
+	private final Overflow overflow;
+	private final Traversal traversal;
+	private final TraversalLimits limits;
+	private final boolean memoizeValues;
+
+	InstanceInspector(final InspectionDepth depth, final Overflow overflow) {
+		this(depth, overflow, Traversal.RECURSIVE);
+	}
+
+	InstanceInspector(final InspectionDepth depth, final Overflow overflow, final Traversal traversal) {
+		this(depth, overflow, traversal, TraversalLimits.NONE);
+	}
+
+	InstanceInspector(final InspectionDepth depth, final Overflow overflow, final Traversal traversal, final TraversalLimits limits) {
+		this(depth, overflow, traversal, limits, false);
+	}
+
+	InstanceInspector(final InspectionDepth depth, final Overflow overflow, final Traversal traversal, final TraversalLimits limits, final boolean memoizeValues) {
+		this.depth = depth;
+		this.overflow = overflow;
+		this.traversal = traversal;
+		this.limits = limits;
+		this.memoizeValues = memoizeValues;
+	}
+
+	/**
+	 * Return a copy of this inspector which only walks the part of the object within the limits
+	 */
+	public InstanceInspector withLimits(final TraversalLimits limits) {
+		return new InstanceInspector(depth, overflow, traversal, limits, memoizeValues);
+	}
+
+	/**
+	 * Return a copy of this inspector which, if memoize is <code>true</code>, calls the getter of each property at most once per object during a visit. The values are shared by
+	 * the inspection, the visitor, and the {@link BeanProperty} instances created during the visit, and are released when the visit ends.
+	 */
+	public InstanceInspector withMemoizedValues(final boolean memoize) {
+		return new InstanceInspector(depth, overflow, traversal, limits, memoize);
+	}
+
+	/**
+	 * Return <code>true</code> if the values of properties are memoized during a visit
+	 */
+	public boolean isMemoizeValues() {
+		return memoizeValues;
+	}
+
+	/**
+	 * Return the limits on the part of the object this inspector walks
+	 */
+	public TraversalLimits getLimits() {
+		return limits;
+	}
+
+	/**
+	 * Inspect the supplied object and fire callbacks on the supplied {@link BeanVisitor} for every property exposed on the object
+	 * 
+	 * @param instance an object instance to inspect for Java Bean properties
+	 * @param naming the naming strategy to use for the Java Bean properties
+	 * @param visitor the visitor to raise events when Java Bean properties are found
+	 */
+	public void inspect(final Object instance, final BeanNamingStrategy naming, final BeanVisitor visitor) {
+		inspect(instance, naming, new BeanCursorVisitor() {
+
+			public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+				visitor.visit(cursor.toBeanProperty(), cursor.getInstance(), cursor.getStack(), stop);
+			}
+		});
+	}
+
+	/**
+	 * Inspect the supplied object and fire callbacks on the supplied {@link BeanCursorVisitor} for every property exposed on the object. The visitor is passed the same
+	 * {@link BeanCursor} for every property.
+	 * 
+	 * @param instance an object instance to inspect for Java Bean properties
+	 * @param naming the naming strategy to use for the Java Bean properties
+	 * @param visitor the visitor to raise events when Java Bean properties are found
+	 */
+	public void inspect(final Object instance, final BeanNamingStrategy naming, final BeanCursorVisitor visitor) {
+		AtomicBoolean stop = new AtomicBoolean();
+		inspect(instance, naming, new CursorVisitorAdapter(visitor, stop), stop);
+	}
+
+	/**
+	 * Inspect the supplied object and fire callbacks on the supplied {@link BeanTraversalVisitor} for every property exposed on the object. The {@link TraversalControl} returned
+	 * for a property decides whether the walk continues into its value, on to its siblings, or stops.
+	 * 
+	 * @param instance an object instance to inspect for Java Bean properties
+	 * @param naming the naming strategy to use for the Java Bean properties
+	 * @param visitor the visitor to raise events when Java Bean properties are found
+	 */
+	public void inspect(final Object instance, final BeanNamingStrategy naming, final BeanTraversalVisitor visitor) {
+		inspect(instance, naming, visitor, new AtomicBoolean());
+	}
+
+	private void inspect(final Object instance, final BeanNamingStrategy naming, final BeanTraversalVisitor visitor, final AtomicBoolean stop) {
+		if (instance != null) {
+			IdentitySet inspected = isDenyOverflow() ? new HashIdentitySet() : null;
+			BeanTraversalVisitor limited = limits.limit(visitor);
+			Inspection inspection = ITERATIVE.equals(traversal)
+					? new IterativeInspection(naming, limited, inspected, isInspectChildren(), stop, memoizeValues)
+					: new RecursiveInspection(naming, limited, inspected, isInspectChildren(), stop, memoizeValues);
+			inspection.inspect(instance);
+		}
+	}
+
+	/**
+	 * Inspect the supplied object in parallel on the common {@link ForkJoinPool} and fire callbacks on the supplied {@link ParallelBeanVisitor} for every property exposed on the
+	 * object. Collections with at least {@link #DEFAULT_PARALLEL_THRESHOLD} elements are split between tasks.
+	 * 
+	 * @param instance an object instance to inspect for Java Bean properties
+	 * @param naming the naming strategy to use for the Java Bean properties
+	 * @param visitor the visitor to raise events when Java Bean properties are found
+	 */
+	public void parallelInspect(final Object instance, final BeanNamingStrategy naming, final ParallelBeanVisitor visitor) {
+		parallelInspect(instance, naming, visitor, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+	}
+
+	/**
+	 * Inspect the supplied object in parallel on the pool and fire callbacks on the supplied {@link ParallelBeanVisitor} for every property exposed on the object. Each array,
+	 * {@link java.util.Collection}, or {@link Map} with at least the threshold number of elements is split into chunks of the threshold size which are inspected on separate tasks,
+	 * each with a visitor from {@link ParallelBeanVisitor#fork()}. The forked visitors are merged back in chunk order. When overflow is denied an object reachable from more than
+	 * one chunk is inspected once, by whichever task reaches it first, so the chunk its properties are merged with, and so their order, is not deterministic.
+	 * 
+	 * @param instance an object instance to inspect for Java Bean properties
+	 * @param naming the naming strategy to use for the Java Bean properties
+	 * @param visitor the visitor to raise events when Java Bean properties are found
+	 * @param pool the pool to run the inspection on
+	 * @param threshold the number of elements a collection must have before it is split between tasks
+	 */
+	public void parallelInspect(final Object instance, final BeanNamingStrategy naming, final ParallelBeanVisitor visitor, final ForkJoinPool pool, final int threshold) {
+		if (instance != null) {
+			final IdentitySet inspected = isDenyOverflow() ? new ConcurrentIdentitySet() : null;
+			pool.invoke(new RecursiveAction() {
+
+				private static final long serialVersionUID = 1L;
+
+				@Override
+				protected void compute() {
+					new IterativeInspection(naming, visitor, limits, inspected, isInspectChildren(), new AtomicBoolean(), threshold, memoizeValues).inspect(instance);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Return the property with the given name, ignoring case, on the supplied object or <code>null</code> if the object has no such property. A bean inspection of an object
+	 * which is not an array, {@link Iterable}, or {@link Map} is answered directly from the index of property names on the object's type, otherwise the object is inspected until the
+	 * property is found.
+	 * 
+	 * @param instance an object instance to find the property on
+	 * @param naming the naming strategy to use for the Java Bean properties
+	 * @param name the name of the property
+	 */
+	public BeanProperty propertyNamed(final Object instance, final BeanNamingStrategy naming, final String name) {
+		if (instance == null) {
+			return null;
+		} else if (!isInspectChildren() && !isContainer(instance.getClass())) {
+			TypeProperty property = typeInspector.propertyNamed(instance.getClass(), naming, name);
+			if (property == null) {
+				return null;
+			}
+			BeanPropertyPath rootPath = new BeanPropertyPath(naming.describeRoot(instance.getClass()));
+			if (rootPath.isEmpty()) {
+				rootPath = new BeanPropertyPath(naming.describeType(instance.getClass()));
+			}
+			return new BeanProperty(property, rootPath.append(property.getName()), instance);
+		} else {
+			CapturePropertyIf visitor = new CapturePropertyIf(new HasName(name));
+			inspect(instance, naming, visitor);
+			return visitor.getMatchedProperty();
+		}
+	}
+
+	/**
+	 * Return the property at the given path on the supplied object or <code>null</code> if the object has no such property. The getters, indexes, and keys named in the path are
+	 * followed directly so only the objects along the path are inspected. An inspector with {@link TraversalLimits} searches the object instead so the limits are respected.
+	 * 
+	 * @param instance an object instance to find the property on
+	 * @param naming the naming strategy to use for the Java Bean properties
+	 * @param path the path of the property, e.g. person.siblings[1].firstname
+	 */
+	public BeanProperty propertyAtPath(final Object instance, final BeanNamingStrategy naming, final String path) {
+		if (instance == null) {
+			return null;
+		} else if (!isInspectChildren() || !limits.isUnlimited()) {
+			CapturePropertyIf visitor = new CapturePropertyIf(new HasPath(path));
+			inspect(instance, naming, visitor);
+			return visitor.getMatchedProperty();
+		}
+		return new PathNavigator(path).navigate(instance, naming, typeInspector);
+	}
+
+	private boolean isDenyOverflow() {
+		return DENY_OVERFLOW.equals(overflow);
+	}
+
+	private boolean isInspectChildren() {
+		return GRAPH.equals(depth);
+	}
+
+	private boolean isContainer(final Class<?> type) {
+		return type.isArray() || Iterable.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type);
+	}
+}
@@ -0,0 +1,300 @@
+package org.exparity.beans.core;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A single inspection of an object which walks the object graph with an explicit stack of frames rather than by recursion, so graphs of any depth can be inspected. Each frame
+ * iterates over the properties of a bean or the elements of an array, {@link Iterable}, or {@link Map}, and the properties are visited in the same order as a
+ * {@link RecursiveInspection}. A frame is abandoned as soon as the visitor returns {@link TraversalControl#SKIP_SIBLINGS}.
+ * <p/>
+ * A parallel inspection splits any array, {@link Collection}, or {@link Map} with at least the threshold number of elements into chunks which are inspected by separate
+ * {@link ForkJoinTask}s, each with a visitor forked from the {@link ParallelBeanVisitor}. The inspection waits for the chunks to complete and merges the forked visitors back in
+ * chunk order before moving on. A parallel inspection must be run within a ForkJoinPool.
+ * <p/>
+ * The merged results are only in the same order as a sequential inspection when no object is reachable from more than one chunk. When overflow is denied a shared object is
+ * inspected once, by whichever task claims it first, so its properties are merged with the results of that chunk and which chunk that is can change from one inspection to the
+ * next.
+ * <p/>
+ * When values are memoized each inspection, and so each task, reads through its own {@link ValueCache}. An object is only inspected by one task so its getters are still called
+ * at most once.
+ */
+class IterativeInspection extends Inspection {
+
+	private static final Logger LOG = LoggerFactory.getLogger(IterativeInspection.class);
+
+	private final Deque<Frame> frames = new ArrayDeque<Frame>();
+	private final ParallelBeanVisitor parallelVisitor;
+	private final TraversalLimits limits;
+	private final int threshold;
+
+	IterativeInspection(final BeanNamingStrategy naming,
+			final BeanTraversalVisitor visitor,
+			final IdentitySet inspected,
+			final boolean inspectChildren,
+			final AtomicBoolean stop,
+			final boolean memoizeValues) {
+		this(naming, visitor, null, TraversalLimits.NONE, inspected, inspectChildren, stop, Integer.MAX_VALUE, memoizeValues);
+	}
+
+	IterativeInspection(final BeanNamingStrategy naming,
+			final ParallelBeanVisitor visitor,
+			final TraversalLimits limits,
+			final IdentitySet inspected,
+			final boolean inspectChildren,
+			final AtomicBoolean stop,
+			final int threshold,
+			final boolean memoizeValues) {
+		this(naming, limits.limit(new CursorVisitorAdapter(visitor, stop)), visitor, limits, inspected, inspectChildren, stop, threshold, memoizeValues);
+	}
+
+	private IterativeInspection(final BeanNamingStrategy naming,
+			final BeanTraversalVisitor visitor,
+			final ParallelBeanVisitor parallelVisitor,
+			final TraversalLimits limits,
+			final IdentitySet inspected,
+			final boolean inspectChildren,
+			final AtomicBoolean stop,
+			final int threshold,
+			final boolean memoizeValues) {
+		super(naming, visitor, inspected, inspectChildren, stop, memoizeValues);
+		this.parallelVisitor = parallelVisitor;
+		this.limits = limits;
+		this.threshold = Math.max(threshold, 1);
+	}
+
+	/**
+	 * Inspect a range of the elements of an array, {@link Collection}, or {@link Map}, and all the objects reachable from them, until the visit is stopped
+	 */
+	private void inspect(final ObjectStack stack, final BeanPropertyPath path, final Object[] elements, final Object[] keys, final int from, final int to) {
+		try {
+			for (int i = from; i < to && !stop.get(); ++i) {
+				enterValue(stack, keys == null ? path.appendIndex(i) : path.appendKey(keys[i]), elements[i]);
+				walk();
+			}
+		} finally {
+			cursor.close();
+		}
+	}
+
+	@Override
+	void walk() {
+		while (!frames.isEmpty()) {
+			if (stop.get()) {
+				LOG.debug("Stopped Visit of {}. Stop set to true", cursor);
+				frames.clear();
+				return;
+			}
+			if (!frames.peek().next()) {
+				frames.pop();
+			}
+		}
+	}
+
+	private boolean isSplit(final int size) {
+		return parallelVisitor != null && size >= threshold;
+	}
+
+	/**
+	 * Inspect the elements in chunks on separate tasks then merge the visitors from each task back into this inspection's visitor
+	 */
+	private void split(final ObjectStack stack, final BeanPropertyPath path, final Object[] elements, final Object[] keys) {
+		List<Chunk> chunks = new ArrayList<Chunk>();
+		for (int from = 0; from < elements.length; from += threshold) {
+			chunks.add(new Chunk(stack, path, elements, keys, from, Math.min(from + threshold, elements.length), parallelVisitor.fork()));
+		}
+		ForkJoinTask.invokeAll(chunks);
+		for (Chunk chunk : chunks) {
+			parallelVisitor.merge(chunk.visitor);
+		}
+	}
+
+	@Override
+	void enterBean(final Object instance, final List<TypeProperty> properties, final BeanPropertyPath path, final ObjectStack stack) {
+		frames.push(new BeanFrame(instance, properties, path, stack));
+	}
+
+	@Override
+	void enterArray(final ObjectStack stack, final BeanPropertyPath path, final Object instance) {
+		logInspection(path, "Array", instance);
+		BeanPropertyPath arrayPath = containerPath(path, Array.class);
+		int length = Array.getLength(instance);
+		if (isSplit(length)) {
+			Object[] elements = new Object[length];
+			for (int i = 0; i < length; ++i) {
+				elements[i] = Array.get(instance, i);
+			}
+			split(stack, arrayPath, elements, null);
+		} else {
+			frames.push(new ArrayFrame(stack, arrayPath, instance));
+		}
+	}
+
+	@Override
+	void enterIterable(final ObjectStack stack, final BeanPropertyPath path, final Iterable<?> instance) {
+		logInspection(path, "Iterable", instance);
+		BeanPropertyPath iterablePath = containerPath(path, Collection.class);
+		if (instance instanceof Collection && isSplit(((Collection<?>) instance).size())) {
+			split(stack, iterablePath, ((Collection<?>) instance).toArray(), null);
+		} else {
+			frames.push(new IterableFrame(stack, iterablePath, instance.iterator()));
+		}
+	}
+
+	@Override
+	void enterMap(final ObjectStack stack, final BeanPropertyPath path, final Map<?, ?> instance) {
+		logInspection(path, "Map", instance);
+		BeanPropertyPath mapPath = containerPath(path, Map.class);
+		if (isSplit(instance.size())) {
+			Object[] keys = new Object[instance.size()], values = new Object[instance.size()];
+			int i = 0;
+			for (Map.Entry<?, ?> entry : instance.entrySet()) {
+				keys[i] = entry.getKey();
+				values[i++] = entry.getValue();
+			}
+			split(stack, mapPath, values, keys);
+		} else {
+			frames.push(new MapFrame(stack, mapPath, instance.entrySet().iterator()));
+		}
+	}
+
+	/**
+	 * A position in the walk of the graph
+	 */
+	private abstract class Frame {
+
+		/**
+		 * Move on to the next property or element. Return <code>false</code> if there is nothing left in this frame.
+		 */
+		abstract boolean next();
+	}
+
+	private class BeanFrame extends Frame {
+
+		private final Object instance;
+		private final List<TypeProperty> properties;
+		private final BeanPropertyPath path;
+		private final ObjectStack stack;
+		private int index;
+
+		BeanFrame(final Object instance, final List<TypeProperty> properties, final BeanPropertyPath path, final ObjectStack stack) {
+			this.instance = instance;
+			this.properties = properties;
+			this.path = path;
+			this.stack = stack;
+		}
+
+		@Override
+		boolean next() {
+			return index < properties.size() && visitProperty(instance, properties.get(index++), path, stack);
+		}
+	}
+
+	private class ArrayFrame extends Frame {
+
+		private final ObjectStack stack;
+		private final BeanPropertyPath path;
+		private final Object array;
+		private int index;
+
+		ArrayFrame(final ObjectStack stack, final BeanPropertyPath path, final Object array) {
+			this.stack = stack;
+			this.path = path;
+			this.array = array;
+		}
+
+		@Override
+		boolean next() {
+			if (index >= Array.getLength(array)) {
+				return false;
+			}
+			enterValue(stack, path.appendIndex(index), Array.get(array, index++));
+			return true;
+		}
+	}
+
+	private class IterableFrame extends Frame {
+
+		private final ObjectStack stack;
+		private final BeanPropertyPath path;
+		private final Iterator<?> iterator;
+		private int seq;
+
+		IterableFrame(final ObjectStack stack, final BeanPropertyPath path, final Iterator<?> iterator) {
+			this.stack = stack;
+			this.path = path;
+			this.iterator = iterator;
+		}
+
+		@Override
+		boolean next() {
+			if (!iterator.hasNext()) {
+				return false;
+			}
+			enterValue(stack, path.appendIndex(seq++), iterator.next());
+			return true;
+		}
+	}
+
+	private class MapFrame extends Frame {
+
+		private final ObjectStack stack;
+		private final BeanPropertyPath path;
+		private final Iterator<? extends Map.Entry<?, ?>> entries;
+
+		MapFrame(final ObjectStack stack, final BeanPropertyPath path, final Iterator<? extends Map.Entry<?, ?>> entries) {
+			this.stack = stack;
+			this.path = path;
+			this.entries = entries;
+		}
+
+		@Override
+		boolean next() {
+			if (!entries.hasNext()) {
+				return false;
+			}
+			Map.Entry<?, ?> entry = entries.next();
+			enterValue(stack, path.appendKey(entry.getKey()), entry.getValue());
+			return true;
+		}
+	}
+
+	/**
+	 * A task which inspects a range of the elements of a collection with its own inspection and visitor
+	 */
+	@SuppressWarnings("serial")
+	private class Chunk extends RecursiveAction {
+
+		private final ObjectStack stack;
+		private final BeanPropertyPath path;
+		private final Object[] elements, keys;
+		private final int from, to;
+		private final ParallelBeanVisitor visitor;
+
+		Chunk(final ObjectStack stack, final BeanPropertyPath path, final Object[] elements, final Object[] keys, final int from, final int to, final ParallelBeanVisitor visitor) {
+			this.stack = stack;
+			this.path = path;
+			this.elements = elements;
+			this.keys = keys;
+			this.from = from;
+			this.to = to;
+			this.visitor = visitor;
+		}
+
+		@Override
+		protected void compute() {
+			new IterativeInspection(naming, visitor, limits, inspected, inspectChildren, stop, threshold, memoizeValues).inspect(stack, path, elements, keys, from, to);
+		}
+	}
+}
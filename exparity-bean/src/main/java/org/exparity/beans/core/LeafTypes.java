@@ -0,0 +1,102 @@
+package org.exparity.beans.core;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.net.URL;
+import java.time.ZoneId;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAmount;
+import java.util.Arrays;
+import java.util.Currency;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of the types which are treated as values rather than beans when an object graph is walked. A leaf type, or any subtype of it, is never introspected for properties
+ * when it is reached from another object. Primitives, the boxed primitives, {@link String}, enums, and the common JDK value types which expose no bean properties, such as
+ * {@link BigDecimal}, {@link UUID} and the java.time types, are registered by default.
+ * <p/>
+ * {@link java.util.Date}, {@link java.util.Calendar} and {@link java.util.TimeZone} expose bean properties, e.g. <code>date.time</code>, so are walked like any other bean
+ * unless they are registered. Further types can be added with {@link #register(Class...)} at any time and are honoured by the next walk of the graph.
+ */
+public final class LeafTypes {
+
+	private static final Set<Class<?>> LEAF_TYPES = new CopyOnWriteArraySet<Class<?>>(Arrays.<Class<?>> asList(String.class,
+			Boolean.class,
+			Character.class,
+			Byte.class,
+			Short.class,
+			Integer.class,
+			Long.class,
+			Float.class,
+			Double.class,
+			BigDecimal.class,
+			BigInteger.class,
+			Enum.class,
+			Class.class,
+			TemporalAccessor.class,
+			TemporalAmount.class,
+			ZoneId.class,
+			UUID.class,
+			URI.class,
+			URL.class,
+			Locale.class,
+			Currency.class));
+
+	/**
+	 * Incremented on every registration so the answers cached against each class can be recognised as stale
+	 */
+	private static final AtomicInteger GENERATION = new AtomicInteger();
+
+	/**
+	 * The generation the answer for the class was computed in, shifted left by one, with the answer in the lowest bit
+	 */
+	private static final ClassValue<AtomicInteger> IS_LEAF = new ClassValue<AtomicInteger>() {
+
+		@Override
+		protected AtomicInteger computeValue(final Class<?> type) {
+			return new AtomicInteger(-1);
+		}
+	};
+
+	private LeafTypes() {}
+
+	/**
+	 * Register types, and their subtypes, as leaf types
+	 *
+	 * @param types the types to treat as values
+	 */
+	public static void register(final Class<?>... types) {
+		LEAF_TYPES.addAll(Arrays.asList(types));
+		GENERATION.incrementAndGet();
+	}
+
+	/**
+	 * Return <code>true</code> if the type is primitive or is assignable to a registered leaf type
+	 */
+	public static boolean isLeaf(final Class<?> type) {
+		if (type.isPrimitive()) {
+			return true;
+		}
+		AtomicInteger state = IS_LEAF.get(type);
+		int generation = GENERATION.get(), current = state.get();
+		if (current >> 1 != generation) {
+			current = generation << 1 | (isAssignableToLeafType(type) ? 1 : 0);
+			state.set(current);
+		}
+		return (current & 1) == 1;
+	}
+
+	private static boolean isAssignableToLeafType(final Class<?> type) {
+		for (Class<?> leafType : LEAF_TYPES) {
+			if (leafType.isAssignableFrom(type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,421 @@
+package org.exparity.beans.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.commons.lang.ClassUtils;
+import org.apache.commons.lang.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Utility methods for accessing {@link java.lang.reflect.Method} properties.</p>
+ * <p>
+ * The method is resolved to a {@link MethodHandle} the first time it is invoked and all subsequent invocations are dispatched through the handle. If the method cannot be looked
+ * up, for example because it's declared on a non-public class, the wrapper falls back to invoking the method reflectively.
+ * </p>
+ * <p>
+ * A wrapper for a method described by a {@link BeanDescriptor} is created from the method's signature and only looks up the {@link Method} when it is first needed.
+ * </p>
+ * 
+ * @author Stewart Bissett
+ */
+class MethodWrapper {
+
+	private static final Logger LOG = LoggerFactory.getLogger(MethodWrapper.class);
+
+	private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+	private static final MethodType MUTATOR_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+	private static final MethodHandle UNRESOLVED = MethodHandles.constant(Object.class, null);
+	private static final MethodHandle UNSUPPORTED = MethodHandles.constant(Object.class, null);
+
+	private final Class<?> declaringClass;
+	private final String name;
+	private final Class<?>[] parameterTypes;
+	private final Class<?> returnType;
+	private final Class<?>[] genericArgs;
+	private volatile Method method;
+	private volatile MethodHandle direct = UNRESOLVED;
+	private volatile MethodHandle handle = UNRESOLVED;
+	private final MethodHandle[] primitiveHandles = new MethodHandle[Primitives.TYPES.length];
+
+	MethodWrapper(final Method method) {
+		this(method.getDeclaringClass(), method.getName(), method.getParameterTypes(), method.getReturnType(), null);
+		this.method = method;
+	}
+
+	/**
+	 * Create a wrapper for a method which is looked up when it is first needed. The generic arguments are the type arguments of the return type which are classes
+	 */
+	MethodWrapper(final Class<?> declaringClass, final String name, final Class<?>[] parameterTypes, final Class<?> returnType, final Class<?>[] genericArgs) {
+		this.declaringClass = declaringClass;
+		this.name = name;
+		this.parameterTypes = parameterTypes;
+		this.returnType = returnType;
+		this.genericArgs = genericArgs;
+	}
+
+	Class<?>[] genericArgs() {
+		if (genericArgs != null) {
+			return genericArgs.clone();
+		}
+		Type type = getMethod().getGenericReturnType();
+		if (type instanceof ParameterizedType) {
+			List<Class<?>> params = new ArrayList<Class<?>>();
+			for (Type arg : ((ParameterizedType) type).getActualTypeArguments()) {
+				if (arg instanceof Class<?>) {
+					params.add((Class<?>) arg);
+				}
+			}
+			return params.toArray(new Class<?>[0]);
+		} else {
+			return new Class<?>[0];
+		}
+	}
+
+	Object invoke(final Object instance) {
+		MethodHandle handle = handle();
+		if (handle == null || !accepts(instance)) {
+			return reflectiveInvoke(instance);
+		}
+		try {
+			return (Object) handle.invokeExact(instance);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+	}
+
+	boolean invoke(final Object instance, final Object value) {
+		MethodHandle handle = handle();
+		if (handle == null || !accepts(instance, value)) {
+			return reflectiveInvoke(instance, value);
+		}
+		try {
+			handle.invokeExact(instance, value);
+		} catch (Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+		return true;
+	}
+
+	/**
+	 * Return a handle which returns the primitive, or is called with the primitive, without boxing. Returns <code>null</code> if the instance cannot be passed to the handle or if
+	 * the method's own type is not a primitive which the value widens to or from, in which case the caller converts the boxed value using the same rules in {@link Primitives}
+	 */
+	MethodHandle primitiveHandle(final Object instance, final int kind) {
+		if (!accepts(instance)) {
+			return null;
+		}
+		MethodHandle handle = primitiveHandles[kind];
+		if (handle == null) {
+			handle = createPrimitiveHandle(Primitives.TYPES[kind]);
+			primitiveHandles[kind] = handle;
+		}
+		return handle == UNSUPPORTED ? null : handle;
+	}
+
+	/**
+	 * Call a handle returned by {@link #primitiveHandle(Object, int)}. There is one method for each primitive so the value is never boxed
+	 */
+	boolean invokeBoolean(final MethodHandle handle, final Object instance) {
+		try {
+			return (boolean) handle.invokeExact(instance);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+	}
+
+	byte invokeByte(final MethodHandle handle, final Object instance) {
+		try {
+			return (byte) handle.invokeExact(instance);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+	}
+
+	char invokeChar(final MethodHandle handle, final Object instance) {
+		try {
+			return (char) handle.invokeExact(instance);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+	}
+
+	short invokeShort(final MethodHandle handle, final Object instance) {
+		try {
+			return (short) handle.invokeExact(instance);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+	}
+
+	int invokeInt(final MethodHandle handle, final Object instance) {
+		try {
+			return (int) handle.invokeExact(instance);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+	}
+
+	long invokeLong(final MethodHandle handle, final Object instance) {
+		try {
+			return (long) handle.invokeExact(instance);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+	}
+
+	float invokeFloat(final MethodHandle handle, final Object instance) {
+		try {
+			return (float) handle.invokeExact(instance);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+	}
+
+	double invokeDouble(final MethodHandle handle, final Object instance) {
+		try {
+			return (double) handle.invokeExact(instance);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+	}
+
+	boolean invoke(final MethodHandle handle, final Object instance, final boolean value) {
+		try {
+			handle.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+		return true;
+	}
+
+	boolean invoke(final MethodHandle handle, final Object instance, final byte value) {
+		try {
+			handle.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+		return true;
+	}
+
+	boolean invoke(final MethodHandle handle, final Object instance, final char value) {
+		try {
+			handle.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+		return true;
+	}
+
+	boolean invoke(final MethodHandle handle, final Object instance, final short value) {
+		try {
+			handle.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+		return true;
+	}
+
+	boolean invoke(final MethodHandle handle, final Object instance, final int value) {
+		try {
+			handle.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+		return true;
+	}
+
+	boolean invoke(final MethodHandle handle, final Object instance, final long value) {
+		try {
+			handle.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+		return true;
+	}
+
+	boolean invoke(final MethodHandle handle, final Object instance, final float value) {
+		try {
+			handle.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+		return true;
+	}
+
+	boolean invoke(final MethodHandle handle, final Object instance, final double value) {
+		try {
+			handle.invokeExact(instance, value);
+		} catch (Throwable e) {
+			throw unexpectedException(instance, e);
+		}
+		return true;
+	}
+
+	/**
+	 * Test if the instance can be passed to this accessor without conversion. Checked before the accessor is called through its handle so that a failure raised by the handle is
+	 * always a failure of the method itself, and the method is never called a second time
+	 */
+	boolean accepts(final Object instance) {
+		return declaringClass.isInstance(instance);
+	}
+
+	/**
+	 * Test if the instance and value can be passed to this mutator without conversion. Values which need a conversion, such as an {@link Integer} for a <code>long</code>, are
+	 * passed reflectively
+	 */
+	boolean accepts(final Object instance, final Object value) {
+		if (!accepts(instance)) {
+			return false;
+		}
+		Class<?> parameterType = parameterTypes[0];
+		if (parameterType.isPrimitive()) {
+			return ClassUtils.primitiveToWrapper(parameterType).isInstance(value);
+		} else {
+			return value == null || parameterType.isInstance(value);
+		}
+	}
+
+	/**
+	 * Return the exception to raise when the method itself has thrown an exception. An {@link Error} is rethrown as it is
+	 */
+	BeanPropertyException unexpectedException(final Object instance, final Throwable e) {
+		if (e instanceof Error) {
+			throw (Error) e;
+		}
+		return new BeanPropertyException("Unexpected exception whilst calling '" + name + " on '" + instance.getClass().getCanonicalName() + "'", e);
+	}
+
+	Class<?> getDeclaringClass() {
+		return declaringClass;
+	}
+
+	String getName() {
+		return name;
+	}
+
+	Method getMethod() {
+		Method method = this.method;
+		if (method == null) {
+			try {
+				method = declaringClass.getMethod(name, parameterTypes);
+			} catch (NoSuchMethodException e) {
+				throw new BeanPropertyException("Method '" + name + "' does not exist on '" + declaringClass.getCanonicalName() + "'");
+			}
+			this.method = method;
+		}
+		return method;
+	}
+
+	Class<?> getReturnType() {
+		return returnType;
+	}
+
+	Class<?> getParameterType() {
+		return parameterTypes[0];
+	}
+
+	/**
+	 * Invoke the method reflectively. Used when no handle is available and to report failures which occurred whilst adapting the arguments to the handle so that the caller sees the
+	 * same errors as they would if the method was invoked reflectively.
+	 */
+	Object reflectiveInvoke(final Object instance) {
+		Method method = getMethod();
+		try {
+			return method.invoke(instance);
+		} catch (IllegalArgumentException e) {
+			throw new BeanPropertyException("Method '" + method.getName() + "' does not exist on '" + instance.getClass() + "'");
+		} catch (IllegalAccessException e) {
+			throw new BeanPropertyException("Illegal Access exception encountered whilst calling '" + method.getName() + " on '" + instance.getClass().getCanonicalName() + "'",
+					e);
+		} catch (InvocationTargetException e) {
+			throw new BeanPropertyException("Unexpected exception whilst calling '" + method.getName() + " on '" + instance.getClass().getCanonicalName() + "'", e.getCause());
+		}
+	}
+
+	boolean reflectiveInvoke(final Object instance, final Object value) {
+		Method method = getMethod();
+		try {
+			method.invoke(instance, value);
+		} catch (IllegalArgumentException e) {
+			throw new BeanPropertyException("Method '" + method.getName()
+					+ " on '"
+					+ instance.getClass().getCanonicalName()
+					+ "' expected arguments '"
+					+ StringUtils.join(method.getParameterTypes())
+					+ "'  but was supplied a '"
+					+ (value == null ? null : value.getClass().getSimpleName()), e);
+		} catch (IllegalAccessException e) {
+			throw new BeanPropertyException("Illegal Access exception encountered whilst calling '" + method.getName() + " on '" + instance.getClass().getCanonicalName() + "'", e);
+		} catch (InvocationTargetException e) {
+			throw new BeanPropertyException("Unexpected exception whilst calling '" + method.getName() + " on '" + instance.getClass().getCanonicalName() + "'",
+					e.getTargetException());
+		}
+		return true;
+	}
+
+	private MethodHandle handle() {
+		MethodHandle handle = this.handle;
+		if (handle == UNRESOLVED) {
+			handle = createHandle(direct());
+			this.handle = handle;
+		}
+		return handle;
+	}
+
+	private MethodHandle createPrimitiveHandle(final Class<?> primitive) {
+		MethodHandle direct = direct();
+		if (direct == null) {
+			return UNSUPPORTED;
+		} else if (parameterTypes.length == 0 && Primitives.widens(returnType, primitive)) {
+			return direct.asType(MethodType.methodType(primitive, Object.class));
+		} else if (parameterTypes.length == 1 && Primitives.widens(primitive, parameterTypes[0])) {
+			return direct.asType(MethodType.methodType(void.class, Object.class, primitive));
+		} else {
+			return UNSUPPORTED;
+		}
+	}
+
+	private MethodHandle direct() {
+		MethodHandle direct = this.direct;
+		if (direct == UNRESOLVED) {
+			direct = createDirectHandle(getMethod());
+			this.direct = direct;
+		}
+		return direct;
+	}
+
+	private static MethodHandle createDirectHandle(final Method method) {
+		try {
+			return MethodHandles.publicLookup().unreflect(method);
+		} catch (IllegalAccessException e) {
+			LOG.debug("Invoke '{}' reflectively. {}", method, e.getMessage());
+			return null;
+		}
+	}
+
+	private static MethodHandle createHandle(final MethodHandle direct) {
+		if (direct == null) {
+			return null;
+		}
+		switch (direct.type().parameterCount()) {
+			case 1:
+				return direct.asType(ACCESSOR_TYPE);
+			case 2:
+				return direct.asType(MUTATOR_TYPE);
+			default:
+				return null;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+package org.exparity.beans.core;
+
+/**
+ * An immutable stack of the objects visited to reach the current object. Each entry links to its parent so pushing an object is O(1) and the siblings below an object share the
+ * entries above it. The array form passed to a {@link BeanVisitor} is built once per entry and shared by every property on the object so should not be modified.
+ */
+class ObjectStack {
+
+	static final ObjectStack EMPTY = new ObjectStack(null, null, 0);
+
+	private final ObjectStack parent;
+	private final Object object;
+	private final int size;
+	private Object[] array;
+
+	private ObjectStack(final ObjectStack parent, final Object object, final int size) {
+		this.parent = parent;
+		this.object = object;
+		this.size = size;
+	}
+
+	/**
+	 * Return a new stack with the object on top of this stack. This stack is not mutated
+	 */
+	ObjectStack push(final Object object) {
+		return new ObjectStack(this, object, size + 1);
+	}
+
+	/**
+	 * Return the object on top of the stack
+	 */
+	Object peek() {
+		return object;
+	}
+
+	/**
+	 * Return the stack below the object on top of this stack
+	 */
+	ObjectStack pop() {
+		return parent;
+	}
+
+	int size() {
+		return size;
+	}
+
+	boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Return the objects on the stack with the first object pushed first in the array
+	 */
+	Object[] toArray() {
+		Object[] array = this.array;
+		if (array == null) {
+			array = new Object[size];
+			ObjectStack entry = this;
+			for (int i = size - 1; i >= 0; --i) {
+				array[i] = entry.object;
+				entry = entry.parent;
+			}
+			this.array = array;
+		}
+		return array;
+	}
+}
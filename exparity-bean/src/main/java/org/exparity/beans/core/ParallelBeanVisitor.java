@@ -0,0 +1,24 @@
+package org.exparity.beans.core;
+
+/**
+ * A {@link BeanCursorVisitor} which can be used to visit an object graph in parallel. Large collections in the graph are split between tasks and each task is given its own
+ * visitor from {@link #fork()}. Once the tasks have finished the forked visitors are passed to {@link #merge(ParallelBeanVisitor)} in the order their elements appear in the
+ * collection, so results collected by the visitor keep the order they would have had if the graph was visited on a single thread. The exception is an object reachable from
+ * more than one task when overflow is denied, which is visited once by whichever task reaches it first.
+ * <p/>
+ * A visitor which is safe to call from several threads at once can return itself from {@link #fork()} and do nothing on {@link #merge(ParallelBeanVisitor)}.
+ */
+public interface ParallelBeanVisitor extends BeanCursorVisitor {
+
+	/**
+	 * Return a visitor for a task which will visit part of the graph
+	 */
+	public ParallelBeanVisitor fork();
+
+	/**
+	 * Merge the results of a visitor returned from {@link #fork()} into this visitor
+	 *
+	 * @param forked a visitor previously returned from {@link #fork()}
+	 */
+	public void merge(final ParallelBeanVisitor forked);
+}
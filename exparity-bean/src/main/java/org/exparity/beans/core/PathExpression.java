@@ -0,0 +1,134 @@
+package org.exparity.beans.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A path to properties within an object graph which is parsed once and can then be evaluated against any number of objects. The path is relative to the object it is evaluated
+ * against, e.g. <code>orders[*].lines[*].price</code>, and is made up of property names separated by a '.', indexes or keys enclosed in '[' and ']', and the wildcard
+ * <code>[*]</code> which matches every element of an array, {@link Iterable}, or {@link Map}. Unlike {@link org.exparity.beans.Graph#propertyAtPath(String)} the path does not start
+ * with the name of the root object, although the {@link BeanProperty properties} it matches have full paths from the root, e.g. <code>customer.orders[0].lines[1].price</code>.
+ * <p/>
+ * A property whose getter throws an exception is skipped along with everything beneath it, wherever it is in the path, so the exception is never propagated.
+ * <p/>
+ * Each property name in the path keeps the {@link TypeProperty} it was last resolved to along with the class it was resolved on, so evaluating the expression against objects of
+ * the same classes calls the getters directly without looking the properties up again. Instances are safe to share between threads.
+ */
+public class PathExpression {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PathExpression.class);
+
+	private final String path;
+	private final BeanNamingStrategy naming;
+	private final PathSegment[] segments;
+	private final TypeInspector typeInspector = new TypeInspector();
+
+	public PathExpression(final String path, final BeanNamingStrategy naming) {
+		this.path = path;
+		this.naming = naming;
+		this.segments = PathSegment.parse(path);
+	}
+
+	/**
+	 * Return the values of the properties the expression matches on the instance, in the order they would be found by a graph inspection
+	 */
+	public List<Object> values(final Object instance) {
+		List<Object> values = new ArrayList<Object>();
+		if (instance != null) {
+			evaluate(instance, null, 0, values, false);
+		}
+		return values;
+	}
+
+	/**
+	 * Return the properties the expression matches on the instance, in the order they would be found by a graph inspection
+	 */
+	public List<BeanProperty> properties(final Object instance) {
+		List<BeanProperty> properties = new ArrayList<BeanProperty>();
+		if (instance != null) {
+			evaluate(instance, PathNavigator.rootPath(instance, naming), 0, properties, true);
+		}
+		return properties;
+	}
+
+	/**
+	 * Return the value of the first property the expression matches on the instance or <code>null</code> if there is no match
+	 */
+	public Object value(final Object instance) {
+		List<Object> values = values(instance);
+		return values.isEmpty() ? null : values.get(0);
+	}
+
+	/**
+	 * Return the first property the expression matches on the instance or <code>null</code> if there is no match
+	 */
+	public BeanProperty property(final Object instance) {
+		List<BeanProperty> properties = properties(instance);
+		return properties.isEmpty() ? null : properties.get(0);
+	}
+
+	/**
+	 * Return the path the expression was compiled from
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	@SuppressWarnings({
+			"unchecked", "rawtypes"
+	})
+	private void evaluate(final Object current, final BeanPropertyPath currentPath, final int index, final List results, final boolean asProperties) {
+		PathSegment segment = segments[index];
+		if (segment.isName()) {
+			if (index > 0 && PathSegment.isOpaque(current.getClass())) {
+				return;
+			}
+			TypeProperty property = segment.bind(current.getClass(), naming, typeInspector);
+			if (property == null) {
+				return;
+			}
+			BeanPropertyPath propertyPath = asProperties ? currentPath.append(property.getName()) : null;
+			if (index == segments.length - 1 && asProperties) {
+				results.add(new BeanProperty(property, propertyPath, current));
+				return;
+			}
+			Object value;
+			try {
+				value = property.getValue(current);
+			} catch (Exception e) {
+				LOG.trace("Skip {}. Exception thrown on calling get", property);
+				return;
+			}
+			if (index == segments.length - 1) {
+				results.add(value);
+			} else if (value != null) {
+				evaluate(value, propertyPath, index + 1, results, asProperties);
+			}
+		} else {
+			segment.select(current, new PathSegment.ElementHandler() {
+
+				public void element(final Object element, final int elementIndex) {
+					evaluateElement(element, asProperties ? currentPath.appendIndex(elementIndex) : null, index, results, asProperties);
+				}
+
+				public void entry(final Object value, final Object key) {
+					evaluateElement(value, asProperties ? currentPath.appendKey(key) : null, index, results, asProperties);
+				}
+			});
+		}
+	}
+
+	@SuppressWarnings("rawtypes")
+	private void evaluateElement(final Object element, final BeanPropertyPath elementPath, final int index, final List results, final boolean asProperties) {
+		if (element != null) {
+			evaluate(element, elementPath, index + 1, results, asProperties);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PathExpression [" + path + "]";
+	}
+}
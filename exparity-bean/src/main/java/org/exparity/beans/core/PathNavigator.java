@@ -0,0 +1,139 @@
+package org.exparity.beans.core;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static org.apache.commons.lang.StringUtils.equalsIgnoreCase;
+
+/**
+ * Finds the property at a path such as <code>person.siblings[1].firstname</code> by following only the getters, indexes, and map keys named in the path rather than walking
+ * the whole object. The path is matched, ignoring case, against the same paths a graph inspection would give the properties, so a property found by navigating is equal to the one
+ * a graph inspection would find with {@link org.exparity.beans.core.predicates.HasPath}.
+ */
+class PathNavigator {
+
+	private static final Logger LOG = LoggerFactory.getLogger(PathNavigator.class);
+
+	private final String path;
+	private final PathSegment[] segments;
+
+	PathNavigator(final String path) {
+		this.path = path;
+		this.segments = parse(path);
+	}
+
+	/**
+	 * Return the property at the path on the instance or <code>null</code> if any step along the path is missing or <code>null</code>
+	 */
+	BeanProperty navigate(final Object root, final BeanNamingStrategy naming, final TypeInspector typeInspector) {
+		if (root == null || segments == null) {
+			return null;
+		}
+		Object current = root;
+		BeanPropertyPath currentPath = rootPath(root, naming);
+		if (!equalsIgnoreCase(currentPath.fullPath(), segments[0].getName())) {
+			return null;
+		}
+		for (int i = 1; i < segments.length; ++i) {
+			PathSegment segment = segments[i];
+			if (current == null) {
+				return null;
+			} else if (!segment.isName()) {
+				Selection selection = new Selection(currentPath);
+				if (!segment.isWildcard()) {
+					segment.select(current, selection);
+				}
+				if (selection.path == null) {
+					return null;
+				}
+				currentPath = selection.path;
+				current = selection.value;
+			} else if (PathSegment.isOpaque(current.getClass()) && (i > 1 || !LeafTypes.isLeaf(current.getClass()))) {
+				// The root is inspected as a bean even if it is a leaf type
+				return null;
+			} else {
+				TypeProperty property = segment.bind(current.getClass(), naming, typeInspector);
+				if (property == null) {
+					return null;
+				}
+				currentPath = currentPath.append(property.getName());
+				if (i == segments.length - 1) {
+					return new BeanProperty(property, currentPath, current);
+				}
+				try {
+					current = property.getValue(current);
+				} catch (Exception e) {
+					LOG.trace("Skip {}. Exception thrown on calling get", property);
+					return null;
+				}
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Return the path a graph inspection gives the root object
+	 */
+	static BeanPropertyPath rootPath(final Object root, final BeanNamingStrategy naming) {
+		Class<?> type = root.getClass();
+		BeanPropertyPath rootPath = new BeanPropertyPath(naming.describeRoot(type));
+		if (!rootPath.isEmpty()) {
+			return rootPath;
+		} else if (type.isArray()) {
+			return new BeanPropertyPath(naming.describeType(Array.class));
+		} else if (Iterable.class.isAssignableFrom(type)) {
+			return new BeanPropertyPath(naming.describeType(Collection.class));
+		} else if (Map.class.isAssignableFrom(type)) {
+			return new BeanPropertyPath(naming.describeType(Map.class));
+		} else {
+			return new BeanPropertyPath(naming.describeType(type));
+		}
+	}
+
+	/**
+	 * Return the segments of the path or <code>null</code> if the path cannot name a property because it does not start and end with a property name
+	 */
+	private static PathSegment[] parse(final String path) {
+		try {
+			return PathSegment.parse(path);
+		} catch (IllegalArgumentException e) {
+			LOG.trace("Skip {}. {}", path, e.getMessage());
+			return null;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "PathNavigator [" + path + "]";
+	}
+
+	/**
+	 * Captures the first element or entry an index or key selects along with its path
+	 */
+	private static class Selection implements PathSegment.ElementHandler {
+
+		private final BeanPropertyPath parent;
+		private BeanPropertyPath path;
+		private Object value;
+
+		Selection(final BeanPropertyPath parent) {
+			this.parent = parent;
+		}
+
+		public void element(final Object element, final int index) {
+			if (path == null) {
+				path = parent.appendIndex(index);
+				value = element;
+			}
+		}
+
+		public void entry(final Object value, final Object key) {
+			if (path == null) {
+				path = parent.appendKey(key);
+				this.value = value;
+			}
+		}
+	}
+}
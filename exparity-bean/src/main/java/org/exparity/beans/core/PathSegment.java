@@ -0,0 +1,188 @@
+package org.exparity.beans.core;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import static org.apache.commons.lang.StringUtils.equalsIgnoreCase;
+
+/**
+ * A property name, index, key, or wildcard in a compiled path. A property name keeps the {@link TypeProperty} it was last resolved to along with the class it was resolved on, so
+ * following the segment on objects of the same class calls the getter directly without looking the property up again. Instances are safe to share between threads.
+ */
+class PathSegment {
+
+	private static final String WILDCARD = "*";
+
+	private final String name, key;
+	private final int index;
+	private volatile Binding binding;
+
+	PathSegment(final String name, final String key) {
+		this.name = name;
+		this.key = key;
+		this.index = parseIndex(key);
+	}
+
+	/**
+	 * Parse the path into its segments. Will throw an {@link IllegalArgumentException} if the path does not start and end with a property name.
+	 */
+	static PathSegment[] parse(final String path) {
+		List<PathSegment> segments = new ArrayList<PathSegment>();
+		int start = 0;
+		while (start < path.length()) {
+			char c = path.charAt(start);
+			if (c == '[') {
+				int end = path.indexOf(']', start);
+				if (end < 0) {
+					throw new IllegalArgumentException("Path '" + path + "' has an unclosed '['");
+				}
+				segments.add(new PathSegment(null, path.substring(start + 1, end)));
+				start = end + 1;
+			} else if (c == '.') {
+				++start;
+			} else {
+				int end = start;
+				while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+					++end;
+				}
+				segments.add(new PathSegment(path.substring(start, end), null));
+				start = end;
+			}
+		}
+		if (segments.isEmpty() || segments.get(0).name == null || segments.get(segments.size() - 1).name == null) {
+			throw new IllegalArgumentException("Path '" + path + "' must start and end with a property name");
+		}
+		return segments.toArray(new PathSegment[segments.size()]);
+	}
+
+	/**
+	 * Return the property name or <code>null</code> if this segment is an index, key, or wildcard
+	 */
+	String getName() {
+		return name;
+	}
+
+	boolean isName() {
+		return name != null;
+	}
+
+	boolean isWildcard() {
+		return WILDCARD.equals(key);
+	}
+
+	/**
+	 * Return the property with this segment's name on the type, using the binding from the last lookup if it was for the same type
+	 */
+	TypeProperty bind(final Class<?> type, final BeanNamingStrategy naming, final TypeInspector typeInspector) {
+		Binding binding = this.binding;
+		if (binding == null || binding.type != type) {
+			binding = new Binding(type, typeInspector.propertyNamed(type, naming, name));
+			this.binding = binding;
+		}
+		return binding.property;
+	}
+
+	/**
+	 * Pass the elements of the array, {@link Iterable}, or {@link Map} which this index, key, or wildcard selects to the handler
+	 */
+	void select(final Object container, final ElementHandler handler) {
+		if (container instanceof Map) {
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) container).entrySet()) {
+				if (isWildcard() || equalsIgnoreCase(String.valueOf(entry.getKey()), key)) {
+					handler.entry(entry.getValue(), entry.getKey());
+				}
+			}
+		} else if (container.getClass().isArray()) {
+			int length = Array.getLength(container);
+			if (isWildcard()) {
+				for (int i = 0; i < length; ++i) {
+					handler.element(Array.get(container, i), i);
+				}
+			} else if (index >= 0 && index < length) {
+				handler.element(Array.get(container, index), index);
+			}
+		} else if (container instanceof List && !isWildcard()) {
+			List<?> list = (List<?>) container;
+			if (index >= 0 && index < list.size()) {
+				handler.element(list.get(index), index);
+			}
+		} else if (container instanceof Iterable) {
+			Iterator<?> iterator = ((Iterable<?>) container).iterator();
+			for (int i = 0; iterator.hasNext() && (isWildcard() || i <= index); ++i) {
+				Object element = iterator.next();
+				if (isWildcard() || i == index) {
+					handler.element(element, i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Return <code>true</code> if a property name cannot be followed on an object of the type because it is a container or a {@link LeafTypes leaf type}
+	 */
+	static boolean isOpaque(final Class<?> type) {
+		return type.isArray() || Iterable.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type) || LeafTypes.isLeaf(type);
+	}
+
+	private static int parseIndex(final String key) {
+		try {
+			return key == null ? -1 : Integer.parseInt(key);
+		} catch (NumberFormatException e) {
+			return -1;
+		}
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof PathSegment)) {
+			return false;
+		}
+		PathSegment rhs = (PathSegment) obj;
+		return name == null ? rhs.name == null && key.equals(rhs.key) : name.equals(rhs.name);
+	}
+
+	@Override
+	public int hashCode() {
+		return name == null ? key.hashCode() : name.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return name == null ? "[" + key + "]" : name;
+	}
+
+	/**
+	 * Callback for each element selected from an array, {@link Iterable}, or {@link Map}
+	 */
+	interface ElementHandler {
+
+		/**
+		 * Callback for an element of an array or {@link Iterable} at the index
+		 */
+		void element(final Object element, final int index);
+
+		/**
+		 * Callback for the value of a {@link Map} entry with the key
+		 */
+		void entry(final Object value, final Object key);
+	}
+
+	/**
+	 * The property a name resolved to on a type. The property is <code>null</code> if the type has no property with the name.
+	 */
+	private static class Binding {
+
+		private final Class<?> type;
+		private final TypeProperty property;
+
+		Binding(final Class<?> type, final TypeProperty property) {
+			this.type = type;
+			this.property = property;
+		}
+	}
+}
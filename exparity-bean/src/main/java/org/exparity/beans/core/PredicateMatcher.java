@@ -0,0 +1,76 @@
+package org.exparity.beans.core;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import static org.exparity.beans.core.TypeMatch.DEPENDS;
+import static org.exparity.beans.core.TypeMatch.MATCH;
+import static org.exparity.beans.core.TypeMatch.NO_MATCH;
+
+/**
+ * Tests a {@link BeanPropertyPredicate} against the properties a {@link BeanCursor} is moved over. If the predicate is a {@link TypePropertyPredicate} its type-level result is
+ * kept for each class in a bitset indexed by the slot of the property, so it is only worked out once per class and property for the life of the matcher. An instance is not safe
+ * to share between threads.
+ */
+public class PredicateMatcher {
+
+	private static final int BITS_PER_SLOT = 2, UNKNOWN = 0;
+	private static final TypeMatch[] MATCHES = {
+			null, MATCH, NO_MATCH, DEPENDS
+	};
+
+	private final BeanPropertyPredicate predicate;
+	private final TypePropertyPredicate typePredicate;
+	private final Map<Class<?>, long[]> matchesByType = new IdentityHashMap<Class<?>, long[]>();
+	private Class<?> lastType;
+	private long[] lastMatches;
+
+	public PredicateMatcher(final BeanPropertyPredicate predicate) {
+		this.predicate = predicate;
+		this.typePredicate = predicate instanceof TypePropertyPredicate ? (TypePropertyPredicate) predicate : null;
+	}
+
+	/**
+	 * Return a {@link BeanProperty} for the property the cursor is positioned on if the predicate matches it, otherwise return <code>null</code>
+	 */
+	public BeanProperty match(final BeanCursor cursor) {
+		TypeMatch match = typePredicate == null ? DEPENDS : typeMatch(cursor.getInstance().getClass(), cursor.getProperty());
+		if (NO_MATCH.equals(match)) {
+			return null;
+		}
+		BeanProperty property = cursor.toBeanProperty();
+		return MATCH.equals(match) || predicate.matches(property) ? property : null;
+	}
+
+	/**
+	 * Return the predicate this matcher tests
+	 */
+	public BeanPropertyPredicate getPredicate() {
+		return predicate;
+	}
+
+	private TypeMatch typeMatch(final Class<?> type, final TypeProperty property) {
+		long[] matches = type == lastType ? lastMatches : matchesByType.get(type);
+		int bit = property.getSlot() * BITS_PER_SLOT, word = bit >>> 6;
+		if (matches == null || word >= matches.length) {
+			matches = grow(type, matches, word + 1);
+		}
+		lastType = type;
+		lastMatches = matches;
+		int state = (int) (matches[word] >>> (bit & 63)) & 3;
+		if (state == UNKNOWN) {
+			TypeMatch match = typePredicate.matchesType(property);
+			matches[word] |= (long) (match.ordinal() + 1) << (bit & 63);
+			return match;
+		}
+		return MATCHES[state];
+	}
+
+	private long[] grow(final Class<?> type, final long[] matches, final int length) {
+		long[] grown = new long[length];
+		if (matches != null) {
+			System.arraycopy(matches, 0, grown, 0, matches.length);
+		}
+		matchesByType.put(type, grown);
+		return grown;
+	}
+}
@@ -0,0 +1,108 @@
+package org.exparity.beans.core;
+
+import org.apache.commons.lang.ClassUtils;
+
+/**
+ * The conversions used to get and set a property as a primitive. A value can be read as a primitive if it is a boxed primitive which widens to that primitive, and a primitive
+ * can be set on a property whose type it widens to or whose type accepts the boxed primitive. Widening follows the widening primitive conversions of the Java Language
+ * Specification, which are also the conversions applied by {@link java.lang.invoke.MethodHandle#asType(java.lang.invoke.MethodType)} and by reflection. A narrowing conversion
+ * is never applied.
+ */
+final class Primitives {
+
+	static final int BOOLEAN = 0, BYTE = 1, CHAR = 2, SHORT = 3, INT = 4, LONG = 5, FLOAT = 6, DOUBLE = 7;
+	static final Class<?>[] TYPES = {
+			boolean.class, byte.class, char.class, short.class, int.class, long.class, float.class, double.class
+	};
+
+	private Primitives() {}
+
+	/**
+	 * Test if a value of the primitive type can be converted to the other primitive type without a narrowing conversion
+	 */
+	static boolean widens(final Class<?> from, final Class<?> to) {
+		if (from.equals(to)) {
+			return from.isPrimitive();
+		} else if (from.equals(byte.class)) {
+			return to.equals(short.class) || widens(short.class, to);
+		} else if (from.equals(short.class) || from.equals(char.class)) {
+			return to.equals(int.class) || widens(int.class, to);
+		} else if (from.equals(int.class)) {
+			return to.equals(long.class) || widens(long.class, to);
+		} else if (from.equals(long.class)) {
+			return to.equals(float.class) || widens(float.class, to);
+		} else if (from.equals(float.class)) {
+			return to.equals(double.class);
+		} else {
+			return false;
+		}
+	}
+
+	static boolean toBoolean(final Object value, final AbstractProperty property) {
+		return ((Boolean) convertible(value, BOOLEAN, property)).booleanValue();
+	}
+
+	static byte toByte(final Object value, final AbstractProperty property) {
+		return ((Number) convertible(value, BYTE, property)).byteValue();
+	}
+
+	static char toChar(final Object value, final AbstractProperty property) {
+		return ((Character) convertible(value, CHAR, property)).charValue();
+	}
+
+	static short toShort(final Object value, final AbstractProperty property) {
+		return ((Number) convertible(value, SHORT, property)).shortValue();
+	}
+
+	static int toInt(final Object value, final AbstractProperty property) {
+		Object convertible = convertible(value, INT, property);
+		return convertible instanceof Character ? ((Character) convertible).charValue() : ((Number) convertible).intValue();
+	}
+
+	static long toLong(final Object value, final AbstractProperty property) {
+		Object convertible = convertible(value, LONG, property);
+		return convertible instanceof Character ? ((Character) convertible).charValue() : ((Number) convertible).longValue();
+	}
+
+	static float toFloat(final Object value, final AbstractProperty property) {
+		Object convertible = convertible(value, FLOAT, property);
+		return convertible instanceof Character ? ((Character) convertible).charValue() : ((Number) convertible).floatValue();
+	}
+
+	static double toDouble(final Object value, final AbstractProperty property) {
+		Object convertible = convertible(value, DOUBLE, property);
+		return convertible instanceof Character ? ((Character) convertible).charValue() : ((Number) convertible).doubleValue();
+	}
+
+	/**
+	 * Return the boxed primitive to set on a property of the given type, or throw a {@link BeanPropertyException} if the property cannot be set from the primitive
+	 */
+	static Object settable(final Object value, final int kind, final Class<?> type, final AbstractProperty property) {
+		if (type.isPrimitive() ? widens(TYPES[kind], type) : type.isInstance(value)) {
+			return value;
+		}
+		throw new BeanPropertyException("Property '" + property.getName()
+				+ "' on '"
+				+ property.getDeclaringTypeCanonicalName()
+				+ "' of type '"
+				+ type.getName()
+				+ "' cannot be set from a '"
+				+ TYPES[kind]
+				+ "'");
+	}
+
+	private static Object convertible(final Object value, final int kind, final AbstractProperty property) {
+		Class<?> type = value == null ? null : ClassUtils.wrapperToPrimitive(value.getClass());
+		if (type != null && widens(type, TYPES[kind])) {
+			return value;
+		}
+		throw new BeanPropertyException("Property '" + property.getName()
+				+ "' on '"
+				+ property.getDeclaringTypeCanonicalName()
+				+ "' has the value '"
+				+ value
+				+ "' which cannot be read as a '"
+				+ TYPES[kind]
+				+ "'");
+	}
+}
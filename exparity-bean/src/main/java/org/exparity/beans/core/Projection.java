@@ -0,0 +1,172 @@
+package org.exparity.beans.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A set of paths which are parsed once into a tree of segments and then evaluated together against any number of objects, e.g. <code>id</code>, <code>customer.name</code>,
+ * and <code>lines[*].sku</code>. Paths which start with the same segments share the nodes for them, so each object is walked once and a getter common to several paths is only
+ * called once however many columns need it.
+ * <p/>
+ * Each object is projected to a {@link Row} with a column for each path. A path with a wildcard has a {@link List} of the values it matched as its column, any other path has the
+ * value it matched or <code>null</code>. A property whose getter throws an exception is skipped, as for a {@link PathExpression}, so leaves its column and the columns beneath it
+ * without a value. Instances are safe to share between threads.
+ */
+public class Projection {
+
+	private static final Logger LOG = LoggerFactory.getLogger(Projection.class);
+
+	private final String[] paths;
+	private final boolean[] multiValued;
+	private final BeanNamingStrategy naming;
+	private final Node root = new Node(null);
+	private final TypeInspector typeInspector = new TypeInspector();
+
+	public Projection(final String[] paths, final BeanNamingStrategy naming) {
+		this.paths = paths.clone();
+		this.multiValued = new boolean[paths.length];
+		this.naming = naming;
+		for (int column = 0; column < paths.length; ++column) {
+			Node node = root;
+			for (PathSegment segment : PathSegment.parse(paths[column])) {
+				node = node.child(segment);
+				multiValued[column] |= segment.isWildcard();
+			}
+			node.addColumn(column);
+		}
+	}
+
+	/**
+	 * Return a row with the values of each path on the instance
+	 */
+	public Row project(final Object instance) {
+		Object[] values = new Object[paths.length];
+		for (int column = 0; column < paths.length; ++column) {
+			if (multiValued[column]) {
+				values[column] = new ArrayList<Object>();
+			}
+		}
+		if (instance != null) {
+			for (Node child : root.children) {
+				evaluate(child, instance, true, values);
+			}
+		}
+		return new Row(paths, values);
+	}
+
+	/**
+	 * Return a row for each of the instances in the order they are iterated
+	 */
+	public List<Row> projectAll(final Iterable<?> instances) {
+		List<Row> rows = new ArrayList<Row>();
+		for (Object instance : instances) {
+			rows.add(project(instance));
+		}
+		return rows;
+	}
+
+	/**
+	 * Return the paths projected to each column
+	 */
+	public String[] getPaths() {
+		return paths.clone();
+	}
+
+	private void evaluate(final Node node, final Object current, final boolean atRoot, final Object[] values) {
+		if (node.segment.isName()) {
+			if (!atRoot && PathSegment.isOpaque(current.getClass())) {
+				return;
+			}
+			TypeProperty property = node.segment.bind(current.getClass(), naming, typeInspector);
+			if (property == null) {
+				return;
+			}
+			Object value;
+			try {
+				value = property.getValue(current);
+			} catch (Exception e) {
+				LOG.trace("Skip {}. Exception thrown on calling get", property);
+				return;
+			}
+			for (int column : node.columns) {
+				capture(column, value, values);
+			}
+			if (value != null) {
+				evaluateChildren(node, value, values);
+			}
+		} else {
+			node.segment.select(current, new PathSegment.ElementHandler() {
+
+				public void element(final Object element, final int index) {
+					evaluateChildren(node, element, values);
+				}
+
+				public void entry(final Object value, final Object key) {
+					evaluateChildren(node, value, values);
+				}
+			});
+		}
+	}
+
+	private void evaluateChildren(final Node node, final Object current, final Object[] values) {
+		if (current != null) {
+			for (Node child : node.children) {
+				evaluate(child, current, false, values);
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void capture(final int column, final Object value, final Object[] values) {
+		if (multiValued[column]) {
+			((List<Object>) values[column]).add(value);
+		} else if (values[column] == null) {
+			values[column] = value;
+		}
+	}
+
+	@Override
+	public String toString() {
+		return "Projection " + Arrays.toString(paths);
+	}
+
+	/**
+	 * A segment shared by every path which starts with the same segments, with the columns whose paths end at it
+	 */
+	private static class Node {
+
+		private static final Node[] NO_CHILDREN = new Node[0];
+		private static final int[] NO_COLUMNS = new int[0];
+
+		private final PathSegment segment;
+		private final Map<PathSegment, Node> childrenBySegment = new LinkedHashMap<PathSegment, Node>();
+		private Node[] children = NO_CHILDREN;
+		private int[] columns = NO_COLUMNS;
+
+		Node(final PathSegment segment) {
+			this.segment = segment;
+		}
+
+		Node child(final PathSegment segment) {
+			Node child = childrenBySegment.get(segment);
+			if (child == null) {
+				child = new Node(segment);
+				childrenBySegment.put(segment, child);
+				children = childrenBySegment.values().toArray(new Node[childrenBySegment.size()]);
+			}
+			return child;
+		}
+
+		void addColumn(final int column) {
+			int[] columns = new int[this.columns.length + 1];
+			System.arraycopy(this.columns, 0, columns, 0, this.columns.length);
+			columns[this.columns.length] = column;
+			this.columns = columns;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package org.exparity.beans.core;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * A single inspection of an object which recurses on the call stack for each object it enters
+ */
+class RecursiveInspection extends Inspection {
+
+	RecursiveInspection(final BeanNamingStrategy naming,
+			final BeanTraversalVisitor visitor,
+			final IdentitySet inspected,
+			final boolean inspectChildren,
+			final AtomicBoolean stop,
+			final boolean memoizeValues) {
+		super(naming, visitor, inspected, inspectChildren, stop, memoizeValues);
+	}
+
+	@Override
+	void enterBean(final Object instance, final List<TypeProperty> properties, final BeanPropertyPath path, final ObjectStack stack) {
+		for (TypeProperty property : properties) {
+			if (stop.get() || !visitProperty(instance, property, path, stack)) {
+				return;
+			}
+		}
+	}
+
+	@Override
+	void enterArray(final ObjectStack stack, final BeanPropertyPath path, final Object instance) {
+		logInspection(path, "Array", instance);
+		BeanPropertyPath arrayPath = containerPath(path, Array.class);
+		for (int i = 0; i < Array.getLength(instance) && !stop.get(); ++i) {
+			enterValue(stack, arrayPath.appendIndex(i), Array.get(instance, i));
+		}
+	}
+
+	@Override
+	void enterIterable(final ObjectStack stack, final BeanPropertyPath path, final Iterable<?> instance) {
+		logInspection(path, "Iterable", instance);
+		BeanPropertyPath iterablePath = containerPath(path, Collection.class);
+		int seq = 0;
+		for (Object object : instance) {
+			if (stop.get()) {
+				return;
+			}
+			enterValue(stack, iterablePath.appendIndex(seq++), object);
+		}
+	}
+
+	@Override
+	void enterMap(final ObjectStack stack, final BeanPropertyPath path, final Map<?, ?> instance) {
+		logInspection(path, "Map", instance);
+		BeanPropertyPath mapPath = containerPath(path, Map.class);
+		for (Map.Entry<?, ?> entry : instance.entrySet()) {
+			if (stop.get()) {
+				return;
+			}
+			enterValue(stack, mapPath.appendKey(entry.getKey()), entry.getValue());
+		}
+	}
+}
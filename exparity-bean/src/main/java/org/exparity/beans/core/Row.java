@@ -0,0 +1,80 @@
+package org.exparity.beans.core;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The values of the paths of a {@link Projection} on a single object, in the order the paths were given. The paths are shared by every row of the projection.
+ */
+public class Row {
+
+	private final String[] paths;
+	private final Object[] values;
+
+	Row(final String[] paths, final Object[] values) {
+		this.paths = paths;
+		this.values = values;
+	}
+
+	/**
+	 * Return the value of the column at the index
+	 */
+	public Object get(final int column) {
+		return values[column];
+	}
+
+	/**
+	 * Return the value of the column at the index cast to the given type. Will throw a {@link ClassCastException} if the value is not of the given type.
+	 */
+	public <T> T get(final int column, final Class<T> type) {
+		return type.cast(values[column]);
+	}
+
+	/**
+	 * Return the value of the column for the path. Will throw an {@link IllegalArgumentException} if the path was not projected.
+	 */
+	public Object get(final String path) {
+		for (int column = 0; column < paths.length; ++column) {
+			if (paths[column].equals(path)) {
+				return values[column];
+			}
+		}
+		throw new IllegalArgumentException("Path '" + path + "' is not in the projection " + Arrays.toString(paths));
+	}
+
+	/**
+	 * Return the number of columns in the row
+	 */
+	public int size() {
+		return values.length;
+	}
+
+	/**
+	 * Return the values of the columns in the order the paths were given
+	 */
+	public List<Object> values() {
+		return Arrays.asList(values.clone());
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof Row)) {
+			return false;
+		}
+		Row rhs = (Row) obj;
+		return Arrays.equals(paths, rhs.paths) && Arrays.equals(values, rhs.values);
+	}
+
+	@Override
+	public int hashCode() {
+		return Arrays.hashCode(values);
+	}
+
+	@Override
+	public String toString() {
+		return "Row " + Arrays.toString(values);
+	}
+}
@@ -0,0 +1,27 @@
+package org.exparity.beans.core;
+
+/**
+ * The result returned by a {@link BeanTraversalVisitor} to direct how the walk of an object continues after a property is visited
+ */
+public enum TraversalControl {
+
+	/**
+	 * Continue into the value of the property and then on to the next property
+	 */
+	CONTINUE,
+
+	/**
+	 * Do not inspect the value of the property but continue on to the next property
+	 */
+	SKIP_CHILDREN,
+
+	/**
+	 * Do not inspect the value of the property or the remaining properties on the same object
+	 */
+	SKIP_SIBLINGS,
+
+	/**
+	 * Stop the visit
+	 */
+	STOP
+}
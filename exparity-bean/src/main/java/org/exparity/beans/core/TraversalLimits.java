@@ -0,0 +1,130 @@
+package org.exparity.beans.core;
+
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import static org.exparity.beans.core.TraversalControl.CONTINUE;
+import static org.exparity.beans.core.TraversalControl.SKIP_CHILDREN;
+
+/**
+ * Declarative limits on how much of an object graph is walked. The limits are applied before the visitor is called so the getters on the parts of the graph which are excluded are
+ * never called.
+ * <ul>
+ * <li>A maximum depth stops the walk descending below the properties at that depth. The properties on the root object are at depth 0.</li>
+ * <li>Include path prefixes restrict the visit to the properties at or below one of the prefixes. The properties on the way to a prefix are walked but not visited.</li>
+ * <li>Exclude path prefixes remove the properties at or below one of the prefixes from the visit.</li>
+ * </ul>
+ * Path prefixes are matched against the path of a property with any indexes removed, e.g. <code>order.lines.price</code> or <code>order.lines[*].price</code> both match
+ * <code>order.lines[3].price</code>. Instances are immutable.
+ */
+public final class TraversalLimits {
+
+	/**
+	 * Limits which allow the whole graph to be walked
+	 */
+	public static final TraversalLimits NONE = new TraversalLimits(Integer.MAX_VALUE, new String[0], new String[0]);
+
+	private static final Pattern INDEX_PATTERN = Pattern.compile("\\[[^\\]]*\\]");
+	private static final String PATH_SEPERATOR = ".";
+
+	private final int maxDepth;
+	private final String[] includes, excludes;
+
+	private TraversalLimits(final int maxDepth, final String[] includes, final String[] excludes) {
+		this.maxDepth = maxDepth;
+		this.includes = includes;
+		this.excludes = excludes;
+	}
+
+	/**
+	 * Return a copy of these limits which does not descend below the properties at the given depth
+	 */
+	public TraversalLimits withMaxDepth(final int maxDepth) {
+		if (maxDepth < 0) {
+			throw new IllegalArgumentException("Maximum depth '" + maxDepth + "' cannot be negative");
+		}
+		return new TraversalLimits(maxDepth, includes, excludes);
+	}
+
+	/**
+	 * Return a copy of these limits which only visits the properties at or below one of the given path prefixes or any prefix already included
+	 */
+	public TraversalLimits withIncludes(final String... prefixes) {
+		return new TraversalLimits(maxDepth, concat(includes, prefixes), excludes);
+	}
+
+	/**
+	 * Return a copy of these limits which does not visit the properties at or below one of the given path prefixes or any prefix already excluded
+	 */
+	public TraversalLimits withExcludes(final String... prefixes) {
+		return new TraversalLimits(maxDepth, includes, concat(excludes, prefixes));
+	}
+
+	/**
+	 * Return <code>true</code> if these limits allow the whole graph to be walked
+	 */
+	public boolean isUnlimited() {
+		return maxDepth == Integer.MAX_VALUE && includes.length == 0 && excludes.length == 0;
+	}
+
+	/**
+	 * Return a visitor which applies these limits before passing the properties which are within them on to the supplied visitor
+	 */
+	BeanTraversalVisitor limit(final BeanTraversalVisitor visitor) {
+		if (isUnlimited()) {
+			return visitor;
+		}
+		return new BeanTraversalVisitor() {
+
+			public TraversalControl visit(final BeanCursor cursor) {
+				boolean visited = true;
+				if (includes.length > 0 || excludes.length > 0) {
+					String path = cursor.getPath().fullPathWithNoIndexes();
+					if (isBelowAny(path, excludes)) {
+						return SKIP_CHILDREN;
+					} else if (includes.length > 0 && !isBelowAny(path, includes)) {
+						if (!isAboveAny(path, includes)) {
+							return SKIP_CHILDREN;
+						}
+						visited = false;
+					}
+				}
+				TraversalControl control = visited ? visitor.visit(cursor) : CONTINUE;
+				if (CONTINUE.equals(control) && cursor.getDepth() >= maxDepth) {
+					return SKIP_CHILDREN;
+				}
+				return control;
+			}
+		};
+	}
+
+	private static boolean isBelowAny(final String path, final String[] prefixes) {
+		for (String prefix : prefixes) {
+			if (path.startsWith(prefix) && (path.length() == prefix.length() || path.startsWith(PATH_SEPERATOR, prefix.length()))) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isAboveAny(final String path, final String[] prefixes) {
+		for (String prefix : prefixes) {
+			if (prefix.length() > path.length() && prefix.startsWith(path) && prefix.startsWith(PATH_SEPERATOR, path.length())) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static String[] concat(final String[] existing, final String[] prefixes) {
+		String[] combined = Arrays.copyOf(existing, existing.length + prefixes.length);
+		for (int i = 0; i < prefixes.length; ++i) {
+			combined[existing.length + i] = INDEX_PATTERN.matcher(prefixes[i]).replaceAll("");
+		}
+		return combined;
+	}
+
+	@Override
+	public String toString() {
+		return "TraversalLimits [maxDepth=" + maxDepth + ", includes=" + Arrays.toString(includes) + ", excludes=" + Arrays.toString(excludes) + "]";
+	}
+}
@@ -0,0 +1,353 @@
+
+package org.exparity.beans.core;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.exparity.beans.core.naming.AbstractNamingStrategy;
+import org.exparity.beans.core.naming.CamelCaseNamingStrategy;
+import org.exparity.beans.core.naming.ForceRootNameNamingStrategy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import static java.lang.System.identityHashCode;
+
+/**
+ * Helper class which inspects the bean and exposes the properties of the bean to support the visitor pattern
+ * 
+ * @author Stewart Bissett
+ */
+public class TypeInspector {
+
+	private static final Logger LOG = LoggerFactory.getLogger(TypeInspector.class);
+
+	private static final String SET_PREFIX = "set";
+	private static final String GET_PREFIX = "get";
+	private static final String IS_PREFIX = "is";
+
+	/**
+	 * Process-wide cache of the property tables for each class, keyed in turn by the naming strategy used to name the properties. Held against the class through a
+	 * {@link ClassValue} so the entries are released if the class is unloaded
+	 */
+	private static final ClassValue<ConcurrentMap<BeanNamingStrategy, TypeMetadata>> METADATA = new ClassValue<ConcurrentMap<BeanNamingStrategy, TypeMetadata>>() {
+
+		@Override
+		protected ConcurrentMap<BeanNamingStrategy, TypeMetadata> computeValue(final Class<?> type) {
+			return new ConcurrentHashMap<BeanNamingStrategy, TypeMetadata>();
+		}
+	};
+
+	/**
+	 * Naming and ordering strategies can only be used as a cache key if their own class defines equality. An inherited equals may not compare the state a subclass adds, and
+	 * without equality every new instance of the strategy would add another entry to the cache
+	 */
+	private static final ClassValue<Boolean> CACHEABLE = new ClassValue<Boolean>() {
+
+		@Override
+		protected Boolean computeValue(final Class<?> type) {
+			try {
+				return type.equals(type.getMethod("equals", Object.class).getDeclaringClass());
+			} catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	};
+
+	/**
+	 * Naming strategies which describe a property from its method name. A strategy which overrides only one of the two ways of describing a property is always given the
+	 * {@link Method}
+	 */
+	private static final ClassValue<Boolean> NAMED_BY_METHOD_NAME = new ClassValue<Boolean>() {
+
+		@Override
+		protected Boolean computeValue(final Class<?> type) {
+			if (!AbstractNamingStrategy.class.isAssignableFrom(type)) {
+				return false;
+			}
+			try {
+				Class<?> byName = type.getMethod("describeProperty", String.class, String.class).getDeclaringClass();
+				return !byName.equals(AbstractNamingStrategy.class) && byName.equals(type.getMethod("describeProperty", Method.class, String.class).getDeclaringClass());
+			} catch (NoSuchMethodException e) {
+				return false;
+			}
+		}
+	};
+
+	/**
+	 * Inspect the supplied object and fire callbacks on the supplied {@link BeanVisitor} for every property exposed on the object
+	 * 
+	 * @param instance an object instance to inspect for Java Bean properties
+	 * @param visitor the visitor to raise events when Java Bean properties are found
+	 */
+	public void inspect(final Class<?> type, final TypeVisitor visitor) {
+		inspect(type, new CamelCaseNamingStrategy(), visitor);
+	}
+
+	/**
+	 * Inspect the supplied object and fire callbacks on the supplied {@link BeanVisitor} for every property exposed on the object
+	 * 
+	 * @param instance an object instance to inspect for Java Bean properties
+	 * @param naming the naming strategy to use for the Java Bean properties
+	 * @param visitor the visitor to raise events when Java Bean properties are found
+	 */
+	public void inspect(final Class<?> type, final BeanNamingStrategy naming, final TypeVisitor visitor) {
+		inspectType(type, naming, visitor);
+	}
+
+	/**
+	 * Return the get/set properties on the type. The list is shared and cannot be modified
+	 */
+	public List<TypeProperty> propertyList(final Class<?> type, final BeanNamingStrategy naming) {
+		return metadata(type, naming).getProperties();
+	}
+
+	/**
+	 * Return the get/set properties on the type sorted by the ordering strategy. The list is shared and cannot be modified
+	 */
+	public List<TypeProperty> propertyList(final Class<?> type, final BeanNamingStrategy naming, final BeanPropertyOrderingStrategy orderBy) {
+		TypeMetadata metadata = metadata(type, naming);
+		if (!CACHEABLE.get(orderBy.getClass())) {
+			return TypeMetadata.sort(metadata.getProperties(), orderBy);
+		}
+		return metadata.getProperties(orderBy);
+	}
+
+	/**
+	 * Return the get/set properties on the type keyed on the property name. The map is shared and cannot be modified
+	 */
+	public Map<String, TypeProperty> propertyMap(final Class<?> type, final BeanNamingStrategy naming) {
+		return metadata(type, naming).getPropertyMap();
+	}
+
+	/**
+	 * Return the accessors on the type. The list is shared and cannot be modified
+	 */
+	public List<ImmutableTypeProperty> accessorList(final Class<?> type, final BeanNamingStrategy naming) {
+		return metadata(type, naming).getAccessors();
+	}
+
+	/**
+	 * Return the accessor on the type with the given name, ignoring case, or <code>null</code> if the type has no such accessor
+	 */
+	public ImmutableTypeProperty accessorNamed(final Class<?> type, final BeanNamingStrategy naming, final String name) {
+		return metadata(type, naming).getAccessor(name);
+	}
+
+	/**
+	 * Return the get/set property on the type with the given name, ignoring case, or <code>null</code> if the type has no such property
+	 */
+	public TypeProperty propertyNamed(final Class<?> type, final BeanNamingStrategy naming, final String name) {
+		return metadata(type, naming).getProperty(name);
+	}
+
+	/**
+	 * Return the property table for the type, introspecting the type only the first time it is requested for the given naming strategy
+	 */
+	TypeMetadata metadata(final Class<?> type, final BeanNamingStrategy strategy) {
+		BeanNamingStrategy naming = tableNaming(strategy);
+		if (!CACHEABLE.get(naming.getClass())) {
+			return introspect(type, naming);
+		}
+		ConcurrentMap<BeanNamingStrategy, TypeMetadata> cache = METADATA.get(type);
+		TypeMetadata metadata = cache.get(naming);
+		if (metadata == null) {
+			TypeMetadata computed = introspect(type, naming);
+			metadata = cache.putIfAbsent(naming, computed);
+			if (metadata == null) {
+				metadata = computed;
+			}
+		}
+		return metadata;
+	}
+
+	/**
+	 * Return the strategy which names the properties. The root name does not appear in the property table so a forced root name is not part of the cache key
+	 */
+	private BeanNamingStrategy tableNaming(final BeanNamingStrategy naming) {
+		BeanNamingStrategy tableNaming = naming;
+		while (tableNaming instanceof ForceRootNameNamingStrategy && ((ForceRootNameNamingStrategy) tableNaming).getDelegate() != null) {
+			tableNaming = ((ForceRootNameNamingStrategy) tableNaming).getDelegate();
+		}
+		return tableNaming;
+	}
+
+	private TypeMetadata introspect(final Class<?> type, final BeanNamingStrategy naming) {
+		BeanDescriptor descriptor = BeanDescriptors.descriptorFor(type);
+		if (descriptor != null) {
+			LOG.trace("Describe [{}] using [{}]", type, descriptor.getClass());
+			return tabulate(type, describedAccessors(descriptor), describedMutators(descriptor), descriptor.getBeanAccessor(), naming);
+		}
+		LOG.trace("Introspect [{}]", type);
+		List<MethodWrapper> accessors = new ArrayList<MethodWrapper>(), mutators = new ArrayList<MethodWrapper>();
+		for (Method method : type.getMethods()) {
+			if (isAccessor(method)) {
+				accessors.add(new MethodWrapper(method));
+			} else if (isSetter(method)) {
+				mutators.add(new MethodWrapper(method));
+			}
+		}
+		return tabulate(type, accessors, mutators, null, naming);
+	}
+
+	private List<MethodWrapper> describedAccessors(final BeanDescriptor descriptor) {
+		String[] names = descriptor.getAccessorNames();
+		Class<?>[] declaringTypes = descriptor.getAccessorDeclaringTypes(), types = descriptor.getAccessorTypes();
+		Class<?>[][] typeArguments = descriptor.getAccessorTypeArguments();
+		List<MethodWrapper> accessors = new ArrayList<MethodWrapper>();
+		for (int i = 0; i < names.length; ++i) {
+			accessors.add(new MethodWrapper(declaringTypes[i], names[i], new Class<?>[0], types[i], typeArguments[i]));
+		}
+		return accessors;
+	}
+
+	private List<MethodWrapper> describedMutators(final BeanDescriptor descriptor) {
+		String[] names = descriptor.getMutatorNames();
+		Class<?>[] declaringTypes = descriptor.getMutatorDeclaringTypes(), types = descriptor.getMutatorTypes();
+		List<MethodWrapper> mutators = new ArrayList<MethodWrapper>();
+		for (int i = 0; i < names.length; ++i) {
+			mutators.add(new MethodWrapper(declaringTypes[i], names[i], new Class<?>[] {
+					types[i]
+			}, void.class, new Class<?>[0]));
+		}
+		return mutators;
+	}
+
+	/**
+	 * Pair the accessors and mutators into the property table for the type. Used for both introspected and described types so that both produce the same properties. The
+	 * properties are called through the {@link BeanAccessor} supplied by a descriptor, which gets and sets using the indexes of the accessors and mutators, or through a
+	 * {@link DefaultBeanAccessor} if the type was introspected
+	 */
+	private TypeMetadata tabulate(final Class<?> type,
+			final List<MethodWrapper> accessors,
+			final List<MethodWrapper> mutators,
+			final BeanAccessor describedAccessor,
+			final BeanNamingStrategy naming) {
+		Map<String, List<Integer>> mutatorMap = createMutatorMap(mutators, naming);
+		List<String> propertyNames = new ArrayList<String>();
+		List<Integer> accessorIndexes = new ArrayList<Integer>(), mutatorIndexes = new ArrayList<Integer>();
+		List<ImmutableTypeProperty> immutableProperties = new ArrayList<ImmutableTypeProperty>();
+		for (int i = 0; i < accessors.size(); ++i) {
+			MethodWrapper accessor = accessors.get(i);
+			String propertyName = toPropertyName(accessor, accessorPrefix(accessor.getName()), naming);
+			immutableProperties.add(new ImmutableTypeProperty(propertyName, accessor));
+			int mutator = getMutatorFor(propertyName, accessor.getReturnType(), mutatorMap, mutators);
+			if (mutator >= 0) {
+				propertyNames.add(propertyName);
+				accessorIndexes.add(i);
+				mutatorIndexes.add(mutator);
+			}
+		}
+		MethodWrapper[] propertyAccessors = new MethodWrapper[propertyNames.size()], propertyMutators = new MethodWrapper[propertyNames.size()];
+		for (int slot = 0; slot < propertyNames.size(); ++slot) {
+			propertyAccessors[slot] = accessors.get(accessorIndexes.get(slot));
+			propertyMutators[slot] = mutators.get(mutatorIndexes.get(slot));
+		}
+		BeanAccessor beanAccessor;
+		if (describedAccessor != null) {
+			beanAccessor = new DescribedBeanAccessor(describedAccessor, propertyAccessors, propertyMutators, toArray(accessorIndexes), toArray(mutatorIndexes));
+		} else {
+			beanAccessor = new DefaultBeanAccessor(type, propertyAccessors, propertyMutators);
+		}
+		List<TypeProperty> properties = new ArrayList<TypeProperty>();
+		for (int slot = 0; slot < propertyNames.size(); ++slot) {
+			properties.add(new TypeProperty(propertyNames.get(slot), propertyAccessors[slot], propertyMutators[slot], beanAccessor, slot));
+		}
+		return new TypeMetadata(type, beanAccessor, properties, immutableProperties);
+	}
+
+	private void inspectType(final Class<?> type, final BeanNamingStrategy naming, final TypeVisitor visitor) {
+		logInspection(naming.describeRoot(type), "Object", type);
+		for (TypeProperty property : propertyList(type, naming)) {
+			visitor.visit(property);
+		}
+	}
+
+	private void logInspection(final String path, final String loggedType, final Object instance) {
+		LOG.trace("Inspect Path [{}]. {} [{}:{}]", new Object[] {
+				path, loggedType, instance.getClass().getSimpleName(), identityHashCode(instance)
+		});
+	}
+
+	/**
+	 * Return the index of the mutator for the property which accepts the accessor's type, or -1 if there isn't one. If several mutators accept the type then the mutator with the
+	 * most specific parameter type is used so the choice does not depend on the order the methods were listed in
+	 */
+	private int getMutatorFor(final String propertyName, final Class<?> type, final Map<String, List<Integer>> mutatorMap, final List<MethodWrapper> mutators) {
+		int match = -1;
+		List<Integer> mutatorList = mutatorMap.get(propertyName);
+		if (mutatorList != null) {
+			for (int mutator : mutatorList) {
+				Class<?> parameterType = mutators.get(mutator).getParameterType();
+				if (parameterType.isAssignableFrom(type)) {
+					if (match < 0 || isMoreSpecific(parameterType, mutators.get(match).getParameterType())) {
+						match = mutator;
+					}
+				}
+			}
+		}
+		return match;
+	}
+
+	private boolean isMoreSpecific(final Class<?> type, final Class<?> other) {
+		return !type.equals(other) && other.isAssignableFrom(type);
+	}
+
+	private Map<String, List<Integer>> createMutatorMap(final List<MethodWrapper> mutators, final BeanNamingStrategy naming) {
+		Map<String, List<Integer>> mutatorMap = new HashMap<String, List<Integer>>();
+		for (int i = 0; i < mutators.size(); ++i) {
+			String propertyName = toPropertyName(mutators.get(i), SET_PREFIX, naming);
+			List<Integer> list = mutatorMap.get(propertyName);
+			if (list == null) {
+				list = new ArrayList<Integer>();
+				mutatorMap.put(propertyName, list);
+			}
+			list.add(i);
+		}
+		return mutatorMap;
+	}
+
+	private static int[] toArray(final List<Integer> indexes) {
+		int[] array = new int[indexes.size()];
+		for (int i = 0; i < array.length; ++i) {
+			array[i] = indexes.get(i);
+		}
+		return array;
+	}
+
+	private static boolean isAccessor(final Method method) {
+		if (method.getParameterTypes().length == 0 && !Modifier.isStatic(method.getModifiers())) {
+			return method.getName().startsWith(GET_PREFIX) || method.getName().startsWith(IS_PREFIX);
+		} else {
+			return false;
+		}
+	}
+
+	private boolean isSetter(final Method method) {
+		return method.getName().startsWith(SET_PREFIX) && method.getParameterTypes().length == 1 && !Modifier.isStatic(method.getModifiers());
+	}
+
+	private String accessorPrefix(final String methodName) {
+		if (methodName.startsWith(IS_PREFIX)) {
+			return IS_PREFIX;
+		} else if (methodName.startsWith(GET_PREFIX)) {
+			return GET_PREFIX;
+		} else {
+			throw new RuntimeException("Getter which is not prefixed with is or get");
+		}
+	}
+
+	/**
+	 * Name the property using the method name if the naming strategy can, so that the methods of a described type are not looked up
+	 */
+	private String toPropertyName(final MethodWrapper method, final String prefix, final BeanNamingStrategy naming) {
+		if (NAMED_BY_METHOD_NAME.get(naming.getClass())) {
+			return ((AbstractNamingStrategy) naming).describeProperty(method.getName(), prefix);
+		}
+		return naming.describeProperty(method.getMethod(), prefix);
+	}
+
+}
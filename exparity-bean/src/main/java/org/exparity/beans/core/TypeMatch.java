@@ -0,0 +1,22 @@
+package org.exparity.beans.core;
+
+/**
+ * The result of testing a {@link TypePropertyPredicate} against a property of a type without an instance of the type
+ */
+public enum TypeMatch {
+
+	/**
+	 * The predicate matches the property on every instance of the type
+	 */
+	MATCH,
+
+	/**
+	 * The predicate matches the property on no instance of the type
+	 */
+	NO_MATCH,
+
+	/**
+	 * The predicate can only be tested against the property on an instance
+	 */
+	DEPENDS
+}
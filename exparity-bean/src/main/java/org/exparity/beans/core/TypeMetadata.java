@@ -0,0 +1,125 @@
+package org.exparity.beans.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable table of the properties discovered on a class for a given {@link BeanNamingStrategy}. Instances are computed once by the {@link TypeInspector} and shared between
+ * all threads.
+ */
+class TypeMetadata {
+
+	private final Class<?> type;
+	private final List<TypeProperty> properties;
+	private final List<ImmutableTypeProperty> accessors;
+	private final BeanAccessor beanAccessor;
+	private final Map<String, TypeProperty> propertiesByName = new HashMap<String, TypeProperty>();
+	private final Map<String, TypeProperty> propertiesByLowerCaseName = new HashMap<String, TypeProperty>();
+	private final Map<String, ImmutableTypeProperty> accessorsByLowerCaseName = new HashMap<String, ImmutableTypeProperty>();
+	private final Map<String, TypeProperty> propertyMap = Collections.unmodifiableMap(propertiesByName);
+	private final ConcurrentMap<BeanPropertyOrderingStrategy, List<TypeProperty>> orderedProperties = new ConcurrentHashMap<BeanPropertyOrderingStrategy, List<TypeProperty>>();
+
+	TypeMetadata(final Class<?> type, final BeanAccessor beanAccessor, final List<TypeProperty> properties, final List<ImmutableTypeProperty> accessors) {
+		this.type = type;
+		this.beanAccessor = beanAccessor;
+		this.properties = Collections.unmodifiableList(new ArrayList<TypeProperty>(properties));
+		this.accessors = Collections.unmodifiableList(new ArrayList<ImmutableTypeProperty>(accessors));
+		for (TypeProperty property : properties) {
+			propertiesByName.put(property.getName(), property);
+			String lowerCaseName = lowerCase(property.getName());
+			if (!propertiesByLowerCaseName.containsKey(lowerCaseName)) {
+				propertiesByLowerCaseName.put(lowerCaseName, property);
+			}
+		}
+		for (ImmutableTypeProperty accessor : accessors) {
+			String lowerCaseName = lowerCase(accessor.getName());
+			if (!accessorsByLowerCaseName.containsKey(lowerCaseName)) {
+				accessorsByLowerCaseName.put(lowerCaseName, accessor);
+			}
+		}
+	}
+
+	/**
+	 * Return the class this metadata describes
+	 */
+	Class<?> getType() {
+		return type;
+	}
+
+	/**
+	 * Return the {@link BeanAccessor} used to get and set the properties by their slot
+	 */
+	BeanAccessor getBeanAccessor() {
+		return beanAccessor;
+	}
+
+	/**
+	 * Return the get/set properties, indexed by their slot, in the order they were discovered on the class
+	 */
+	List<TypeProperty> getProperties() {
+		return properties;
+	}
+
+	/**
+	 * Return the get/set properties sorted by the ordering strategy. The sorted list is computed the first time it is requested for each strategy and then shared
+	 */
+	List<TypeProperty> getProperties(final BeanPropertyOrderingStrategy orderBy) {
+		List<TypeProperty> sorted = orderedProperties.get(orderBy);
+		if (sorted == null) {
+			List<TypeProperty> computed = sort(properties, orderBy);
+			sorted = orderedProperties.putIfAbsent(orderBy, computed);
+			if (sorted == null) {
+				sorted = computed;
+			}
+		}
+		return sorted;
+	}
+
+	/**
+	 * Return the get/set properties keyed on their name
+	 */
+	Map<String, TypeProperty> getPropertyMap() {
+		return propertyMap;
+	}
+
+	/**
+	 * Return the accessors in the order they were discovered on the class
+	 */
+	List<ImmutableTypeProperty> getAccessors() {
+		return accessors;
+	}
+
+	/**
+	 * Return the get/set property with the given name or <code>null</code> if there is no such property. An exact match on the name is preferred to a match which ignores case
+	 */
+	TypeProperty getProperty(final String name) {
+		TypeProperty property = propertiesByName.get(name);
+		return property != null || name == null ? property : propertiesByLowerCaseName.get(lowerCase(name));
+	}
+
+	/**
+	 * Return the accessor with the given name, ignoring case, or <code>null</code> if there is no such accessor
+	 */
+	ImmutableTypeProperty getAccessor(final String name) {
+		return name == null ? null : accessorsByLowerCaseName.get(lowerCase(name));
+	}
+
+	/**
+	 * Return an unmodifiable copy of the properties sorted by the ordering strategy
+	 */
+	static List<TypeProperty> sort(final List<TypeProperty> properties, final BeanPropertyOrderingStrategy orderBy) {
+		List<TypeProperty> sorted = new ArrayList<TypeProperty>(properties);
+		orderBy.sort(sorted);
+		return Collections.unmodifiableList(sorted);
+	}
+
+	private static String lowerCase(final String name) {
+		return name.toLowerCase(Locale.ENGLISH);
+	}
+}
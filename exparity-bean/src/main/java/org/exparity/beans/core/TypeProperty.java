@@ -0,0 +1,306 @@
+
+package org.exparity.beans.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import static org.exparity.beans.Type.type;
+
+/**
+ * Immutable value object to encapsulate a property on an Object which follows the get/set Java beans standard.</p>
+ * <p>
+ * An instance of this class is not bound to a specific instance of an object, rather it represents a re-usable defintion of a get/set pair on a given class
+ * </p>
+ * 
+ * @author Stewart Bissett
+ */
+public class TypeProperty extends AbstractProperty {
+
+	private final MethodWrapper accessor, mutator;
+	private final BeanAccessor beanAccessor;
+	private final int slot;
+	private final boolean introspected;
+
+	TypeProperty(final String propertyName, final MethodWrapper accessor, final MethodWrapper mutator) {
+		this(propertyName, accessor, mutator, new DefaultBeanAccessor(accessor.getDeclaringClass(), new MethodWrapper[] {
+				accessor
+		}, new MethodWrapper[] {
+				mutator
+		}), 0);
+	}
+
+	TypeProperty(final String propertyName, final MethodWrapper accessor, final MethodWrapper mutator, final BeanAccessor beanAccessor, final int slot) {
+		super(accessor.getDeclaringClass(), propertyName, type(accessor.getReturnType()), accessor.genericArgs());
+		this.accessor = accessor;
+		this.mutator = mutator;
+		this.beanAccessor = beanAccessor;
+		this.slot = slot;
+		this.introspected = beanAccessor instanceof DefaultBeanAccessor;
+	}
+
+	/**
+	 * Return the slot of this property in the {@link BeanAccessor} for the declaring class
+	 */
+	public int getSlot() {
+		return slot;
+	}
+
+	/**
+	 * Return the {@link BeanAccessor} which this property uses to get and set its value
+	 */
+	BeanAccessor getBeanAccessor() {
+		return beanAccessor;
+	}
+
+	/**
+	 * Return the accessor {@link Method} for this property
+	 */
+	public Method getAccessor() {
+		return accessor.getMethod();
+	}
+
+	/**
+	 * Return the accessor {@link MethodWrapper} for this property
+	 */
+	MethodWrapper getAccessorWrapper() {
+		return accessor;
+	}
+
+	/**
+	 * Return the mutator {@link Method} for this property
+	 */
+	public Method getMutator() {
+		return mutator.getMethod();
+	}
+
+	/**
+	 * Return the mutator {@link MethodWrapper} for this property
+	 */
+	MethodWrapper getMutatorWrapper() {
+		return mutator;
+	}
+
+	/**
+	 * Return the value of this property. Will throw a {@link BeanPropertyException} if the property is not found on the given instance
+	 */
+	public Object getValue(final Object instance) {
+		return beanAccessor.get(instance, slot);
+	}
+
+	/**
+	 * Return the value of this property from the given object cast to the given type. Will throw a {@link ClassCastException} if the value is not of the given type.
+	 * 
+	 * @param type the type to return the value as
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T getValue(final Object instance, final Class<T> type) {
+		return (T) getValue(instance);
+	}
+
+	/**
+	 * Return the value of this property as a boolean without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a boolean
+	 */
+	public boolean getBoolean(final Object instance) {
+		MethodHandle handle = primitiveAccessor(instance, Primitives.BOOLEAN);
+		return handle == null ? Primitives.toBoolean(getValue(instance), this) : accessor.invokeBoolean(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a byte without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a byte
+	 */
+	public byte getByte(final Object instance) {
+		MethodHandle handle = primitiveAccessor(instance, Primitives.BYTE);
+		return handle == null ? Primitives.toByte(getValue(instance), this) : accessor.invokeByte(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a char without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a char
+	 */
+	public char getChar(final Object instance) {
+		MethodHandle handle = primitiveAccessor(instance, Primitives.CHAR);
+		return handle == null ? Primitives.toChar(getValue(instance), this) : accessor.invokeChar(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a short without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a short
+	 */
+	public short getShort(final Object instance) {
+		MethodHandle handle = primitiveAccessor(instance, Primitives.SHORT);
+		return handle == null ? Primitives.toShort(getValue(instance), this) : accessor.invokeShort(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as an int without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to an int
+	 */
+	public int getInt(final Object instance) {
+		MethodHandle handle = primitiveAccessor(instance, Primitives.INT);
+		return handle == null ? Primitives.toInt(getValue(instance), this) : accessor.invokeInt(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a long without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a long
+	 */
+	public long getLong(final Object instance) {
+		MethodHandle handle = primitiveAccessor(instance, Primitives.LONG);
+		return handle == null ? Primitives.toLong(getValue(instance), this) : accessor.invokeLong(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a float without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a float
+	 */
+	public float getFloat(final Object instance) {
+		MethodHandle handle = primitiveAccessor(instance, Primitives.FLOAT);
+		return handle == null ? Primitives.toFloat(getValue(instance), this) : accessor.invokeFloat(handle, instance);
+	}
+
+	/**
+	 * Return the value of this property as a double without boxing. Will throw a {@link BeanPropertyException} if the value cannot be converted to a double
+	 */
+	public double getDouble(final Object instance) {
+		MethodHandle handle = primitiveAccessor(instance, Primitives.DOUBLE);
+		return handle == null ? Primitives.toDouble(getValue(instance), this) : accessor.invokeDouble(handle, instance);
+	}
+
+	/**
+	 * Set the value of this property on the object to the given value. Will throw a {@link BeanPropertyException} if the property cannot be set, otherwise returns
+	 * <code>true</code>. A failure is never reported by returning <code>false</code>.
+	 * 
+	 * @param value the value to set this property to on the instance
+	 */
+	public boolean setValue(final Object instance, final Object value) {
+		beanAccessor.set(instance, slot, value);
+		return true;
+	}
+
+	/**
+	 * Set the value of this property on the object to the given boolean without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set from a boolean
+	 * or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setBoolean(final Object instance, final boolean value) {
+		MethodHandle handle = primitiveMutator(instance, Primitives.BOOLEAN);
+		if (handle == null) {
+			return setValue(instance, Primitives.settable(Boolean.valueOf(value), Primitives.BOOLEAN, mutator.getParameterType(), this));
+		}
+		return mutator.invoke(handle, instance, value);
+	}
+
+	/**
+	 * Set the value of this property on the object to the given byte without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set from a byte
+	 * or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setByte(final Object instance, final byte value) {
+		MethodHandle handle = primitiveMutator(instance, Primitives.BYTE);
+		if (handle == null) {
+			return setValue(instance, Primitives.settable(Byte.valueOf(value), Primitives.BYTE, mutator.getParameterType(), this));
+		}
+		return mutator.invoke(handle, instance, value);
+	}
+
+	/**
+	 * Set the value of this property on the object to the given char without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set from a char
+	 * or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setChar(final Object instance, final char value) {
+		MethodHandle handle = primitiveMutator(instance, Primitives.CHAR);
+		if (handle == null) {
+			return setValue(instance, Primitives.settable(Character.valueOf(value), Primitives.CHAR, mutator.getParameterType(), this));
+		}
+		return mutator.invoke(handle, instance, value);
+	}
+
+	/**
+	 * Set the value of this property on the object to the given short without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set from a short
+	 * or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setShort(final Object instance, final short value) {
+		MethodHandle handle = primitiveMutator(instance, Primitives.SHORT);
+		if (handle == null) {
+			return setValue(instance, Primitives.settable(Short.valueOf(value), Primitives.SHORT, mutator.getParameterType(), this));
+		}
+		return mutator.invoke(handle, instance, value);
+	}
+
+	/**
+	 * Set the value of this property on the object to the given int without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set from an int
+	 * or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setInt(final Object instance, final int value) {
+		MethodHandle handle = primitiveMutator(instance, Primitives.INT);
+		if (handle == null) {
+			return setValue(instance, Primitives.settable(Integer.valueOf(value), Primitives.INT, mutator.getParameterType(), this));
+		}
+		return mutator.invoke(handle, instance, value);
+	}
+
+	/**
+	 * Set the value of this property on the object to the given long without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set from a long
+	 * or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setLong(final Object instance, final long value) {
+		MethodHandle handle = primitiveMutator(instance, Primitives.LONG);
+		if (handle == null) {
+			return setValue(instance, Primitives.settable(Long.valueOf(value), Primitives.LONG, mutator.getParameterType(), this));
+		}
+		return mutator.invoke(handle, instance, value);
+	}
+
+	/**
+	 * Set the value of this property on the object to the given float without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set from a float
+	 * or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setFloat(final Object instance, final float value) {
+		MethodHandle handle = primitiveMutator(instance, Primitives.FLOAT);
+		if (handle == null) {
+			return setValue(instance, Primitives.settable(Float.valueOf(value), Primitives.FLOAT, mutator.getParameterType(), this));
+		}
+		return mutator.invoke(handle, instance, value);
+	}
+
+	/**
+	 * Set the value of this property on the object to the given double without boxing. Will throw a {@link BeanPropertyException} if the property cannot be set from a double
+	 * or return <code>true</code> if the property was successfully set.
+	 */
+	public boolean setDouble(final Object instance, final double value) {
+		MethodHandle handle = primitiveMutator(instance, Primitives.DOUBLE);
+		if (handle == null) {
+			return setValue(instance, Primitives.settable(Double.valueOf(value), Primitives.DOUBLE, mutator.getParameterType(), this));
+		}
+		return mutator.invoke(handle, instance, value);
+	}
+
+	/**
+	 * Return the handle which gets the primitive without boxing, or <code>null</code> if it must be read through the {@link BeanAccessor}. The handle is only used if the
+	 * {@link BeanAccessor} itself calls the methods discovered by the {@link TypeInspector}, so a property described by a {@link BeanDescriptor} is always read through the
+	 * descriptor
+	 */
+	private MethodHandle primitiveAccessor(final Object instance, final int kind) {
+		return introspected ? accessor.primitiveHandle(instance, kind) : null;
+	}
+
+	private MethodHandle primitiveMutator(final Object instance, final int kind) {
+		return introspected ? mutator.primitiveHandle(instance, kind) : null;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof TypeProperty)) {
+			return false;
+		}
+		TypeProperty rhs = (TypeProperty) obj;
+		return new EqualsBuilder().append(getDeclaringType(), rhs.getDeclaringType()).append(getName(), rhs.getName()).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(getDeclaringType()).append(getName()).toHashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "TypeProperty [" + getDeclaringType() + "." + getName() + "]";
+	}
+}
@@ -0,0 +1,16 @@
+package org.exparity.beans.core;
+
+/**
+ * A {@link BeanPropertyPredicate} which can also be tested against the {@link TypeProperty} a property is read through. When a graph is searched the type-level result is worked
+ * out once for each property of each class, so properties which can never match are skipped without creating a {@link BeanProperty}, and {@link #matches(BeanProperty)} is only
+ * called when the result is {@link TypeMatch#DEPENDS}.
+ */
+public interface TypePropertyPredicate extends BeanPropertyPredicate {
+
+	/**
+	 * Test the predicate against the property without an instance. The result must agree with {@link #matches(BeanProperty)} for every instance of the type.
+	 *
+	 * @param property the property to test
+	 */
+	public TypeMatch matchesType(final TypeProperty property);
+}
@@ -0,0 +1,72 @@
+package org.exparity.beans.core;
+
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * The values read from the properties of the objects met during a single visit, held by instance and property slot so each getter is called at most once per object for the
+ * visit. The cache is closed when the visit ends, after which values are read directly from the object again. An instance is not safe to share between threads.
+ */
+class ValueCache {
+
+	private static final Object UNREAD = new Object();
+
+	private final Map<Object, Object[]> valuesByInstance = new IdentityHashMap<Object, Object[]>();
+	private Object lastInstance;
+	private Object[] lastValues;
+	private boolean open = true;
+
+	/**
+	 * Return the value of the property on the instance, calling the getter only if the value has not been read during this visit
+	 */
+	Object getValue(final Object instance, final TypeProperty property) {
+		if (!open) {
+			return property.getValue(instance);
+		}
+		int slot = property.getSlot();
+		Object[] values = valuesOf(instance, slot + 1);
+		Object value = values[slot];
+		if (value == UNREAD) {
+			value = property.getValue(instance);
+			values[slot] = value;
+		}
+		return value;
+	}
+
+	/**
+	 * Forget the value of the property on the instance so it is read again the next time it is requested
+	 */
+	void forget(final Object instance, final TypeProperty property) {
+		Object[] values = instance == lastInstance ? lastValues : valuesByInstance.get(instance);
+		if (values != null && property.getSlot() < values.length) {
+			values[property.getSlot()] = UNREAD;
+		}
+	}
+
+	/**
+	 * Release the values read during the visit
+	 */
+	void close() {
+		open = false;
+		valuesByInstance.clear();
+		lastInstance = null;
+		lastValues = null;
+	}
+
+	private Object[] valuesOf(final Object instance, final int length) {
+		Object[] values = instance == lastInstance ? lastValues : valuesByInstance.get(instance);
+		if (values == null || values.length < length) {
+			Object[] grown = new Object[Math.max(length, 8)];
+			Arrays.fill(grown, UNREAD);
+			if (values != null) {
+				System.arraycopy(values, 0, grown, 0, values.length);
+			}
+			valuesByInstance.put(instance, grown);
+			values = grown;
+		}
+		lastInstance = instance;
+		lastValues = values;
+		return values;
+	}
+}
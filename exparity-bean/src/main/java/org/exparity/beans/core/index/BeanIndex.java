@@ -0,0 +1,163 @@
+package org.exparity.beans.core.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.exparity.beans.core.PathExpression;
+import org.exparity.beans.core.TypeProperty;
+
+/**
+ * An index of beans by the value of one or more of their properties which finds the beans with a given key in constant time. The properties are resolved once when the index is
+ * created and read directly from each bean as it is added, so no type inspection is made per bean. A key over more than one property is given as the value of each property in
+ * the order the properties were given. Keys are compared with {@link Object#equals(Object)} so must be of the same type as the property, e.g. a {@link Long} for a long
+ * property.
+ * <p/>
+ * A bean is indexed under the key it has when it is added, so remove a bean before changing the value of an indexed property and add it again afterwards. An instance is not
+ * safe to share between threads without synchronization.
+ */
+public class BeanIndex<T> {
+
+	private final KeyReader[] readers;
+	private final Map<Object, List<T>> beansByKey = new HashMap<Object, List<T>>();
+	private int size;
+
+	/**
+	 * Create an index keyed on the values of the properties
+	 */
+	public BeanIndex(final TypeProperty... properties) {
+		this(KeyReader.of(properties));
+	}
+
+	/**
+	 * Create an index keyed on the values of the paths, relative to each bean
+	 */
+	public BeanIndex(final PathExpression... paths) {
+		this(KeyReader.of(paths));
+	}
+
+	private BeanIndex(final KeyReader[] readers) {
+		if (readers.length == 0) {
+			throw new IllegalArgumentException("An index must have at least one key");
+		}
+		this.readers = readers;
+	}
+
+	/**
+	 * Add the bean to the index under the key it currently has
+	 */
+	public void add(final T bean) {
+		Object key = keyOf(bean);
+		List<T> beans = beansByKey.get(key);
+		if (beans == null) {
+			beans = new ArrayList<T>(1);
+			beansByKey.put(key, beans);
+		}
+		beans.add(bean);
+		++size;
+	}
+
+	/**
+	 * Add each of the beans to the index
+	 */
+	public void addAll(final Collection<? extends T> beans) {
+		for (T bean : beans) {
+			add(bean);
+		}
+	}
+
+	/**
+	 * Remove the bean from the index. The bean is found by identity under the key it currently has. Return <code>true</code> if the bean was in the index.
+	 */
+	public boolean remove(final T bean) {
+		Object key = keyOf(bean);
+		List<T> beans = beansByKey.get(key);
+		if (beans != null) {
+			for (Iterator<T> iterator = beans.iterator(); iterator.hasNext();) {
+				if (iterator.next() == bean) {
+					iterator.remove();
+					if (beans.isEmpty()) {
+						beansByKey.remove(key);
+					}
+					--size;
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the beans with the key in the order they were added, or an empty list if there are none. Will throw an {@link IllegalArgumentException} if the number of values does
+	 * not match the number of properties in the key.
+	 * 
+	 * @param key the value of each property in the key
+	 */
+	public List<T> get(final Object... key) {
+		List<T> beans = beansByKey.get(lookupKey(key));
+		return beans == null ? Collections.<T> emptyList() : Collections.unmodifiableList(beans);
+	}
+
+	/**
+	 * Return the first bean added with the key or <code>null</code> if there is none
+	 * 
+	 * @param key the value of each property in the key
+	 */
+	public T getFirst(final Object... key) {
+		List<T> beans = beansByKey.get(lookupKey(key));
+		return beans == null ? null : beans.get(0);
+	}
+
+	/**
+	 * Return <code>true</code> if any bean has the key
+	 * 
+	 * @param key the value of each property in the key
+	 */
+	public boolean contains(final Object... key) {
+		return beansByKey.containsKey(lookupKey(key));
+	}
+
+	/**
+	 * Return the number of beans in the index
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Return the number of distinct keys in the index
+	 */
+	public int keyCount() {
+		return beansByKey.size();
+	}
+
+	private Object keyOf(final T bean) {
+		if (readers.length == 1) {
+			return readers[0].read(bean);
+		}
+		Object[] values = new Object[readers.length];
+		for (int i = 0; i < readers.length; ++i) {
+			values[i] = readers[i].read(bean);
+		}
+		return new CompositeKey(values);
+	}
+
+	private Object lookupKey(final Object[] key) {
+		Object[] values = key == null ? new Object[] {
+			null
+		} : key;
+		if (values.length != readers.length) {
+			throw new IllegalArgumentException("Expected a key of " + Arrays.toString(readers) + " but was " + Arrays.toString(values));
+		}
+		return readers.length == 1 ? values[0] : new CompositeKey(values.clone());
+	}
+
+	@Override
+	public String toString() {
+		return "BeanIndex " + Arrays.toString(readers);
+	}
+}
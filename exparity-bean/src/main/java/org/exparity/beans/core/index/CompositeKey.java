@@ -0,0 +1,39 @@
+package org.exparity.beans.core.index;
+
+import java.util.Arrays;
+
+/**
+ * The values of the parts of a key over more than one property, compared element by element
+ */
+final class CompositeKey {
+
+	private final Object[] values;
+	private final int hashCode;
+
+	CompositeKey(final Object[] values) {
+		this.values = values;
+		this.hashCode = Arrays.hashCode(values);
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof CompositeKey)) {
+			return false;
+		}
+		CompositeKey rhs = (CompositeKey) obj;
+		return hashCode == rhs.hashCode && Arrays.equals(values, rhs.values);
+	}
+
+	@Override
+	public int hashCode() {
+		return hashCode;
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.toString(values);
+	}
+}
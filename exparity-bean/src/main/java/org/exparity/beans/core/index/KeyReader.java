@@ -0,0 +1,58 @@
+package org.exparity.beans.core.index;
+
+import org.exparity.beans.core.PathExpression;
+import org.exparity.beans.core.TypeProperty;
+
+/**
+ * Reads the value of one part of an index key from a bean, either through a {@link TypeProperty} resolved once for the type or a compiled {@link PathExpression}
+ */
+abstract class KeyReader {
+
+	abstract Object read(final Object bean);
+
+	static KeyReader of(final TypeProperty property) {
+		return new KeyReader() {
+
+			@Override
+			Object read(final Object bean) {
+				return property.getValue(bean);
+			}
+
+			@Override
+			public String toString() {
+				return property.getName();
+			}
+		};
+	}
+
+	static KeyReader of(final PathExpression path) {
+		return new KeyReader() {
+
+			@Override
+			Object read(final Object bean) {
+				return path.value(bean);
+			}
+
+			@Override
+			public String toString() {
+				return path.getPath();
+			}
+		};
+	}
+
+	static KeyReader[] of(final TypeProperty[] properties) {
+		KeyReader[] readers = new KeyReader[properties.length];
+		for (int i = 0; i < properties.length; ++i) {
+			readers[i] = of(properties[i]);
+		}
+		return readers;
+	}
+
+	static KeyReader[] of(final PathExpression[] paths) {
+		KeyReader[] readers = new KeyReader[paths.length];
+		for (int i = 0; i < paths.length; ++i) {
+			readers[i] = of(paths[i]);
+		}
+		return readers;
+	}
+}
@@ -0,0 +1,330 @@
+package org.exparity.beans.core.index;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.exparity.beans.core.TypeProperty;
+
+/**
+ * The sorted keys of a {@link SortedBeanIndex}. Integral and {@link Date} properties are kept in a <code>long[]</code> and floating point properties in a <code>double[]</code>,
+ * so neither the keys nor the comparisons during a search are boxed. Any other {@link Comparable} property is kept in an <code>Object[]</code>.
+ */
+abstract class SortKeys {
+
+	/**
+	 * Return empty keys of the kind which suits the type of the property. Will throw an {@link IllegalArgumentException} if the property cannot be sorted.
+	 */
+	static SortKeys of(final TypeProperty property) {
+		Class<?> type = property.getType();
+		if (type == long.class || type == int.class || type == short.class || type == byte.class) {
+			return new LongKeys(property, true);
+		} else if (type == Long.class || type == Integer.class || type == Short.class || type == Byte.class || Date.class.isAssignableFrom(type)) {
+			return new LongKeys(property, false);
+		} else if (type == double.class || type == float.class) {
+			return new DoubleKeys(property, true);
+		} else if (type == Double.class || type == Float.class) {
+			return new DoubleKeys(property, false);
+		} else if (type.isPrimitive() || Comparable.class.isAssignableFrom(type)) {
+			return new ComparableKeys(property);
+		}
+		throw new IllegalArgumentException("Property '" + property.getName() + "' of type " + type.getName() + " is not Comparable");
+	}
+
+	/**
+	 * Read the key of each bean and sort them. Beans with a <code>null</code> key are left out. Return the position in the array of each bean in key order, with beans of equal
+	 * keys in the order they appear in the array.
+	 */
+	final int[] load(final Object[] beans) {
+		int[] order = new int[beans.length];
+		int size = 0;
+		allocate(beans.length);
+		for (int i = 0; i < beans.length; ++i) {
+			if (read(i, beans[i])) {
+				order[size++] = i;
+			}
+		}
+		int[] sorted = new int[size];
+		System.arraycopy(order, 0, sorted, 0, size);
+		mergeSort(sorted.clone(), sorted, 0, size);
+		arrange(sorted);
+		return sorted;
+	}
+
+	/**
+	 * Return the number of keys
+	 */
+	abstract int size();
+
+	/**
+	 * Return the position of the first key greater than the key, or greater than or equal to it if orEqual is <code>true</code>
+	 */
+	abstract int search(final Object key, final boolean orEqual);
+
+	/**
+	 * Make room for the unsorted keys of the beans
+	 */
+	abstract void allocate(final int length);
+
+	/**
+	 * Read the key of the bean at the position into the unsorted keys and return <code>false</code> if it is <code>null</code>
+	 */
+	abstract boolean read(final int position, final Object bean);
+
+	/**
+	 * Compare the unsorted keys at the positions
+	 */
+	abstract int compare(final int lhs, final int rhs);
+
+	/**
+	 * Replace the unsorted keys with the keys in the order given
+	 */
+	abstract void arrange(final int[] order);
+
+	/**
+	 * A stable merge sort of the positions by their keys. Both arrays must hold the same positions and the sorted positions are left in dest
+	 */
+	private void mergeSort(final int[] src, final int[] dest, final int from, final int to) {
+		if (to - from < 2) {
+			return;
+		}
+		int middle = (from + to) >>> 1;
+		mergeSort(dest, src, from, middle);
+		mergeSort(dest, src, middle, to);
+		for (int i = from, lhs = from, rhs = middle; i < to; ++i) {
+			if (rhs >= to || lhs < middle && compare(src[lhs], src[rhs]) <= 0) {
+				dest[i] = src[lhs++];
+			} else {
+				dest[i] = src[rhs++];
+			}
+		}
+	}
+
+	private static class LongKeys extends SortKeys {
+
+		private static final BigDecimal MIN_VALUE = BigDecimal.valueOf(Long.MIN_VALUE), MAX_VALUE = BigDecimal.valueOf(Long.MAX_VALUE);
+
+		private final TypeProperty property;
+		private final boolean primitive;
+		private long[] keys;
+
+		LongKeys(final TypeProperty property, final boolean primitive) {
+			this.property = property;
+			this.primitive = primitive;
+		}
+
+		@Override
+		int size() {
+			return keys.length;
+		}
+
+		/**
+		 * Search for a key which may not be a whole number or fit in a long. Every key less than a fractional value is also less than or equal to its floor, and every key greater
+		 * than it is greater than its floor, so the floor is searched for instead. A key beyond the range of a long is less or greater than every key.
+		 */
+		@Override
+		int search(final Object key, final boolean orEqual) {
+			if (key instanceof Date || key instanceof Long || key instanceof Integer || key instanceof Short || key instanceof Byte || key instanceof AtomicLong
+					|| key instanceof AtomicInteger) {
+				return search(toLong(key), orEqual);
+			}
+			BigDecimal value;
+			if (key instanceof BigDecimal) {
+				value = (BigDecimal) key;
+			} else if (key instanceof BigInteger) {
+				value = new BigDecimal((BigInteger) key);
+			} else {
+				double number = ((Number) key).doubleValue();
+				if (Double.isNaN(number) || number == Double.POSITIVE_INFINITY) {
+					return keys.length;
+				} else if (number == Double.NEGATIVE_INFINITY) {
+					return 0;
+				}
+				value = new BigDecimal(number);
+			}
+			BigDecimal floor = value.setScale(0, RoundingMode.FLOOR);
+			if (floor.compareTo(MIN_VALUE) < 0) {
+				return 0;
+			} else if (floor.compareTo(MAX_VALUE) > 0) {
+				return keys.length;
+			}
+			return search(floor.longValue(), orEqual && floor.compareTo(value) == 0);
+		}
+
+		private int search(final long value, final boolean orEqual) {
+			int low = 0, high = keys.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				if (keys[middle] < value || !orEqual && keys[middle] == value) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		@Override
+		void allocate(final int length) {
+			keys = new long[length];
+		}
+
+		@Override
+		boolean read(final int position, final Object bean) {
+			if (primitive) {
+				keys[position] = property.getLong(bean);
+				return true;
+			}
+			Object value = property.getValue(bean);
+			if (value != null) {
+				keys[position] = toLong(value);
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		int compare(final int lhs, final int rhs) {
+			return keys[lhs] < keys[rhs] ? -1 : keys[lhs] == keys[rhs] ? 0 : 1;
+		}
+
+		@Override
+		void arrange(final int[] order) {
+			long[] sorted = new long[order.length];
+			for (int i = 0; i < order.length; ++i) {
+				sorted[i] = keys[order[i]];
+			}
+			keys = sorted;
+		}
+
+		private static long toLong(final Object key) {
+			return key instanceof Date ? ((Date) key).getTime() : ((Number) key).longValue();
+		}
+	}
+
+	private static class DoubleKeys extends SortKeys {
+
+		private final TypeProperty property;
+		private final boolean primitive;
+		private double[] keys;
+
+		DoubleKeys(final TypeProperty property, final boolean primitive) {
+			this.property = property;
+			this.primitive = primitive;
+		}
+
+		@Override
+		int size() {
+			return keys.length;
+		}
+
+		@Override
+		int search(final Object key, final boolean orEqual) {
+			double value = ((Number) key).doubleValue();
+			int low = 0, high = keys.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				int comparison = Double.compare(keys[middle], value);
+				if (comparison < 0 || !orEqual && comparison == 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		@Override
+		void allocate(final int length) {
+			keys = new double[length];
+		}
+
+		@Override
+		boolean read(final int position, final Object bean) {
+			if (primitive) {
+				keys[position] = property.getDouble(bean);
+				return true;
+			}
+			Object value = property.getValue(bean);
+			if (value != null) {
+				keys[position] = ((Number) value).doubleValue();
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		int compare(final int lhs, final int rhs) {
+			return Double.compare(keys[lhs], keys[rhs]);
+		}
+
+		@Override
+		void arrange(final int[] order) {
+			double[] sorted = new double[order.length];
+			for (int i = 0; i < order.length; ++i) {
+				sorted[i] = keys[order[i]];
+			}
+			keys = sorted;
+		}
+	}
+
+	@SuppressWarnings({
+			"rawtypes", "unchecked"
+	})
+	private static class ComparableKeys extends SortKeys {
+
+		private final TypeProperty property;
+		private Comparable[] keys;
+
+		ComparableKeys(final TypeProperty property) {
+			this.property = property;
+		}
+
+		@Override
+		int size() {
+			return keys.length;
+		}
+
+		@Override
+		int search(final Object key, final boolean orEqual) {
+			int low = 0, high = keys.length;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				int comparison = keys[middle].compareTo(key);
+				if (comparison < 0 || !orEqual && comparison == 0) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		@Override
+		void allocate(final int length) {
+			keys = new Comparable[length];
+		}
+
+		@Override
+		boolean read(final int position, final Object bean) {
+			keys[position] = (Comparable) property.getValue(bean);
+			return keys[position] != null;
+		}
+
+		@Override
+		int compare(final int lhs, final int rhs) {
+			return keys[lhs].compareTo(keys[rhs]);
+		}
+
+		@Override
+		void arrange(final int[] order) {
+			Comparable[] sorted = new Comparable[order.length];
+			for (int i = 0; i < order.length; ++i) {
+				sorted[i] = keys[order[i]];
+			}
+			keys = sorted;
+		}
+	}
+}
@@ -0,0 +1,128 @@
+package org.exparity.beans.core.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import org.exparity.beans.core.TypeProperty;
+
+/**
+ * An index of beans sorted by the value of a property which answers range, floor, ceiling, and top-N queries with a binary search. The keys are kept in a primitive array for
+ * integral, floating point, and {@link java.util.Date} properties, and in an array of {@link Comparable} values for any other property, e.g. a {@link String} or
+ * {@link java.math.BigDecimal}. The property is read once from each bean when the index is built, and beans with a <code>null</code> value are left out. Beans with equal keys
+ * keep the order they had in the collection.
+ * <p/>
+ * A key passed to a query must be of the type of the property, or a {@link Number} for a numeric property or a {@link java.util.Date} for a date property. The index is not
+ * changed by changes to the collection or the beans so build a new index when they change. Instances are safe to share between threads.
+ */
+public class SortedBeanIndex<T> {
+
+	private final TypeProperty property;
+	private final SortKeys keys;
+	private final List<T> beans;
+
+	/**
+	 * Create an index of the beans sorted by the value of the property. Will throw an {@link IllegalArgumentException} if the property is not numeric, a date, or
+	 * {@link Comparable}.
+	 */
+	@SuppressWarnings("unchecked")
+	public SortedBeanIndex(final Collection<? extends T> beans, final TypeProperty property) {
+		this.property = property;
+		this.keys = SortKeys.of(property);
+		Object[] candidates = beans.toArray();
+		int[] order = keys.load(candidates);
+		Object[] sorted = new Object[order.length];
+		for (int i = 0; i < order.length; ++i) {
+			sorted[i] = candidates[order[i]];
+		}
+		this.beans = Collections.unmodifiableList((List<T>) Arrays.asList(sorted));
+	}
+
+	/**
+	 * Return the beans with a key between from and to, both inclusive, in key order
+	 */
+	public List<T> range(final Object from, final Object to) {
+		return range(from, true, to, true);
+	}
+
+	/**
+	 * Return the beans with a key between from and to in key order
+	 * 
+	 * @param from the lowest key
+	 * @param fromInclusive <code>true</code> if beans with the lowest key are included
+	 * @param to the highest key
+	 * @param toInclusive <code>true</code> if beans with the highest key are included
+	 */
+	public List<T> range(final Object from, final boolean fromInclusive, final Object to, final boolean toInclusive) {
+		int start = keys.search(from, fromInclusive), end = keys.search(to, !toInclusive);
+		return start < end ? beans.subList(start, end) : Collections.<T> emptyList();
+	}
+
+	/**
+	 * Return the beans with a key greater than or equal to the key in key order
+	 */
+	public List<T> from(final Object key) {
+		return beans.subList(keys.search(key, true), beans.size());
+	}
+
+	/**
+	 * Return the beans with a key less than or equal to the key in key order
+	 */
+	public List<T> to(final Object key) {
+		return beans.subList(0, keys.search(key, false));
+	}
+
+	/**
+	 * Return the bean with the greatest key less than or equal to the key, or <code>null</code> if there is none. The last of several beans with the same key is returned.
+	 */
+	public T floor(final Object key) {
+		int position = keys.search(key, false) - 1;
+		return position >= 0 ? beans.get(position) : null;
+	}
+
+	/**
+	 * Return the bean with the least key greater than or equal to the key, or <code>null</code> if there is none. The first of several beans with the same key is returned.
+	 */
+	public T ceiling(final Object key) {
+		int position = keys.search(key, true);
+		return position < beans.size() ? beans.get(position) : null;
+	}
+
+	/**
+	 * Return up to n beans with the greatest keys, greatest first
+	 */
+	public List<T> top(final int n) {
+		List<T> top = new ArrayList<T>(Math.min(Math.max(n, 0), beans.size()));
+		for (int i = beans.size() - 1; i >= 0 && top.size() < n; --i) {
+			top.add(beans.get(i));
+		}
+		return top;
+	}
+
+	/**
+	 * Return up to n beans with the least keys, least first
+	 */
+	public List<T> bottom(final int n) {
+		return beans.subList(0, Math.min(Math.max(n, 0), beans.size()));
+	}
+
+	/**
+	 * Return all the beans in the index in key order
+	 */
+	public List<T> beans() {
+		return beans;
+	}
+
+	/**
+	 * Return the number of beans in the index
+	 */
+	public int size() {
+		return beans.size();
+	}
+
+	@Override
+	public String toString() {
+		return "SortedBeanIndex [" + property.getName() + "]";
+	}
+}
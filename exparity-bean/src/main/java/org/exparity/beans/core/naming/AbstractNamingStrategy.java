@@ -0,0 +1,35 @@
+package org.exparity.beans.core.naming;
+
+import static org.exparity.beans.Type.type;
+import java.util.Collection;
+import java.util.Map;
+import org.exparity.beans.Type;
+import org.exparity.beans.core.BeanNamingStrategy;
+
+/**
+ * @author Stewart Bissett
+ */
+public abstract class AbstractNamingStrategy implements BeanNamingStrategy {
+
+	protected String typeName(final Class<?> klass) {
+		Type type = type(klass);
+		if (type.is(Map.class)) {
+			return "Map";
+		} else if (type.is(Collection.class)) {
+			return "Collection";
+		} else {
+			return type.componentSimpleName();
+		}
+	}
+
+	/**
+	 * Return a textual description of the property accessed by the method with the given name, or <code>null</code> if the strategy needs the {@link java.lang.reflect.Method} to
+	 * describe the property. Used to name the properties of a class described by a {@link org.exparity.beans.core.BeanDescriptor} without looking up its methods
+	 * 
+	 * @param methodName the name of the method to describe
+	 * @param prefix the bean property prefix, e.g. get, set, is, which is assoscaited with this method
+	 */
+	public String describeProperty(final String methodName, final String prefix) {
+		return null;
+	}
+}
\ No newline at end of file
@@ -19,9 +19,25 @@ public class CamelCaseNamingStrategy extends AbstractNamingStrategy implements B
 	}
 
 	public String describeProperty(final Method method, final String prefix) {
+		return describeProperty(method.getName(), prefix);
+	}
+
+	@Override
+	public String describeProperty(final String methodName, final String prefix) {
 		int startPos = prefix.length();
-		String methodName = method.getName();
 		return lowerCase(methodName.charAt(startPos) + "") + methodName.substring(startPos + 1);
 	}
 
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		return obj != null && obj.getClass().equals(getClass());
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
 }
@@ -17,7 +17,24 @@ public class CapitalizedNamingStrategy extends AbstractNamingStrategy implements
 	}
 
 	public String describeProperty(final Method method, final String prefix) {
-		return method.getName().substring(prefix.length());
+		return describeProperty(method.getName(), prefix);
 	}
 
+	@Override
+	public String describeProperty(final String methodName, final String prefix) {
+		return methodName.substring(prefix.length());
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		return obj != null && obj.getClass().equals(getClass());
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
 }
@@ -1,6 +1,8 @@
 package org.exparity.beans.core.naming;
 
 import java.lang.reflect.Method;
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
 import org.exparity.beans.core.BeanNamingStrategy;
 
 /**
@@ -18,6 +20,13 @@ public class ForceRootNameNamingStrategy implements BeanNamingStrategy {
 		this.rootName = rootName;
 	}
 
+	/**
+	 * Return the naming strategy used to describe the types and properties
+	 */
+	public BeanNamingStrategy getDelegate() {
+		return delegate;
+	}
+
 	public String describeRoot(final Class<?> type) {
 		return rootName;
 	}
@@ -30,4 +39,20 @@ public class ForceRootNameNamingStrategy implements BeanNamingStrategy {
 		return delegate.describeProperty(method, prefix);
 	}
 
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof ForceRootNameNamingStrategy)) {
+			return false;
+		}
+		ForceRootNameNamingStrategy rhs = (ForceRootNameNamingStrategy) obj;
+		return new EqualsBuilder().append(delegate, rhs.delegate).append(rootName, rhs.rootName).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(delegate).append(rootName).toHashCode();
+	}
 }
@@ -18,7 +18,24 @@ public class LowerCaseNamingStrategy extends AbstractNamingStrategy implements B
 	}
 
 	public String describeProperty(final Method method, final String prefix) {
-		return lowerCase(method.getName().substring(prefix.length()));
+		return describeProperty(method.getName(), prefix);
 	}
 
+	@Override
+	public String describeProperty(final String methodName, final String prefix) {
+		return lowerCase(methodName.substring(prefix.length()));
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		return obj != null && obj.getClass().equals(getClass());
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
 }
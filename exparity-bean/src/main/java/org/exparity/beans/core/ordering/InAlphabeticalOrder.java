@@ -23,4 +23,16 @@ public class InAlphabeticalOrder implements BeanPropertyOrderingStrategy {
 		});
 	}
 
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		return obj != null && obj.getClass().equals(getClass());
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
 }
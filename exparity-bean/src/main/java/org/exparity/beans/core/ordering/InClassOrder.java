@@ -20,4 +20,16 @@ public class InClassOrder implements BeanPropertyOrderingStrategy {
 		// nothing to do
 	}
 
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		return obj != null && obj.getClass().equals(getClass());
+	}
+
+	@Override
+	public int hashCode() {
+		return getClass().hashCode();
+	}
 }
@@ -0,0 +1,52 @@
+
+package org.exparity.beans.core.predicates;
+
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.TypeMatch;
+import org.exparity.beans.core.TypeProperty;
+import org.exparity.beans.core.TypePropertyPredicate;
+
+/**
+ * @author Stewart Bissett
+ */
+public class HasName implements TypePropertyPredicate {
+
+	private final String name;
+
+	public HasName(final String name) {
+		this.name = name;
+	}
+
+	public boolean matches(final BeanProperty property) {
+		return property.hasName(name);
+	}
+
+	public TypeMatch matchesType(final TypeProperty property) {
+		return property.hasName(name) ? TypeMatch.MATCH : TypeMatch.NO_MATCH;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof HasName)) {
+			return false;
+		}
+		HasName rhs = (HasName) obj;
+		return new EqualsBuilder().append(name, rhs.name).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(name).toHashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "HasName [" + name + "]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,70 @@
+
+package org.exparity.beans.core.predicates;
+
+import java.util.Locale;
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPath;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.TypeMatch;
+import org.exparity.beans.core.TypeProperty;
+import org.exparity.beans.core.TypePropertyPredicate;
+import static org.apache.commons.lang.StringUtils.equalsIgnoreCase;
+import static org.apache.commons.lang.StringUtils.substringAfterLast;
+
+/**
+ * Implementation of a BeanPropertyPredicate which matches a BeanProperty which has the given path
+ * @author Stewart Bissett
+ */
+public class HasPath implements TypePropertyPredicate {
+
+	private final BeanPropertyPath path;
+	private final String name;
+
+	public HasPath(final String path) {
+		this.path = new BeanPropertyPath(path);
+		this.name = lastName(path);
+	}
+
+	public boolean matches(final BeanProperty property) {
+		return path.equals(property.getPath());
+	}
+
+	public TypeMatch matchesType(final TypeProperty property) {
+		return name == null || equalsIgnoreCase(name, property.getName()) ? TypeMatch.DEPENDS : TypeMatch.NO_MATCH;
+	}
+
+	/**
+	 * Return the name at the end of the path or <code>null</code> if the path does not end with a name
+	 */
+	static String lastName(final String path) {
+		if (path == null || path.endsWith("]")) {
+			return null;
+		}
+		String name = path.contains(".") ? substringAfterLast(path, ".") : path;
+		return name.contains("[") ? null : name;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof HasPath)) {
+			return false;
+		}
+		HasPath rhs = (HasPath) obj;
+		return new EqualsBuilder().append(path, rhs.path).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(path.fullPath().toLowerCase(Locale.ENGLISH)).toHashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "HasPath [" + path.fullPath() + "]";
+	}
+}
@@ -0,0 +1,56 @@
+
+package org.exparity.beans.core.predicates;
+
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.TypeMatch;
+import org.exparity.beans.core.TypeProperty;
+import org.exparity.beans.core.TypePropertyPredicate;
+
+/**
+ * Implemenation of a BeanPropertyPredicate which matches if the property path with no ordinals matches the given path. The path is compared with the form of the property path
+ * with no indexes which the path keeps, so no pattern is compiled or matched per property.
+ * 
+ * @author Stewart Bissett
+ */
+public class HasPathIgnoreOrdinal implements TypePropertyPredicate {
+
+	private final String path;
+	private final String name;
+
+	public HasPathIgnoreOrdinal(final String path) {
+		this.path = path;
+		this.name = HasPath.lastName(path);
+	}
+
+	public boolean matches(final BeanProperty property) {
+		return path.equals(property.getPath().fullPathWithNoIndexes());
+	}
+
+	public TypeMatch matchesType(final TypeProperty property) {
+		return name == null || name.equals(property.getName()) ? TypeMatch.DEPENDS : TypeMatch.NO_MATCH;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof HasPathIgnoreOrdinal)) {
+			return false;
+		}
+		HasPathIgnoreOrdinal rhs = (HasPathIgnoreOrdinal) obj;
+		return new EqualsBuilder().append(path, rhs.path).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(path).toHashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "HasPathIgnoreOrdinal [" + path + "]";
+	}
+}
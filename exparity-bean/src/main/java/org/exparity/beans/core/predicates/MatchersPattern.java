@@ -0,0 +1,54 @@
+package org.exparity.beans.core.predicates;
+
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import java.util.regex.Pattern;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.TypeMatch;
+import org.exparity.beans.core.TypeProperty;
+import org.exparity.beans.core.TypePropertyPredicate;
+
+/**
+ * @author Stewart Bissett
+ */
+public class MatchersPattern implements TypePropertyPredicate {
+
+	private final String name;
+	private final Pattern pattern;
+
+	public MatchersPattern(String name, String pattern) {
+		this.name = name;
+		this.pattern = Pattern.compile(pattern);
+	}
+
+	public boolean matches(final BeanProperty property) {
+		return property.hasName(name) && property.isString() && !property.isNull() && pattern.matcher(property.getValue(String.class)).matches();
+	}
+
+	public TypeMatch matchesType(final TypeProperty property) {
+		return property.hasName(name) && property.isString() ? TypeMatch.DEPENDS : TypeMatch.NO_MATCH;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof MatchersPattern)) {
+			return false;
+		}
+		MatchersPattern rhs = (MatchersPattern) obj;
+		return new EqualsBuilder().append(name, rhs.name).append(pattern.pattern(), rhs.pattern.pattern()).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(name).append(pattern.pattern()).toHashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "MatchersPattern [" + name + "~" + pattern.pattern() + "]";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,73 @@
+package org.exparity.beans.core.predicates;
+
+import java.util.Arrays;
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.TypeMatch;
+import org.exparity.beans.core.TypeProperty;
+import org.exparity.beans.core.TypePropertyPredicate;
+
+/**
+ * @author Stewart Bissett
+ */
+public class MatchesAll implements TypePropertyPredicate {
+
+	private final BeanPropertyPredicate[] predicates;
+
+	public MatchesAll(BeanPropertyPredicate[] predicates) {
+		this.predicates = predicates;
+	}
+
+	public boolean matches(final BeanProperty property) {
+		for (BeanPropertyPredicate predicate : predicates) {
+			if (!predicate.matches(property)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Return the predicates which are combined by this predicate
+	 */
+	BeanPropertyPredicate[] getPredicates() {
+		return predicates;
+	}
+
+	public TypeMatch matchesType(final TypeProperty property) {
+		TypeMatch match = TypeMatch.MATCH;
+		for (BeanPropertyPredicate predicate : predicates) {
+			TypeMatch predicateMatch = predicate instanceof TypePropertyPredicate ? ((TypePropertyPredicate) predicate).matchesType(property) : TypeMatch.DEPENDS;
+			if (TypeMatch.NO_MATCH.equals(predicateMatch)) {
+				return TypeMatch.NO_MATCH;
+			} else if (TypeMatch.DEPENDS.equals(predicateMatch)) {
+				match = TypeMatch.DEPENDS;
+			}
+		}
+		return match;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof MatchesAll)) {
+			return false;
+		}
+		MatchesAll rhs = (MatchesAll) obj;
+		return new EqualsBuilder().append(predicates, rhs.predicates).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(predicates).toHashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "MatchesAll [" + Arrays.toString(predicates) + "]";
+	}
+}
\ No newline at end of file
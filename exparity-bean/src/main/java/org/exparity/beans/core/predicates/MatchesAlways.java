@@ -0,0 +1,36 @@
+package org.exparity.beans.core.predicates;
+
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.TypeMatch;
+import org.exparity.beans.core.TypeProperty;
+import org.exparity.beans.core.TypePropertyPredicate;
+
+/**
+ * @author Stewart Bissett
+ */
+public class MatchesAlways implements TypePropertyPredicate {
+
+	public boolean matches(final BeanProperty property) {
+		return true;
+	}
+
+	public TypeMatch matchesType(final TypeProperty property) {
+		return TypeMatch.MATCH;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj instanceof MatchesAlways;
+	}
+
+	@Override
+	public int hashCode() {
+		return MatchesAlways.class.hashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "MatchesAlways";
+	}
+}
\ No newline at end of file
@@ -0,0 +1,61 @@
+package org.exparity.beans.core.predicates;
+
+import java.util.Arrays;
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.TypeMatch;
+import org.exparity.beans.core.TypeProperty;
+import org.exparity.beans.core.TypePropertyPredicate;
+
+/**
+ * @author Stewart Bissett
+ */
+public class OfDeclaringType implements TypePropertyPredicate {
+
+	private final Class<?>[] types;
+
+	public OfDeclaringType(Class<?>[] types) {
+		this.types = types;
+	}
+
+	public boolean matches(final BeanProperty property) {
+		return isOneOfTypes(property.getDeclaringType());
+	}
+
+	public TypeMatch matchesType(final TypeProperty property) {
+		return isOneOfTypes(property.getDeclaringType()) ? TypeMatch.MATCH : TypeMatch.NO_MATCH;
+	}
+
+	private boolean isOneOfTypes(final Class<?> declaringType) {
+		for (Class<?> type : types) {
+			if (declaringType.equals(type)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof OfDeclaringType)) {
+			return false;
+		}
+		OfDeclaringType rhs = (OfDeclaringType) obj;
+		return new EqualsBuilder().append(types, rhs.types).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(types).toHashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "OfDeclaringType [" + Arrays.toString(types) + "]";
+	}
+}
\ No newline at end of file
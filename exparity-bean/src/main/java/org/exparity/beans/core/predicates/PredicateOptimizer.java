@@ -0,0 +1,106 @@
+package org.exparity.beans.core.predicates;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import org.exparity.beans.core.BeanPropertyPredicate;
+
+/**
+ * Rewrite a tree of {@link MatchesAll} and {@link MatchesOneOf} predicates so it is cheaper to test. Nested predicates of the same kind are flattened, identical children are
+ * removed, {@link MatchesAlways} is folded away, and the children are ordered so predicates which only look at the name or type of a property are tested before those which
+ * build the path or call the getter. Children of the same cost keep the order they were given in, and predicates which are not built-in are tested last.
+ */
+public final class PredicateOptimizer {
+
+	private static final int METADATA = 0, PATH = 1, VALUE = 2, UNKNOWN = 3;
+
+	private PredicateOptimizer() {}
+
+	/**
+	 * Return a predicate which matches the same properties as the supplied predicate
+	 */
+	public static BeanPropertyPredicate optimize(final BeanPropertyPredicate predicate) {
+		if (predicate instanceof MatchesAll) {
+			return optimizeAll(((MatchesAll) predicate).getPredicates());
+		} else if (predicate instanceof MatchesOneOf) {
+			return optimizeOneOf(((MatchesOneOf) predicate).getPredicates());
+		}
+		return predicate;
+	}
+
+	private static BeanPropertyPredicate optimizeAll(final BeanPropertyPredicate[] predicates) {
+		Set<BeanPropertyPredicate> children = new LinkedHashSet<BeanPropertyPredicate>();
+		for (BeanPropertyPredicate predicate : predicates) {
+			BeanPropertyPredicate optimized = optimize(predicate);
+			if (optimized instanceof MatchesAll) {
+				Collections.addAll(children, ((MatchesAll) optimized).getPredicates());
+			} else if (!(optimized instanceof MatchesAlways)) {
+				children.add(optimized);
+			}
+		}
+		if (children.isEmpty()) {
+			return new MatchesAlways();
+		} else if (children.size() == 1) {
+			return children.iterator().next();
+		}
+		return new MatchesAll(sortByCost(children));
+	}
+
+	private static BeanPropertyPredicate optimizeOneOf(final BeanPropertyPredicate[] predicates) {
+		Set<BeanPropertyPredicate> children = new LinkedHashSet<BeanPropertyPredicate>();
+		for (BeanPropertyPredicate predicate : predicates) {
+			BeanPropertyPredicate optimized = optimize(predicate);
+			if (optimized instanceof MatchesAlways) {
+				return optimized;
+			} else if (optimized instanceof MatchesOneOf) {
+				Collections.addAll(children, ((MatchesOneOf) optimized).getPredicates());
+			} else {
+				children.add(optimized);
+			}
+		}
+		if (children.size() == 1) {
+			return children.iterator().next();
+		}
+		return new MatchesOneOf(sortByCost(children));
+	}
+
+	private static BeanPropertyPredicate[] sortByCost(final Set<BeanPropertyPredicate> predicates) {
+		List<BeanPropertyPredicate> sorted = new ArrayList<BeanPropertyPredicate>(predicates);
+		Collections.sort(sorted, new Comparator<BeanPropertyPredicate>() {
+
+			public int compare(final BeanPropertyPredicate lhs, final BeanPropertyPredicate rhs) {
+				return cost(lhs) - cost(rhs);
+			}
+		});
+		return sorted.toArray(new BeanPropertyPredicate[sorted.size()]);
+	}
+
+	/**
+	 * Return an estimate of the cost of testing the predicate against a property
+	 */
+	static int cost(final BeanPropertyPredicate predicate) {
+		if (predicate instanceof HasName || predicate instanceof HasType || predicate instanceof OfDeclaringType || predicate instanceof MatchesAlways) {
+			return METADATA;
+		} else if (predicate instanceof HasPath || predicate instanceof HasPathIgnoreOrdinal) {
+			return PATH;
+		} else if (predicate instanceof WithValue || predicate instanceof WithPropertyValue || predicate instanceof MatchersPattern) {
+			return VALUE;
+		} else if (predicate instanceof MatchesAll) {
+			return maxCost(((MatchesAll) predicate).getPredicates());
+		} else if (predicate instanceof MatchesOneOf) {
+			return maxCost(((MatchesOneOf) predicate).getPredicates());
+		}
+		return UNKNOWN;
+	}
+
+	private static int maxCost(final BeanPropertyPredicate[] predicates) {
+		int cost = METADATA;
+		for (BeanPropertyPredicate predicate : predicates) {
+			cost = Math.max(cost, cost(predicate));
+		}
+		return cost;
+	}
+}
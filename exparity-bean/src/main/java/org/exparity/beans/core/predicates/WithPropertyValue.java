@@ -0,0 +1,53 @@
+package org.exparity.beans.core.predicates;
+
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.TypeMatch;
+import org.exparity.beans.core.TypeProperty;
+import org.exparity.beans.core.TypePropertyPredicate;
+
+/**
+ * @author Stewart Bissett
+ */
+public class WithPropertyValue implements TypePropertyPredicate {
+
+	private final Object value;
+	private final String name;
+
+	public WithPropertyValue(Object value, String name) {
+		this.value = value;
+		this.name = name;
+	}
+
+	public boolean matches(final BeanProperty property) {
+		return property.hasName(name) && value.equals(property.getValue());
+	}
+
+	public TypeMatch matchesType(final TypeProperty property) {
+		return property.hasName(name) ? TypeMatch.DEPENDS : TypeMatch.NO_MATCH;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof WithPropertyValue)) {
+			return false;
+		}
+		WithPropertyValue rhs = (WithPropertyValue) obj;
+		return new EqualsBuilder().append(name, rhs.name).append(value, rhs.value).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(name).append(value).toHashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "WithPropertyValue [" + name + "=" + value + "]";
+	}
+}
\ No newline at end of file
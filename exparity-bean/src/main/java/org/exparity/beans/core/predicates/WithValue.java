@@ -0,0 +1,51 @@
+package org.exparity.beans.core.predicates;
+
+import org.apache.commons.lang.builder.EqualsBuilder;
+import org.apache.commons.lang.builder.HashCodeBuilder;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.TypeMatch;
+import org.exparity.beans.core.TypeProperty;
+import org.exparity.beans.core.TypePropertyPredicate;
+
+/**
+ * @author Stewart Bissett
+ */
+public class WithValue implements TypePropertyPredicate {
+
+	private final Object value;
+
+	public WithValue(Object value) {
+		this.value = value;
+	}
+
+	public boolean matches(final BeanProperty property) {
+		return value.equals(property.getValue());
+	}
+
+	public TypeMatch matchesType(final TypeProperty property) {
+		return TypeMatch.DEPENDS;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		if (obj == this) {
+			return true;
+		}
+		if (!(obj instanceof WithValue)) {
+			return false;
+		}
+		WithValue rhs = (WithValue) obj;
+		return new EqualsBuilder().append(value, rhs.value).isEquals();
+	}
+
+	@Override
+	public int hashCode() {
+		return new HashCodeBuilder(23, 35).append(value).toHashCode();
+	}
+
+	@Override
+	public String toString() {
+		return "WithValue [" + value + "]";
+	}
+}
\ No newline at end of file
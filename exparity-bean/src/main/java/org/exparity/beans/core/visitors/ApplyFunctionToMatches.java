@@ -0,0 +1,30 @@
+package org.exparity.beans.core.visitors;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.exparity.beans.core.BeanCursor;
+import org.exparity.beans.core.BeanCursorVisitor;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyFunction;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.PredicateMatcher;
+
+/**
+ * Apply the function to the properties which match the predicate. A {@link BeanProperty} is only created for properties the predicate cannot rule out by their type
+ */
+public class ApplyFunctionToMatches implements BeanCursorVisitor {
+
+	private final BeanPropertyFunction function;
+	private final PredicateMatcher matcher;
+
+	public ApplyFunctionToMatches(final BeanPropertyFunction function, final BeanPropertyPredicate predicate) {
+		this.function = function;
+		this.matcher = new PredicateMatcher(predicate);
+	}
+
+	public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+		BeanProperty property = matcher.match(cursor);
+		if (property != null) {
+			function.apply(property);
+		}
+	}
+}
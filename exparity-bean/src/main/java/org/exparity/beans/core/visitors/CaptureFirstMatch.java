@@ -0,0 +1,33 @@
+package org.exparity.beans.core.visitors;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.exparity.beans.core.BeanCursor;
+import org.exparity.beans.core.BeanCursorVisitor;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.PredicateMatcher;
+
+/**
+ * Capture the first property which matches the predicate and stop the visit. A {@link BeanProperty} is only created for properties the predicate cannot rule out by their type
+ */
+public class CaptureFirstMatch implements BeanCursorVisitor {
+
+	private final PredicateMatcher matcher;
+	private BeanProperty property;
+
+	public CaptureFirstMatch(final BeanPropertyPredicate predicate) {
+		this.matcher = new PredicateMatcher(predicate);
+	}
+
+	public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+		BeanProperty property = matcher.match(cursor);
+		if (property != null) {
+			this.property = property;
+			stop.set(true);
+		}
+	}
+
+	public BeanProperty getMatchedProperty() {
+		return property;
+	}
+}
@@ -0,0 +1,30 @@
+package org.exparity.beans.core.visitors;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.exparity.beans.core.BeanCursor;
+import org.exparity.beans.core.BeanCursorVisitor;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.PredicateMatcher;
+
+/**
+ * Capture the properties which match the predicate to a list. A {@link BeanProperty} is only created for properties the predicate cannot rule out by their type
+ */
+public class CaptureMatchesToList implements BeanCursorVisitor {
+
+	private final PredicateMatcher matcher;
+	private final List<BeanProperty> collection;
+
+	public CaptureMatchesToList(final BeanPropertyPredicate predicate, final List<BeanProperty> collection) {
+		this.matcher = new PredicateMatcher(predicate);
+		this.collection = collection;
+	}
+
+	public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+		BeanProperty property = matcher.match(cursor);
+		if (property != null) {
+			collection.add(property);
+		}
+	}
+}
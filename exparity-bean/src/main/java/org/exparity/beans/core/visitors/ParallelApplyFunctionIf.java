@@ -0,0 +1,39 @@
+package org.exparity.beans.core.visitors;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.exparity.beans.core.BeanCursor;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyFunction;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.ParallelBeanVisitor;
+import org.exparity.beans.core.PredicateMatcher;
+
+/**
+ * Apply the function to the properties which match the predicate during a parallel visit. The function and predicate are shared by all tasks so must be thread-safe. Each task
+ * tests the predicate through its own {@link PredicateMatcher}
+ */
+public class ParallelApplyFunctionIf implements ParallelBeanVisitor {
+
+	private final BeanPropertyFunction function;
+	private final BeanPropertyPredicate predicate;
+	private final PredicateMatcher matcher;
+
+	public ParallelApplyFunctionIf(final BeanPropertyFunction function, final BeanPropertyPredicate predicate) {
+		this.function = function;
+		this.predicate = predicate;
+		this.matcher = new PredicateMatcher(predicate);
+	}
+
+	public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+		BeanProperty property = matcher.match(cursor);
+		if (property != null) {
+			function.apply(property);
+		}
+	}
+
+	public ParallelBeanVisitor fork() {
+		return new ParallelApplyFunctionIf(function, predicate);
+	}
+
+	public void merge(final ParallelBeanVisitor forked) {}
+}
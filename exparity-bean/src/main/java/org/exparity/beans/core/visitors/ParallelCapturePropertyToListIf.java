@@ -0,0 +1,42 @@
+package org.exparity.beans.core.visitors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.exparity.beans.core.BeanCursor;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.ParallelBeanVisitor;
+import org.exparity.beans.core.PredicateMatcher;
+
+/**
+ * Capture the properties which match the predicate during a parallel visit. Each task captures to its own list and the lists are merged in the order the properties were found.
+ * Each task tests the predicate through its own {@link PredicateMatcher}
+ */
+public class ParallelCapturePropertyToListIf implements ParallelBeanVisitor {
+
+	private final BeanPropertyPredicate predicate;
+	private final PredicateMatcher matcher;
+	private final List<BeanProperty> collection;
+
+	public ParallelCapturePropertyToListIf(final BeanPropertyPredicate predicate, final List<BeanProperty> collection) {
+		this.predicate = predicate;
+		this.matcher = new PredicateMatcher(predicate);
+		this.collection = collection;
+	}
+
+	public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+		BeanProperty property = matcher.match(cursor);
+		if (property != null) {
+			collection.add(property);
+		}
+	}
+
+	public ParallelBeanVisitor fork() {
+		return new ParallelCapturePropertyToListIf(predicate, new ArrayList<BeanProperty>());
+	}
+
+	public void merge(final ParallelBeanVisitor forked) {
+		collection.addAll(((ParallelCapturePropertyToListIf) forked).collection);
+	}
+}
@@ -0,0 +1,183 @@
+package org.exparity.beans;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.exparity.beans.core.index.BeanIndex;
+import org.exparity.beans.core.index.SortedBeanIndex;
+import org.exparity.beans.testutils.types.AllTypes;
+import org.exparity.beans.testutils.types.Car;
+import org.exparity.beans.testutils.types.Engine;
+import org.exparity.beans.testutils.types.Person;
+import org.exparity.beans.testutils.types.Wheel;
+import org.junit.Test;
+import static org.exparity.beans.Type.type;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class BeanIndexesTest {
+
+	private final Person bob = new Person("Bob", "Onion"), tina = new Person("Tina", "Melon"), sue = new Person("Sue", "Onion");
+	private final List<Person> people = Arrays.asList(bob, tina, sue);
+
+	@Test
+	public void canFindBeansByAPropertyValue() {
+		BeanIndex<Person> bySurname = BeanIndexes.hashIndex(people, Person.class, "surname");
+		assertThat(bySurname.get("Onion"), contains(bob, sue));
+		assertThat(bySurname.get("Melon"), contains(tina));
+		assertThat(bySurname.get("Lime"), hasSize(0));
+		assertThat(bySurname.getFirst("Onion"), sameInstance(bob));
+		assertThat(bySurname.contains("Lime"), equalTo(false));
+		assertThat(bySurname.size(), equalTo(3));
+		assertThat(bySurname.keyCount(), equalTo(2));
+	}
+
+	@Test
+	public void canFindBeansByACompositeKey() {
+		BeanIndex<Person> byName = BeanIndexes.hashIndex(people, type(Person.class).get("surname"), type(Person.class).get("firstname"));
+		assertThat(byName.get("Onion", "Sue"), contains(sue));
+		assertThat(byName.get("Sue", "Onion"), hasSize(0));
+	}
+
+	@Test
+	public void canFindBeansByANullValue() {
+		Person nameless = new Person();
+		BeanIndex<Person> bySurname = BeanIndexes.hashIndex(Arrays.asList(bob, nameless), Person.class, "surname");
+		assertThat(bySurname.get((Object) null), contains(nameless));
+	}
+
+	@Test
+	public void canFindBeansByAPath() {
+		Car small = new Car(new Engine(new BigDecimal("1.2")), Arrays.asList(new Wheel(5))), large = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(7)));
+		BeanIndex<Car> byCapacity = BeanIndexes.hashIndexOnPaths(Arrays.asList(small, large), "engine.capacity", "wheels[0].diameter");
+		assertThat(byCapacity.get(new BigDecimal("3.8"), 7), contains(large));
+	}
+
+	@Test
+	public void canAddAndRemoveBeans() {
+		BeanIndex<Person> bySurname = BeanIndexes.hashIndex(people, Person.class, "surname");
+		assertThat(bySurname.remove(bob), equalTo(true));
+		assertThat(bySurname.remove(bob), equalTo(false));
+		bob.setSurname("Lime");
+		bySurname.add(bob);
+		assertThat(bySurname.get("Onion"), contains(sue));
+		assertThat(bySurname.get("Lime"), contains(bob));
+		assertThat(bySurname.remove(tina), equalTo(true));
+		assertThat(bySurname.contains("Melon"), equalTo(false));
+		assertThat(bySurname.size(), equalTo(2));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canNotFindBeansWithTheWrongNumberOfKeys() {
+		BeanIndexes.hashIndex(people, Person.class, "surname").get("Onion", "Bob");
+	}
+
+	@Test
+	public void canFindBeansInARangeOfPrimitiveKeys() {
+		List<AllTypes> beans = allTypes(5, 3, 1, 4, 2);
+		SortedBeanIndex<AllTypes> byLong = BeanIndexes.sortedIndex(beans, AllTypes.class, "longValue");
+		assertThat(byLong.range(2L, 4L), contains(beans.get(4), beans.get(1), beans.get(3)));
+		assertThat(byLong.range(2L, false, 4L, false), contains(beans.get(1)));
+		assertThat(byLong.range(6L, 9L), hasSize(0));
+		assertThat(byLong.from(4L), contains(beans.get(3), beans.get(0)));
+		assertThat(byLong.to(1L), contains(beans.get(2)));
+	}
+
+	@Test
+	public void canFindBeansInARangeOfPrimitiveKeysWithFractionalBounds() {
+		List<AllTypes> beans = allTypes(5, 3, 1, 4, 2);
+		SortedBeanIndex<AllTypes> byLong = BeanIndexes.sortedIndex(beans, AllTypes.class, "longValue");
+		assertThat(byLong.range(1.5, 3.5), contains(beans.get(4), beans.get(1)));
+		assertThat(byLong.range(-1.5, false, 1.5, false), contains(beans.get(2)));
+		assertThat(byLong.range(new BigDecimal("2.9"), new BigDecimal("3.0")), contains(beans.get(1)));
+		assertThat(byLong.from(4.5), contains(beans.get(0)));
+		assertThat(byLong.to(1.5), contains(beans.get(2)));
+		assertThat(byLong.floor(2.5), sameInstance(beans.get(4)));
+		assertThat(byLong.ceiling(2.5), sameInstance(beans.get(1)));
+	}
+
+	@Test
+	public void canFindBeansInARangeOfPrimitiveKeysWithBoundsOutsideTheRangeOfALong() {
+		List<AllTypes> beans = allTypes(5, 3, 1, 4, 2);
+		SortedBeanIndex<AllTypes> byLong = BeanIndexes.sortedIndex(beans, AllTypes.class, "longValue");
+		BigInteger huge = BigInteger.valueOf(Long.MAX_VALUE).shiftLeft(1);
+		assertThat(byLong.range(huge.negate(), huge), hasSize(5));
+		assertThat(byLong.from(huge), hasSize(0));
+		assertThat(byLong.to(Double.NEGATIVE_INFINITY), hasSize(0));
+		assertThat(byLong.range(BigInteger.valueOf(2), BigInteger.valueOf(3)), contains(beans.get(4), beans.get(1)));
+	}
+
+	@Test
+	public void canFindTheFloorAndCeilingOfAKey() {
+		List<AllTypes> beans = allTypes(10, 20, 30);
+		SortedBeanIndex<AllTypes> byDouble = BeanIndexes.sortedIndex(beans, AllTypes.class, "doubleValue");
+		assertThat(byDouble.floor(25.0), sameInstance(beans.get(1)));
+		assertThat(byDouble.floor(20.0), sameInstance(beans.get(1)));
+		assertThat(byDouble.floor(5.0), nullValue());
+		assertThat(byDouble.ceiling(25.0), sameInstance(beans.get(2)));
+		assertThat(byDouble.ceiling(35.0), nullValue());
+	}
+
+	@Test
+	public void canFindTheTopAndBottomBeans() {
+		List<AllTypes> beans = allTypes(5, 3, 1, 4, 2);
+		SortedBeanIndex<AllTypes> byDouble = BeanIndexes.sortedIndex(beans, AllTypes.class, "doubleValue");
+		assertThat(byDouble.top(2), contains(beans.get(0), beans.get(3)));
+		assertThat(byDouble.bottom(2), contains(beans.get(2), beans.get(4)));
+		assertThat(byDouble.top(10), hasSize(5));
+	}
+
+	@Test
+	public void canKeepTheOrderOfBeansWithEqualKeys() {
+		List<AllTypes> beans = allTypes(2, 1, 2, 1);
+		SortedBeanIndex<AllTypes> byLong = BeanIndexes.sortedIndex(beans, AllTypes.class, "longValue");
+		assertThat(byLong.beans(), contains(beans.get(1), beans.get(3), beans.get(0), beans.get(2)));
+		assertThat(byLong.floor(1L), sameInstance(beans.get(3)));
+		assertThat(byLong.ceiling(2L), sameInstance(beans.get(0)));
+	}
+
+	@Test
+	public void canFindBeansInARangeOfDates() {
+		List<AllTypes> beans = allTypes(3, 1, 2);
+		for (AllTypes bean : beans) {
+			bean.setDateValue(new Date(bean.getLongValue() * 1000L));
+		}
+		SortedBeanIndex<AllTypes> byDate = BeanIndexes.sortedIndex(beans, AllTypes.class, "dateValue");
+		assertThat(byDate.range(new Date(1500L), new Date(3000L)), contains(beans.get(2), beans.get(0)));
+	}
+
+	@Test
+	public void canFindBeansInARangeOfComparableKeys() {
+		SortedBeanIndex<Person> byFirstname = BeanIndexes.sortedIndex(people, Person.class, "firstname");
+		assertThat(byFirstname.beans(), contains(bob, sue, tina));
+		assertThat(byFirstname.range("C", "T"), contains(sue));
+	}
+
+	@Test
+	public void canLeaveOutBeansWithANullKey() {
+		List<AllTypes> beans = allTypes(1, 2, 3);
+		beans.get(1).setIntegerObjectValue(null);
+		SortedBeanIndex<AllTypes> byInteger = BeanIndexes.sortedIndex(beans, AllTypes.class, "integerObjectValue");
+		assertThat(byInteger.beans(), contains(beans.get(0), beans.get(2)));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canNotSortByAPropertyWhichIsNotComparable() {
+		BeanIndexes.sortedIndex(Arrays.asList(new Car()), Car.class, "engine");
+	}
+
+	private static List<AllTypes> allTypes(final int... values) {
+		List<AllTypes> beans = new ArrayList<AllTypes>();
+		for (int value : values) {
+			AllTypes bean = new AllTypes();
+			bean.setLongValue(value);
+			bean.setDoubleValue(value);
+			bean.setIntegerObjectValue(value);
+			beans.add(bean);
+		}
+		return beans;
+	}
+}
@@ -0,0 +1,217 @@
+package org.exparity.beans;
+
+import static org.exparity.beans.Bean.bean;
+import static org.exparity.beans.Type.type;
+import static org.exparity.beans.BeanPredicates.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import java.util.Locale;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.BeanPropertyPredicate;
+import org.exparity.beans.core.TypeMatch;
+import org.exparity.beans.core.TypePropertyPredicate;
+import org.exparity.beans.testutils.types.Car;
+import org.exparity.beans.testutils.types.Person;
+import org.junit.Test;
+
+/**
+ * @author Stewart Bissett
+ */
+public class BeanPredicatesTest {
+
+	@Test
+	public void canMatchAll() {
+		assertMatch(matchesAll(named("firstname"), ofType(String.class)), true);
+	}
+
+	@Test
+	public void canMatchAllWhichIsDifferent() {
+		assertMatch(matchesAll(named("firstname"), ofType(Integer.class)), false);
+	}
+
+	@Test
+	public void canMatchAny() {
+		assertMatch(matchesOneOf(named("firstname"), ofType(Integer.class)), true);
+	}
+
+	@Test
+	public void canMatchAnyWhichIsDifferent() {
+		assertMatch(matchesOneOf(named("lastname"), ofType(Integer.class)), false);
+	}
+
+	@Test
+	public void canAnyProperty() {
+		assertMatch(anyProperty(), true);
+	}
+
+	@Test
+	public void canMatchAName() {
+		assertMatch(named("firstname"), true);
+	}
+
+	@Test
+	public void canMatchANameWhichIsDifferent() {
+		assertMatch(named("lastname"), false);
+	}
+
+	@Test
+	public void canMatchAValue() {
+		assertMatch(hasValue("Bob"), true);
+	}
+
+	@Test
+	public void canMatchAValueWhichIsDifferent() {
+		assertMatch(hasValue("Tina"), false);
+	}
+
+	@Test
+	public void canMatchANameAndValue() {
+		assertMatch(hasPropertyValue("firstname", "Bob"), true);
+	}
+
+	@Test
+	public void canMatchANameAndValueWhichIsDifferent() {
+		assertMatch(hasPropertyValue("firstname", "Tina"), false);
+	}
+
+	@Test
+	public void canMatchAType() {
+		assertMatch(ofType(String.class), true);
+	}
+
+	@Test
+	public void canMatchATypeWhichIsDifferent() {
+		assertMatch(ofType(Integer.class), false);
+	}
+
+	@Test
+	public void canMatchWithDeclaringType() {
+		assertMatch(ofDeclaringType(Person.class), true);
+	}
+
+	@Test
+	public void canMatchWithDeclaringTypeWhichIsDifferent() {
+		assertMatch(ofDeclaringType(Car.class), false);
+	}
+
+	@Test
+	public void canMatchWithNameAndType() {
+		assertMatch(named("firstname", String.class), true);
+	}
+
+	@Test
+	public void canMatchWithNameAndTypeWrongType() {
+		assertMatch(named("firstname", Integer.class), false);
+	}
+
+	@Test
+	public void canMatchWithNameAndTypeWrongName() {
+		assertMatch(named("lastname", String.class), false);
+	}
+
+	@Test
+	public void canMatchPattern() {
+		assertMatch(BeanPredicates.matchesPattern("firstname", "B.*"), true);
+	}
+
+	@Test
+	public void canFailToMatchPattern() {
+		assertMatch(BeanPredicates.matchesPattern("firstname", "St.*"), false);
+	}
+
+	@Test
+	public void canMatchAllOnTheType() {
+		assertTypeMatch(matchesAll(named("firstname"), ofType(String.class)), TypeMatch.MATCH);
+	}
+
+	@Test
+	public void canMatchAllWhichDependsOnTheValue() {
+		assertTypeMatch(matchesAll(named("firstname"), hasValue("Bob")), TypeMatch.DEPENDS);
+	}
+
+	@Test
+	public void canMatchOneOfOnTheType() {
+		assertTypeMatch(matchesOneOf(hasValue("Bob"), named("firstname")), TypeMatch.MATCH);
+	}
+
+	@Test
+	public void canFailToMatchANameOnTheType() {
+		assertTypeMatch(named("lastname"), TypeMatch.NO_MATCH);
+	}
+
+	@Test
+	public void canFailToMatchANameAndValueOnTheType() {
+		assertTypeMatch(hasPropertyValue("lastname", "Bob"), TypeMatch.NO_MATCH);
+	}
+
+	@Test
+	public void canFailToMatchAPathOnTheType() {
+		assertTypeMatch(hasPath("person.lastname"), TypeMatch.NO_MATCH);
+	}
+
+	@Test
+	public void canMatchAPathWhichDependsOnTheInstance() {
+		assertTypeMatch(hasPath("person.firstname"), TypeMatch.DEPENDS);
+	}
+
+	@Test
+	public void canCompareEqualPredicates() {
+		assertThat(matchesAll(named("firstname"), hasValue("Bob")), equalTo(matchesAll(named("firstname"), hasValue("Bob"))));
+	}
+
+	@Test
+	public void canHashEqualPathsRegardlessOfTheDefaultLocale() {
+		Locale locale = Locale.getDefault();
+		Locale.setDefault(new Locale("tr"));
+		try {
+			assertThat(hasPath("person.FIRSTNAME"), equalTo(hasPath("person.firstname")));
+			assertThat(hasPath("person.FIRSTNAME").hashCode(), equalTo(hasPath("person.firstname").hashCode()));
+		} finally {
+			Locale.setDefault(locale);
+		}
+	}
+
+	@Test
+	public void canOptimizeByTestingTheNameBeforeTheValue() {
+		assertThat(optimize(matchesAll(hasValue("Bob"), named("firstname"))), equalTo(matchesAll(named("firstname"), hasValue("Bob"))));
+	}
+
+	@Test
+	public void canOptimizeByFlatteningNestedPredicates() {
+		assertThat(optimize(matchesAll(matchesPattern("firstname", "B.*"), matchesAll(hasPath("person.firstname"), named("firstname")))),
+				equalTo(matchesAll(named("firstname"), hasPath("person.firstname"), matchesPattern("firstname", "B.*"))));
+	}
+
+	@Test
+	public void canOptimizeByRemovingDuplicates() {
+		assertThat(optimize(matchesOneOf(named("firstname"), ofType(Integer.class), named("firstname"))), equalTo(matchesOneOf(named("firstname"), ofType(Integer.class))));
+	}
+
+	@Test
+	public void canOptimizeAPredicateWithOneChild() {
+		assertThat(optimize(matchesAll(anyProperty(), named("firstname"))), equalTo(named("firstname")));
+	}
+
+	@Test
+	public void canOptimizeAnyPropertyInMatchesOneOf() {
+		assertThat(optimize(matchesOneOf(hasValue("Bob"), anyProperty())), equalTo(anyProperty()));
+	}
+
+	@Test
+	public void canMatchWhenOptimized() {
+		assertMatch(optimize(matchesAll(hasValue("Bob"), matchesOneOf(named("lastname"), named("firstname")))), true);
+		assertMatch(optimize(matchesAll(hasValue("Tina"), matchesOneOf(named("lastname"), named("firstname")))), false);
+	}
+
+	private void assertTypeMatch(final BeanPropertyPredicate predicate, final TypeMatch expected) {
+		assertThat(((TypePropertyPredicate) predicate).matchesType(type(Person.class).get("firstname")), equalTo(expected));
+	}
+
+	private void assertMatch(final BeanPropertyPredicate predicate, final boolean expected) {
+		Person person = new Person();
+		person.setFirstname("Bob");
+		BeanProperty firstName = bean(person).get("firstname");
+		assertThat(predicate.matches(firstName), equalTo(expected));
+	}
+
+}
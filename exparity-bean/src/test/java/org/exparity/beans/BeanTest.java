@@ -49,6 +49,20 @@ public class BeanTest {
 		assertThat(property.getPath().fullPath(), equalTo("person.firstname"));
 	}
 
+	@Test
+	public void canGetAPropertyByNameIgnoringCase() {
+		Person instance = new Person();
+		BeanProperty property = bean(instance).propertyNamed("FIRSTName");
+		assertThat(property.getName(), equalTo("firstname"));
+		assertThat(property, equalTo(bean(instance).findAny(named("FIRSTName"))));
+	}
+
+	@Test
+	public void canGetAPropertyByNameOnACollection() {
+		BeanProperty property = bean(Arrays.asList(new Person())).propertyNamed("firstname");
+		assertThat(property.getPath().fullPath(), equalTo("collection[0].firstname"));
+	}
+
 	@Test(expected = BeanPropertyNotFoundException.class)
 	public void canGetAPropertyByNameIncorrectProperty() {
 		bean(new Person()).propertyNamed("missing");
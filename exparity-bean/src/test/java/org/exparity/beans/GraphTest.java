@@ -2,10 +2,16 @@
 package org.exparity.beans;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.exparity.beans.core.BeanCursor;
+import org.exparity.beans.core.BeanCursorVisitor;
 import org.exparity.beans.core.BeanProperty;
 import org.exparity.beans.core.BeanPropertyException;
 import org.exparity.beans.core.BeanPropertyFunction;
@@ -23,9 +29,11 @@ import org.hamcrest.Matchers;
 import org.junit.Test;
 import org.mockito.Mockito;
 import static org.exparity.beans.Bean.bean;
+import static org.exparity.beans.BeanPredicates.hasValue;
 import static org.exparity.beans.BeanPredicates.named;
 import static org.exparity.beans.BeanPredicates.ofType;
 import static org.exparity.beans.Graph.graph;
+import static org.exparity.beans.testutils.BeanUtilTestFixture.aPopulatedAllTypes;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.Matchers.any;
@@ -80,6 +88,42 @@ public class GraphTest {
 		assertThat(property.getPath().fullPathWithNoIndexes(), equalTo("car.wheels.diameter"));
 	}
 
+	@Test
+	public void canGetAGraphPropertyByPathBeneathADate() {
+		BeanProperty property = graph(aPopulatedAllTypes()).propertyAtPath("allTypes.dateValue.time");
+		assertThat(property, notNullValue());
+		assertThat(property.getValue(), instanceOf(Long.class));
+	}
+
+	@Test
+	public void canGetAGraphPropertyByPathWithoutCallingOtherGetters() {
+		BeanProperty property = graph(new Household()).propertyAtPath("household.owner.firstname");
+		assertThat(property.getPath().fullPath(), equalTo("household.owner.firstname"));
+		assertThat(property.getValue(), equalTo((Object) "Bob"));
+	}
+
+	@Test
+	public void canNotGetAGraphPropertyByAMissingPath() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1)));
+		assertThat(graph(car).propertyAtPath("car.wheels[1].diameter"), nullValue());
+		assertThat(graph(car).propertyAtPath("car.wheels[x].diameter"), nullValue());
+		assertThat(graph(car).propertyAtPath("car.engine.missing"), nullValue());
+		assertThat(graph(car).propertyAtPath("truck.engine.capacity"), nullValue());
+	}
+
+	@Test
+	public void canSetAGraphPropertyByPath() {
+		Person brother = new Person("Bob", "Onion");
+		brother.setSiblings(Arrays.asList(new Person("Tina", "Melon"), new Person("Sue", "Lemon")));
+		assertThat(graph(brother).setPropertyAtPath("person.siblings[1].firstname", "Susan"), equalTo(true));
+		assertThat(brother.getSiblings().get(1).getFirstname(), equalTo("Susan"));
+	}
+
+	@Test(expected = BeanPropertyNotFoundException.class)
+	public void canNotSetAGraphPropertyByAMissingPath() {
+		graph(new Person()).setPropertyAtPath("person.siblings[0].firstname", "Susan");
+	}
+
 	@Test
 	public void canGetAGraphPropertyByPathIgnoreOrdinal() {
 		Car person = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1)));
@@ -269,6 +313,104 @@ public class GraphTest {
 		verifyNoMoreInteractions(visitor);
 	}
 
+	@Test
+	public void canVisitAGraphWithACursor() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1), new Wheel(2)));
+		final List<BeanProperty> properties = new ArrayList<BeanProperty>();
+		final Set<BeanCursor> cursors = new HashSet<BeanCursor>();
+		final Map<String, Integer> depths = new HashMap<String, Integer>();
+		graph(car).visit(new BeanCursorVisitor() {
+
+			public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+				properties.add(cursor.toBeanProperty());
+				cursors.add(cursor);
+				depths.put(cursor.getPath().fullPath(), cursor.getDepth());
+			}
+		});
+		assertThat(properties, equalTo(graph(car).propertyList()));
+		assertThat(cursors, hasSize(1));
+		assertThat(depths, hasEntry("car.engine", 0));
+		assertThat(depths, hasEntry("car.wheels[1].diameter", 1));
+	}
+
+	@Test
+	public void canVisitEqualObjectsWhichAreNotTheSameInstance() {
+		Pair pair = pairWithTheSameIdentityHashCode();
+		List<Object> names = new ArrayList<Object>();
+		for (BeanProperty property : graph(pair).find(named("name"))) {
+			names.add(property.getValue());
+		}
+		assertThat(names, containsInAnyOrder((Object) "first", "second"));
+	}
+
+	/**
+	 * Return a pair of objects which are equal and also share an identity hash code, so a walk which tracks the objects it has seen by either would only visit one of them
+	 */
+	private static Pair pairWithTheSameIdentityHashCode() {
+		Map<Integer, AlwaysEqual> created = new HashMap<Integer, AlwaysEqual>();
+		while (true) {
+			AlwaysEqual instance = new AlwaysEqual("second");
+			AlwaysEqual previous = created.put(System.identityHashCode(instance), instance);
+			if (previous != null) {
+				previous.setName("first");
+				return new Pair(previous, instance);
+			}
+		}
+	}
+
+	public static class Pair {
+
+		private AlwaysEqual left, right;
+
+		public Pair(final AlwaysEqual left, final AlwaysEqual right) {
+			this.left = left;
+			this.right = right;
+		}
+
+		public AlwaysEqual getLeft() {
+			return left;
+		}
+
+		public void setLeft(final AlwaysEqual left) {
+			this.left = left;
+		}
+
+		public AlwaysEqual getRight() {
+			return right;
+		}
+
+		public void setRight(final AlwaysEqual right) {
+			this.right = right;
+		}
+	}
+
+	public static class AlwaysEqual {
+
+		private String name;
+
+		public AlwaysEqual(final String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public void setName(final String name) {
+			this.name = name;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof AlwaysEqual;
+		}
+
+		@Override
+		public int hashCode() {
+			return 0;
+		}
+	}
+
 	@Test
 	public void canVisitABeanWithNoProperties() {
 		BeanVisitor visitor = Mockito.mock(BeanVisitor.class);
@@ -376,6 +518,165 @@ public class GraphTest {
 		assertThat(instance.getSurname(), equalTo("Applied"));
 	}
 
+	@Test
+	public void canFindAPropertyOnAGraphInParallel() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1), new Wheel(2)));
+		assertThat(graph(car).parallelFind(named("diameter")), equalTo(graph(car).find(named("diameter"))));
+	}
+
+	@Test
+	public void canApplyAFunctionToAGraphInParallel() {
+		Person instance = new Person();
+		graph(instance).parallelApply(new SetValue("Applied"), ofType(String.class));
+		assertThat(instance.getFirstname(), equalTo("Applied"));
+		assertThat(instance.getSurname(), equalTo("Applied"));
+	}
+
+	private static List<String> paths(final List<BeanProperty> properties) {
+		List<String> paths = new ArrayList<String>();
+		for (BeanProperty property : properties) {
+			paths.add(property.getPath().fullPath());
+		}
+		return paths;
+	}
+
+	@Test
+	public void canLimitTheDepthOfAGraph() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1)));
+		assertThat(paths(graph(car).maxDepth(0).propertyList()), contains("car.engine", "car.wheels"));
+	}
+
+	@Test
+	public void canIncludePathsInAGraph() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1), new Wheel(2)));
+		assertThat(paths(graph(car).includePaths("car.wheels[*].diameter").propertyList()), contains("car.wheels[0].diameter", "car.wheels[1].diameter"));
+	}
+
+	@Test
+	public void canExcludePathsFromAGraph() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1)));
+		assertThat(paths(graph(car).excludePaths("car.wheels").propertyList()), contains("car.engine", "car.engine.capacity"));
+	}
+
+	@Test
+	public void canNotCallGettersOutsideTheIncludedPaths() {
+		assertThat(paths(graph(new Household()).includePaths("household.owner.firstname").propertyList()), contains("household.owner.firstname"));
+	}
+
+	public static class Household {
+
+		private Person owner = new Person("Bob", "Onion");
+
+		public Person getOwner() {
+			return owner;
+		}
+
+		public void setOwner(final Person owner) {
+			this.owner = owner;
+		}
+
+		public Person getLodger() {
+			throw new AssertionError("Getter outside the included paths was called");
+		}
+
+		public void setLodger(final Person lodger) {}
+	}
+
+	@Test
+	public void canMemoizeValuesDuringAVisit() {
+		Garage garage = new Garage();
+		Graph graph = graph(garage);
+		graph.setMemoizeValues(true);
+		assertThat(graph.find(hasValue(garage.wheel)), hasSize(1));
+		assertThat(garage.reads, equalTo(1));
+	}
+
+	@Test
+	public void canReadValuesEachTimeIfNotMemoized() {
+		Garage garage = new Garage();
+		assertThat(graph(garage).find(hasValue(garage.wheel)), hasSize(1));
+		assertThat(garage.reads, equalTo(2));
+	}
+
+	@Test
+	public void canReadTheLatestValueAfterAMemoizedVisit() {
+		Garage garage = new Garage();
+		Graph graph = graph(garage);
+		graph.setMemoizeValues(true);
+		BeanProperty property = graph.findAny(named("wheel"));
+		garage.wheel = new Wheel(7);
+		assertThat(property.getValue(), equalTo((Object) garage.wheel));
+	}
+
+	@Test
+	public void canInspectAValueSetDuringAMemoizedVisit() {
+		final Wheel replacement = new Wheel(7);
+		final List<Object> diameters = new ArrayList<Object>();
+		Graph graph = graph(new Garage());
+		graph.setMemoizeValues(true);
+		graph.visit(new BeanCursorVisitor() {
+
+			public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+				if (cursor.getName().equals("wheel")) {
+					cursor.toBeanProperty().setValue(replacement);
+				} else {
+					diameters.add(cursor.getValue());
+				}
+			}
+		});
+		assertThat(diameters, contains((Object) 7));
+	}
+
+	@Test
+	public void canMemoizePrimitiveValuesDuringAVisit() {
+		final Meter meter = new Meter();
+		final List<Object> values = new ArrayList<Object>();
+		Graph graph = graph(meter);
+		graph.setMemoizeValues(true);
+		graph.visit(new BeanCursorVisitor() {
+
+			public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+				BeanProperty property = cursor.toBeanProperty();
+				values.add(property.getValue());
+				values.add(property.getInt());
+				values.add(property.getLong());
+				values.add(property.getDouble());
+			}
+		});
+		assertThat(values, contains((Object) 5, 5, 5L, 5.0));
+		assertThat(meter.reads, equalTo(1));
+	}
+
+	public static class Meter {
+
+		private int reading = 5;
+		private int reads;
+
+		public int getReading() {
+			++reads;
+			return reading;
+		}
+
+		public void setReading(final int reading) {
+			this.reading = reading;
+		}
+	}
+
+	public static class Garage {
+
+		private Wheel wheel = new Wheel(5);
+		private int reads;
+
+		public Wheel getWheel() {
+			++reads;
+			return wheel;
+		}
+
+		public void setWheel(final Wheel wheel) {
+			this.wheel = wheel;
+		}
+	}
+
 	@Test
 	public void canOverrideNaming() {
 		Car person = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1)));
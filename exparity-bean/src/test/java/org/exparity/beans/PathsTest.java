@@ -0,0 +1,215 @@
+package org.exparity.beans;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.exparity.beans.core.BeanProperty;
+import org.exparity.beans.core.PathExpression;
+import org.exparity.beans.core.Row;
+import org.exparity.beans.testutils.types.Car;
+import org.exparity.beans.testutils.types.Engine;
+import org.exparity.beans.testutils.types.Person;
+import org.exparity.beans.testutils.types.Wheel;
+import org.junit.Test;
+import static org.exparity.beans.Graph.graph;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class PathsTest {
+
+	@Test
+	public void canEvaluateAPath() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1)));
+		assertThat(Paths.compile("engine.capacity").value(car), equalTo((Object) new BigDecimal("3.8")));
+	}
+
+	@Test
+	public void canEvaluateAPathWithAWildcard() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1), new Wheel(2), new Wheel(3)));
+		assertThat(Paths.compile("wheels[*].diameter").values(car), contains((Object) 1, 2, 3));
+	}
+
+	@Test
+	public void canEvaluateAPathWithAnIndex() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1), new Wheel(2), new Wheel(3)));
+		assertThat(Paths.compile("wheels[1].diameter").values(car), contains((Object) 2));
+		assertThat(Paths.compile("wheels[3].diameter").values(car), hasSize(0));
+	}
+
+	@Test
+	public void canEvaluateAPathThroughNestedWildcards() {
+		Person bob = new Person("Bob", "Onion"), tina = new Person("Tina", "Melon");
+		bob.setSiblings(Arrays.asList(new Person("Sue", "Lemon"), new Person("Tim", "Lime")));
+		tina.setSiblings(Arrays.asList(new Person("Jim", "Grape")));
+		Map<String, Person> people = new HashMap<String, Person>();
+		people.put("bob", bob);
+		people.put("tina", tina);
+		Household household = new Household(people);
+		assertThat(Paths.compile("people[*].siblings[*].firstname").values(household), containsInAnyOrder((Object) "Sue", "Tim", "Jim"));
+		assertThat(Paths.compile("people[tina].siblings[*].firstname").values(household), contains((Object) "Jim"));
+	}
+
+	@Test
+	public void canEvaluateAPathToProperties() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1), new Wheel(2)));
+		List<BeanProperty> properties = graph(car).propertiesAtPath(Paths.compile("wheels[*].diameter"));
+		assertThat(properties, contains(graph(car).propertyAtPath("car.wheels[0].diameter"), graph(car).propertyAtPath("car.wheels[1].diameter")));
+		assertThat(properties.get(1).getPath().fullPath(), equalTo("car.wheels[1].diameter"));
+	}
+
+	@Test
+	public void canEvaluateAPathAgainstManyInstances() {
+		PathExpression diameters = Paths.compile("wheels[*].diameter");
+		List<Object> values = new ArrayList<Object>();
+		for (int i = 0; i < 3; ++i) {
+			values.addAll(diameters.values(new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(i)))));
+		}
+		assertThat(values, contains((Object) 0, 1, 2));
+	}
+
+	@Test
+	public void canEvaluateAPathAgainstDifferentTypes() {
+		PathExpression firstnames = Paths.compile("owner.firstname");
+		assertThat(firstnames.value(new Household(new Person("Bob", "Onion"))), equalTo((Object) "Bob"));
+		assertThat(firstnames.value(new Car(null, null)), nullValue());
+		assertThat(firstnames.value(new Household(new Person("Tina", "Melon"))), equalTo((Object) "Tina"));
+	}
+
+	@Test
+	public void canNotEvaluateAMissingPath() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1)));
+		assertThat(Paths.compile("engine.missing").value(car), nullValue());
+		assertThat(Paths.compile("engine.capacity.scale").value(car), nullValue());
+		assertThat(Paths.compile("engine[*].capacity").value(car), nullValue());
+	}
+
+	@Test
+	public void canSkipAPathWhoseGetterThrows() {
+		assertThat(Paths.compile("value").values(new Fragile()), hasSize(0));
+		assertThat(Paths.compile("owner.firstname").values(new Fragile()), hasSize(0));
+		assertThat(Paths.compile("name").values(new Fragile()), contains((Object) "Fragile"));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canNotCompileAPathEndingInAWildcard() {
+		Paths.compile("wheels[*]");
+	}
+
+	@Test
+	public void canProjectSeveralPaths() {
+		Car car = new Car(new Engine(new BigDecimal("3.8")), Arrays.asList(new Wheel(1), new Wheel(2)));
+		Row row = graph(car).project("engine.capacity", "wheels[*].diameter", "wheels[1].diameter", "engine.missing");
+		assertThat(row.size(), equalTo(4));
+		assertThat(row.get(0), equalTo((Object) new BigDecimal("3.8")));
+		assertThat(row.get(1), equalTo((Object) Arrays.asList(1, 2)));
+		assertThat(row.get("wheels[1].diameter"), equalTo((Object) 2));
+		assertThat(row.get(3), nullValue());
+	}
+
+	@Test
+	public void canProjectPathsWithACommonPrefixInOneWalk() {
+		Order order = new Order(new Person("Bob", "Onion"));
+		Row row = graph(order).project("customer.firstname", "customer.surname", "customer.firstname");
+		assertThat(row.values(), contains((Object) "Bob", "Onion", "Bob"));
+		assertThat(order.reads, equalTo(1));
+	}
+
+	@Test
+	public void canProjectManyInstances() {
+		List<Order> orders = Arrays.asList(new Order(new Person("Bob", "Onion")), new Order(null), new Order(new Person("Tina", "Melon")));
+		List<Row> rows = Paths.projection("customer.firstname").projectAll(orders);
+		assertThat(rows, hasSize(3));
+		assertThat(rows.get(0).get(0), equalTo((Object) "Bob"));
+		assertThat(rows.get(1).get(0), nullValue());
+		assertThat(rows.get(2).get(0), equalTo((Object) "Tina"));
+	}
+
+	@Test
+	public void canProjectAPathWhoseGetterThrows() {
+		Row row = graph(new Fragile()).project("name", "value", "owner.firstname");
+		assertThat(row.values(), contains((Object) "Fragile", null, null));
+	}
+
+	@Test(expected = ClassCastException.class)
+	public void canNotGetAColumnAsTheWrongType() {
+		graph(new Order(new Person("Bob", "Onion"))).project("customer.firstname").get(0, Integer.class);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canNotGetAPathWhichWasNotProjected() {
+		graph(new Order(null)).project("customer.firstname").get("customer.surname");
+	}
+
+	public static class Order {
+
+		private Person customer;
+		private int reads;
+
+		public Order(final Person customer) {
+			this.customer = customer;
+		}
+
+		public Person getCustomer() {
+			++reads;
+			return customer;
+		}
+
+		public void setCustomer(final Person customer) {
+			this.customer = customer;
+		}
+	}
+
+	public static class Fragile {
+
+		public String getName() {
+			return "Fragile";
+		}
+
+		public void setName(final String name) {}
+
+		public int getValue() {
+			throw new IllegalStateException();
+		}
+
+		public void setValue(final int value) {}
+
+		public Person getOwner() {
+			throw new IllegalStateException();
+		}
+
+		public void setOwner(final Person owner) {}
+	}
+
+	public static class Household {
+
+		private Person owner;
+		private Map<String, Person> people;
+
+		public Household(final Person owner) {
+			this.owner = owner;
+		}
+
+		public Household(final Map<String, Person> people) {
+			this.people = people;
+		}
+
+		public Person getOwner() {
+			return owner;
+		}
+
+		public void setOwner(final Person owner) {
+			this.owner = owner;
+		}
+
+		public Map<String, Person> getPeople() {
+			return people;
+		}
+
+		public void setPeople(final Map<String, Person> people) {
+			this.people = people;
+		}
+	}
+}
@@ -1,12 +1,16 @@
 
 package org.exparity.beans;
 
+import java.util.ArrayList;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import org.exparity.beans.core.BeanPropertyException;
 import org.exparity.beans.core.BeanPropertyNotFoundException;
 import org.exparity.beans.core.TypeProperty;
 import org.exparity.beans.core.TypeVisitor;
+import org.exparity.beans.core.naming.CamelCaseNamingStrategy;
+import org.exparity.beans.core.ordering.InClassOrder;
 import org.exparity.beans.testutils.types.AllTypes;
 import org.exparity.beans.testutils.types.AllTypes.EnumValues;
 import org.exparity.beans.testutils.types.Employee;
@@ -115,6 +119,27 @@ public class TypeTest {
 		assertThat(properties, hasItem(equalTo(type.propertyNamed("siblings"))));
 	}
 
+	@Test
+	public void canShareTheListOfPropertiesForTheSameOrdering() {
+		assertThat(type(Person.class).propertyList(), sameInstance(type(Person.class).propertyList()));
+		assertThat(new Type(Person.class, new CamelCaseNamingStrategy(), new InClassOrder()).propertyList(),
+				sameInstance(new Type(Person.class, new CamelCaseNamingStrategy(), new InClassOrder()).propertyList()));
+		assertThat(type(Person.class).propertyMap(), sameInstance(type(Person.class).propertyMap()));
+	}
+
+	@Test
+	public void canGetAListOfPropertiesInAlphabeticalOrder() {
+		List<TypeProperty> properties = type(Person.class).propertyList();
+		assertThat(properties.get(0).getName(), equalTo("firstname"));
+		assertThat(properties.get(1).getName(), equalTo("siblings"));
+		assertThat(properties.get(2).getName(), equalTo("surname"));
+	}
+
+	@Test(expected = UnsupportedOperationException.class)
+	public void canPreventChangesToTheSharedListOfProperties() {
+		type(Person.class).propertyList().clear();
+	}
+
 	@Test
 	public void canGetAListOfPropertiesNotABean() {
 		assertThat(type(NameMismatch.class).propertyList().size(), equalTo(0));
@@ -233,4 +258,63 @@ public class TypeTest {
 		assertThat(type(Integer.class).isArray(), equalTo(false));
 	}
 
+	@Test
+	public void canExtractAColumnOfDoubles() {
+		assertThat(type(AllTypes.class).column("doubleValue").extractDoubles(allTypes(3)), equalTo(new double[] {
+				0.0, 1.0, 2.0
+		}));
+	}
+
+	@Test
+	public void canExtractAColumnOfLongs() {
+		assertThat(type(AllTypes.class).column("longValue").extractLongs(allTypes(3)), equalTo(new long[] {
+				0L, 1L, 2L
+		}));
+	}
+
+	@Test
+	public void canExtractAColumnOfInts() {
+		assertThat(type(AllTypes.class).column("integerValue").extractInts(new LinkedList<AllTypes>(allTypes(3))), equalTo(new int[] {
+				0, 1, 2
+		}));
+	}
+
+	@Test
+	public void canExtractAColumnOfObjects() {
+		assertThat(type(AllTypes.class).column("stringValue").extract(allTypes(3), String.class), arrayContaining("0", "1", "2"));
+	}
+
+	@Test
+	public void canExtractAColumnOfPrimitivesAsWrappers() {
+		Long[] values = type(AllTypes.class).column("longValue").extract(allTypes(3), long.class);
+		assertThat(values, arrayContaining(0L, 1L, 2L));
+	}
+
+	@Test
+	public void canExtractAColumnInParallel() {
+		List<AllTypes> instances = allTypes(10000);
+		long[] values = type(AllTypes.class).column("longValue").withParallelThreshold(100).extractLongs(instances);
+		assertThat(values.length, equalTo(10000));
+		for (int i = 0; i < values.length; ++i) {
+			assertThat(values[i], equalTo((long) i));
+		}
+	}
+
+	@Test(expected = BeanPropertyNotFoundException.class)
+	public void canNotExtractAMissingColumn() {
+		type(AllTypes.class).column("missingValue");
+	}
+
+	private static List<AllTypes> allTypes(final int count) {
+		List<AllTypes> instances = new ArrayList<AllTypes>();
+		for (int i = 0; i < count; ++i) {
+			AllTypes instance = new AllTypes();
+			instance.setDoubleValue(i);
+			instance.setLongValue(i);
+			instance.setIntegerValue(i);
+			instance.setStringValue(String.valueOf(i));
+			instances.add(instance);
+		}
+		return instances;
+	}
 }
@@ -251,6 +251,16 @@ public class BeanPropertyTest {
 	}
 
 	@SuppressWarnings("rawtypes")
+	@Test
+	public void canGetAndSetAPrimitiveWithoutBoxing() {
+		AllTypes instance = new AllTypes();
+		BeanProperty property = beanProperty(instance, "integerValue");
+		assertThat(property.setInt(12345), equalTo(true));
+		assertThat(property.getInt(), equalTo(12345));
+		assertThat(property.getLong(), equalTo(12345L));
+		assertThat(instance.getIntegerValue(), equalTo(12345));
+	}
+
 	private <T> void verifyProperty(final Object instance, final String propertyName, final Class<T> propertyType, final Object currentValue, final T newValue,
 			final Class<?>... genericTypes) {
 		BeanProperty property = Bean.bean(new AllTypes()).propertyNamed(propertyName);
@@ -0,0 +1,62 @@
+package org.exparity.beans.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ConcurrentIdentitySetTest {
+
+	@Test
+	public void canAddAnObjectOnce() {
+		IdentitySet set = new ConcurrentIdentitySet();
+		Object object = new Object();
+		assertThat(set.add(object), equalTo(true));
+		assertThat(set.add(object), equalTo(false));
+		assertThat(set.contains(object), equalTo(true));
+		assertThat(set.size(), equalTo(1));
+		set.clear();
+		assertThat(set.contains(object), equalTo(false));
+		assertThat(set.size(), equalTo(0));
+	}
+
+	@Test
+	public void canAddAnObjectOnceFromManyThreads() throws Exception {
+		final IdentitySet set = new ConcurrentIdentitySet();
+		final Object[] objects = new Object[1000];
+		for (int i = 0; i < objects.length; ++i) {
+			objects[i] = new Object();
+		}
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<Future<Integer>> added = new ArrayList<Future<Integer>>();
+			for (int task = 0; task < 4; ++task) {
+				added.add(executor.submit(new Callable<Integer>() {
+
+					public Integer call() {
+						int count = 0;
+						for (Object object : objects) {
+							if (set.add(object)) {
+								++count;
+							}
+						}
+						return count;
+					}
+				}));
+			}
+			int total = 0;
+			for (Future<Integer> count : added) {
+				total += count.get();
+			}
+			assertThat(total, equalTo(objects.length));
+			assertThat(set.size(), equalTo(objects.length));
+		} finally {
+			executor.shutdown();
+		}
+	}
+}
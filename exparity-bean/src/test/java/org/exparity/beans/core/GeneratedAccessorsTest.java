@@ -0,0 +1,154 @@
+package org.exparity.beans.core;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import org.exparity.beans.testutils.types.AllTypes;
+import org.exparity.beans.testutils.types.Person;
+import org.junit.Test;
+
+public class GeneratedAccessorsTest {
+
+	@Test
+	public void canGenerateAnAccessorForAType() throws Exception {
+		Person person = new Person();
+		person.setFirstname("Bob");
+		boolean[] getters = new boolean[2], setters = new boolean[2];
+		BeanAccessor accessor = GeneratedAccessors.generate(Person.class, wrap(Person.class.getMethod("getFirstname"), Person.class.getMethod("getSurname")), wrap(
+				Person.class.getMethod("setFirstname", String.class), Person.class.getMethod("setSurname", String.class)), getters, setters);
+		assertThat(accessor, notNullValue());
+		assertThat(getters[0] && getters[1] && setters[0] && setters[1], equalTo(true));
+		accessor.set(person, 1, "Onion");
+		assertThat(accessor.get(person, 0), equalTo((Object) "Bob"));
+		assertThat(accessor.get(person, 1), equalTo((Object) "Onion"));
+	}
+
+	@Test
+	public void canGenerateAnAccessorForPrimitives() throws Exception {
+		AllTypes instance = new AllTypes();
+		BeanAccessor accessor = GeneratedAccessors.generate(AllTypes.class, wrap(AllTypes.class.getMethod("getLongValue"),
+				AllTypes.class.getMethod("isBooleanValue"),
+				AllTypes.class.getMethod("getCharValue"),
+				AllTypes.class.getMethod("getDoubleValue"),
+				AllTypes.class.getMethod("getArray")), wrap(AllTypes.class.getMethod("setLongValue", long.class),
+				AllTypes.class.getMethod("setBooleanValue", boolean.class),
+				AllTypes.class.getMethod("setCharValue", char.class),
+				AllTypes.class.getMethod("setDoubleValue", double.class),
+				AllTypes.class.getMethod("setArray", int[].class)), new boolean[5], new boolean[5]);
+		int[] array = new int[] {
+				1
+		};
+		accessor.set(instance, 0, 12345L);
+		accessor.set(instance, 1, true);
+		accessor.set(instance, 2, 'x');
+		accessor.set(instance, 3, 1.5);
+		accessor.set(instance, 4, array);
+		assertThat(accessor.get(instance, 0), equalTo((Object) 12345L));
+		assertThat(accessor.get(instance, 1), equalTo((Object) true));
+		assertThat(accessor.get(instance, 2), equalTo((Object) 'x'));
+		assertThat(accessor.get(instance, 3), equalTo((Object) 1.5));
+		assertThat(accessor.get(instance, 4), equalTo((Object) array));
+	}
+
+	@Test
+	public void canGenerateAnAccessorForAnInterfaceAndAFluentSetter() throws Exception {
+		Fluent instance = new Fluent();
+		BeanAccessor accessor = GeneratedAccessors.generate(Fluent.class, wrap(Named.class.getMethod("getName"), Fluent.class.getMethod("getTotal")), wrap(
+				Fluent.class.getMethod("setName", String.class), Fluent.class.getMethod("setTotal", long.class)), new boolean[2], new boolean[2]);
+		accessor.set(instance, 0, "Bob");
+		accessor.set(instance, 1, 10L);
+		assertThat(accessor.get(instance, 0), equalTo((Object) "Bob"));
+		assertThat(accessor.get(instance, 1), equalTo((Object) 10L));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void canNotGetASlotWhichWasNotGenerated() throws Exception {
+		GeneratedAccessors.generate(Person.class, wrap(Person.class.getMethod("getFirstname")), wrap(Person.class.getMethod("setFirstname", String.class)), new boolean[1],
+				new boolean[1]).get(new Person(), 1);
+	}
+
+	@Test
+	public void canSkipAMethodDeclaredOnANonPublicClass() throws Exception {
+		boolean[] getters = new boolean[1];
+		assertThat(GeneratedAccessors.generate(Person.class, wrap(Collections.unmodifiableList(new ArrayList<String>()).getClass().getMethod("isEmpty")), wrap(), getters,
+				new boolean[0]), nullValue());
+		assertThat(getters[0], equalTo(false));
+	}
+
+	@Test
+	public void canSkipATypeWhoseLoaderCannotSeeTheLibrary() throws Exception {
+		assertThat(GeneratedAccessors.generate(Date.class, wrap(Date.class.getMethod("getTime")), wrap(Date.class.getMethod("setTime", long.class)), new boolean[1],
+				new boolean[1]), nullValue());
+	}
+
+	@Test
+	public void canGetAndSetThroughAGeneratedAccessorWhenEnabled() throws Exception {
+		GeneratedAccessors.setEnabled(true);
+		try {
+			Person person = new Person();
+			BeanAccessor accessor = new DefaultBeanAccessor(Person.class, wrap(Person.class.getMethod("getFirstname")), wrap(Person.class.getMethod("setFirstname",
+					String.class)));
+			accessor.set(person, 0, "Bob");
+			assertThat(accessor.get(person, 0), equalTo((Object) "Bob"));
+			assertThat(person.getFirstname(), equalTo("Bob"));
+		} finally {
+			GeneratedAccessors.setEnabled(false);
+		}
+	}
+
+	@Test(expected = BeanPropertyException.class)
+	public void canRaiseTheExceptionOfAGeneratedAccessor() throws Exception {
+		GeneratedAccessors.setEnabled(true);
+		try {
+			new DefaultBeanAccessor(Fluent.class, wrap(Fluent.class.getMethod("getBroken")), wrap()).get(new Fluent(), 0);
+		} finally {
+			GeneratedAccessors.setEnabled(false);
+		}
+	}
+
+	private static MethodWrapper[] wrap(final Method... methods) {
+		MethodWrapper[] wrappers = new MethodWrapper[methods.length];
+		for (int i = 0; i < methods.length; ++i) {
+			wrappers[i] = new MethodWrapper(methods[i]);
+		}
+		return wrappers;
+	}
+
+	public interface Named {
+
+		String getName();
+	}
+
+	public static class Fluent implements Named {
+
+		private String name;
+		private long total;
+
+		public String getName() {
+			return name;
+		}
+
+		public Fluent setName(final String name) {
+			this.name = name;
+			return this;
+		}
+
+		public long getTotal() {
+			return total;
+		}
+
+		public long setTotal(final long total) {
+			this.total = total;
+			return total;
+		}
+
+		public String getBroken() {
+			throw new IllegalStateException();
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package org.exparity.beans.core;
+
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class HashIdentitySetTest {
+
+	@Test
+	public void canAddAnObjectOnce() {
+		IdentitySet set = new HashIdentitySet();
+		Object object = new Object();
+		assertThat(set.add(object), equalTo(true));
+		assertThat(set.add(object), equalTo(false));
+		assertThat(set.contains(object), equalTo(true));
+		assertThat(set.size(), equalTo(1));
+	}
+
+	@Test
+	public void canAddEqualObjectsWhichAreNotTheSameInstance() {
+		IdentitySet set = new HashIdentitySet();
+		assertThat(set.add(new String("value")), equalTo(true));
+		assertThat(set.add(new String("value")), equalTo(true));
+		assertThat(set.contains("value"), equalTo(false));
+		assertThat(set.size(), equalTo(2));
+	}
+
+	@Test
+	public void canGrowBeyondTheExpectedSize() {
+		IdentitySet set = new HashIdentitySet(2);
+		Object[] objects = new Object[1000];
+		for (int i = 0; i < objects.length; ++i) {
+			objects[i] = new Object();
+			assertThat(set.add(objects[i]), equalTo(true));
+		}
+		for (Object object : objects) {
+			assertThat(set.contains(object), equalTo(true));
+		}
+		assertThat(set.size(), equalTo(objects.length));
+	}
+
+	@Test
+	public void canClearTheSet() {
+		IdentitySet set = new HashIdentitySet();
+		Object object = new Object();
+		set.add(object);
+		set.clear();
+		assertThat(set.contains(object), equalTo(false));
+		assertThat(set.size(), equalTo(0));
+	}
+}
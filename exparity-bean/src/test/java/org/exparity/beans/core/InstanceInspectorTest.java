@@ -1,10 +1,14 @@
 package org.exparity.beans.core;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.exparity.beans.core.InstanceInspector.Traversal;
 import org.exparity.beans.core.naming.CamelCaseNamingStrategy;
 import org.exparity.beans.testutils.BeanUtilTestFixture;
 import org.exparity.beans.testutils.types.AllTypes;
@@ -27,6 +31,10 @@ import static org.exparity.beans.core.InstanceInspector.graphInspector;
 import static org.exparity.beans.testutils.BeanUtilTestFixture.aPopulatedCar;
 import static org.exparity.beans.testutils.BeanUtilTestFixture.aPopulatedPerson;
 import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.argThat;
 import static org.mockito.Matchers.eq;
@@ -110,6 +118,139 @@ public class InstanceInspectorTest {
 		verifyNoMoreInteractions(visitor);
 	}
 
+	@Test
+	public void canInspectAGraphInTheSameOrderUsingEitherTraversal() {
+		Person brother = aPopulatedPerson(), sister = aPopulatedPerson();
+		brother.setSiblings(asList(sister, aPopulatedPerson()));
+		sister.setSiblings(asList(brother));
+		Map<String, Object> graph = new HashMap<String, Object>();
+		graph.put("car", aPopulatedCar());
+		graph.put("people", new Object[] {
+				brother, sister
+		});
+		MatcherAssert.assertThat(visitedPaths(graphInspector(Traversal.ITERATIVE), graph), equalTo(visitedPaths(graphInspector(Traversal.RECURSIVE), graph)));
+	}
+
+	@Test
+	public void canFindEveryPropertyInAGraphByPath() {
+		Person brother = aPopulatedPerson(), sister = aPopulatedPerson();
+		brother.setSiblings(asList(sister, aPopulatedPerson()));
+		Map<String, Object> graph = new HashMap<String, Object>();
+		graph.put("car", aPopulatedCar());
+		graph.put("people", new Object[] {
+				brother, sister
+		});
+		for (BeanProperty property : capturedProperties(graph)) {
+			String path = property.getPath().fullPath();
+			BeanProperty found = graphInspector().propertyAtPath(graph, new CamelCaseNamingStrategy(), path);
+			MatcherAssert.assertThat(found.getPath().fullPath(), equalTo(path));
+			MatcherAssert.assertThat(found.getValue(), equalTo(property.getValue()));
+		}
+	}
+
+	@Test
+	public void canInspectAVeryDeepGraph() {
+		Person root = new Person("Bob", "Onion"), current = root;
+		for (int i = 0; i < 50000; ++i) {
+			Person sibling = new Person("Bob", "Onion");
+			current.setSiblings(asList(sibling));
+			current = sibling;
+		}
+		final AtomicInteger visited = new AtomicInteger();
+		graphInspector(Traversal.ITERATIVE).inspect(root, new CamelCaseNamingStrategy(), new BeanCursorVisitor() {
+
+			public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+				visited.incrementAndGet();
+			}
+		});
+		MatcherAssert.assertThat(visited.get(), equalTo(3 * 50001));
+	}
+
+	@Test
+	public void canInspectAGraphInParallelInTheSameOrder() {
+		List<Person> people = new ArrayList<Person>();
+		for (int i = 0; i < 100; ++i) {
+			Person person = new Person("Bob", "Onion" + i);
+			person.setSiblings(asList(new Person("Tina", "Melon" + i), new Person("Sue", "Lemon" + i), new Person("Tim", "Lime" + i)));
+			people.add(person);
+		}
+		final List<String> paths = new ArrayList<String>();
+		graphInspector().parallelInspect(people, new CamelCaseNamingStrategy(), new CapturePaths(paths), new ForkJoinPool(4), 2);
+		MatcherAssert.assertThat(paths, equalTo(visitedPaths(graphInspector(), people)));
+	}
+
+	@Test
+	public void canInspectAGraphInParallelAndNotOverflow() {
+		Person brother = new Person("Bob", "Onion"), sister = new Person("Tina", "Melon");
+		brother.setSiblings(asList(sister, brother, sister));
+		sister.setSiblings(asList(brother, sister, brother));
+		final List<String> paths = new ArrayList<String>();
+		graphInspector().parallelInspect(brother, new CamelCaseNamingStrategy(), new CapturePaths(paths), new ForkJoinPool(4), 2);
+		MatcherAssert.assertThat(paths, hasSize(visitedPaths(graphInspector(), brother).size()));
+	}
+
+	@Test
+	public void canInspectAGraphWithoutDescendingIntoLeafTypes() {
+		LeafTypes.register(Stamp.class);
+		Letter instance = new Letter();
+		instance.setStamp(new Stamp());
+		for (Traversal traversal : Traversal.values()) {
+			MatcherAssert.assertThat(visitedPaths(graphInspector(traversal), instance), contains("letter.stamp"));
+		}
+	}
+
+	@Test
+	public void canInspectAGraphDescendingIntoDates() {
+		AllTypes instance = BeanUtilTestFixture.aPopulatedAllTypes();
+		for (Traversal traversal : Traversal.values()) {
+			MatcherAssert.assertThat(visitedPaths(graphInspector(traversal), instance), hasItem("allTypes.dateValue.time"));
+		}
+	}
+
+	@Test
+	public void canStopAnInspectionOfACollection() {
+		List<Person> people = asList(new Person("Bob", "Onion"), new Person("Tina", "Melon"));
+		for (Traversal traversal : Traversal.values()) {
+			final List<String> paths = new ArrayList<String>();
+			graphInspector(traversal).inspect(people, new CamelCaseNamingStrategy(), new BeanCursorVisitor() {
+
+				public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+					paths.add(cursor.getPath().fullPath());
+					stop.set(true);
+				}
+			});
+			MatcherAssert.assertThat(paths, equalTo(asList("collection[0].firstname")));
+		}
+	}
+
+	@Test
+	public void canSkipTheChildrenOfAProperty() {
+		Car car = aPopulatedCar();
+		for (Traversal traversal : Traversal.values()) {
+			MatcherAssert.assertThat(visitedPaths(graphInspector(traversal), car, "car.wheels", TraversalControl.SKIP_CHILDREN),
+					equalTo(asList("car.engine", "car.engine.capacity", "car.wheels")));
+		}
+	}
+
+	@Test
+	public void canSkipTheSiblingsOfAProperty() {
+		Person brother = new Person("Bob", "Onion");
+		brother.setSiblings(asList(new Person("Tina", "Melon")));
+		for (Traversal traversal : Traversal.values()) {
+			MatcherAssert.assertThat(visitedPaths(graphInspector(traversal), brother, "person.siblings[0].firstname", TraversalControl.SKIP_SIBLINGS),
+					equalTo(asList("person.firstname", "person.siblings", "person.siblings[0].firstname", "person.surname")));
+		}
+	}
+
+	@Test
+	public void canStopAtAProperty() {
+		Car car = aPopulatedCar();
+		for (Traversal traversal : Traversal.values()) {
+			MatcherAssert.assertThat(visitedPaths(graphInspector(traversal), car, "car.engine.capacity", TraversalControl.STOP),
+					equalTo(asList("car.engine", "car.engine.capacity")));
+		}
+	}
+
 	@Test
 	public void canInspectAGraphAndNotOverflow() {
 		Person brother = aPopulatedPerson(), sister = aPopulatedPerson();
@@ -295,8 +436,88 @@ public class InstanceInspectorTest {
 		verifyNoMoreInteractions(visitor);
 	}
 
+	public static class Letter {
+
+		private Stamp stamp;
+
+		public Stamp getStamp() {
+			return stamp;
+		}
+
+		public void setStamp(final Stamp stamp) {
+			this.stamp = stamp;
+		}
+	}
+
+	public static class Stamp {
+
+		private int value = 1;
+
+		public int getValue() {
+			return value;
+		}
+
+		public void setValue(final int value) {
+			this.value = value;
+		}
+	}
+
+	private static class CapturePaths implements ParallelBeanVisitor {
+
+		private final List<String> paths;
+
+		public CapturePaths(final List<String> paths) {
+			this.paths = paths;
+		}
+
+		public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+			paths.add(cursor.getPath().fullPath());
+		}
+
+		public ParallelBeanVisitor fork() {
+			return new CapturePaths(new ArrayList<String>());
+		}
+
+		public void merge(final ParallelBeanVisitor forked) {
+			paths.addAll(((CapturePaths) forked).paths);
+		}
+	}
+
 	private Object[] aStackOf(final Object... instance) {
 		return argThat(arrayContaining(instance));
 	}
 
+	private List<String> visitedPaths(final InstanceInspector inspector, final Object instance, final String path, final TraversalControl control) {
+		final List<String> paths = new ArrayList<String>();
+		inspector.inspect(instance, new CamelCaseNamingStrategy(), new BeanTraversalVisitor() {
+
+			public TraversalControl visit(final BeanCursor cursor) {
+				paths.add(cursor.getPath().fullPath());
+				return cursor.getPath().fullPath().equals(path) ? control : TraversalControl.CONTINUE;
+			}
+		});
+		return paths;
+	}
+
+	private List<BeanProperty> capturedProperties(final Object instance) {
+		final List<BeanProperty> properties = new ArrayList<BeanProperty>();
+		graphInspector().inspect(instance, new CamelCaseNamingStrategy(), new BeanCursorVisitor() {
+
+			public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+				properties.add(cursor.toBeanProperty());
+			}
+		});
+		return properties;
+	}
+
+	private List<String> visitedPaths(final InstanceInspector inspector, final Object instance) {
+		final List<String> paths = new ArrayList<String>();
+		inspector.inspect(instance, new CamelCaseNamingStrategy(), new BeanCursorVisitor() {
+
+			public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+				paths.add(cursor.getPath().fullPath());
+			}
+		});
+		return paths;
+	}
 }
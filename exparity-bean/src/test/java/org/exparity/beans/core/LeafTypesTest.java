@@ -0,0 +1,92 @@
+package org.exparity.beans.core;
+
+import java.math.BigDecimal;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+import org.exparity.beans.testutils.types.Person;
+import org.junit.Test;
+import static org.exparity.beans.Type.typeProperty;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class LeafTypesTest {
+
+	@Test
+	public void canRecogniseTheDefaultLeafTypes() {
+		assertThat(LeafTypes.isLeaf(int.class), equalTo(true));
+		assertThat(LeafTypes.isLeaf(Integer.class), equalTo(true));
+		assertThat(LeafTypes.isLeaf(String.class), equalTo(true));
+		assertThat(LeafTypes.isLeaf(BigDecimal.class), equalTo(true));
+		assertThat(LeafTypes.isLeaf(TimeUnit.class), equalTo(true));
+	}
+
+	@Test
+	public void canRecogniseATypeWithPropertiesIsNotALeafTypeByDefault() {
+		assertThat(LeafTypes.isLeaf(Date.class), equalTo(false));
+		assertThat(LeafTypes.isLeaf(java.sql.Timestamp.class), equalTo(false));
+		assertThat(LeafTypes.isLeaf(Calendar.class), equalTo(false));
+		assertThat(LeafTypes.isLeaf(TimeZone.class), equalTo(false));
+	}
+
+	@Test
+	public void canRecogniseABeanIsNotALeafType() {
+		assertThat(LeafTypes.isLeaf(Person.class), equalTo(false));
+		assertThat(LeafTypes.isLeaf(Object.class), equalTo(false));
+	}
+
+	@Test
+	public void canRegisterALeafType() {
+		assertThat(LeafTypes.isLeaf(Money.class), equalTo(false));
+		LeafTypes.register(Money.class);
+		assertThat(LeafTypes.isLeaf(Money.class), equalTo(true));
+	}
+
+	@Test
+	public void canRegisterALeafTypeAfterAPropertyOfThatTypeIsIntrospected() {
+		TypeProperty property = typeProperty(Wallet.class, "coin");
+		assertThat(property.isScalar(), equalTo(false));
+		LeafTypes.register(Coin.class);
+		assertThat(property.isScalar(), equalTo(true));
+	}
+
+	public static class Money {
+
+		private BigDecimal amount;
+
+		public BigDecimal getAmount() {
+			return amount;
+		}
+
+		public void setAmount(final BigDecimal amount) {
+			this.amount = amount;
+		}
+	}
+
+	public static class Wallet {
+
+		private Coin coin;
+
+		public Coin getCoin() {
+			return coin;
+		}
+
+		public void setCoin(final Coin coin) {
+			this.coin = coin;
+		}
+	}
+
+	public static class Coin {
+
+		private int value;
+
+		public int getValue() {
+			return value;
+		}
+
+		public void setValue(final int value) {
+			this.value = value;
+		}
+	}
+}
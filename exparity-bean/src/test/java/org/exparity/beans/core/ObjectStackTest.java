@@ -0,0 +1,41 @@
+package org.exparity.beans.core;
+
+import org.junit.Test;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.emptyArray;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class ObjectStackTest {
+
+	@Test
+	public void canPushWithoutChangingTheParent() {
+		ObjectStack parent = ObjectStack.EMPTY.push("a");
+		ObjectStack child = parent.push("b");
+		assertThat(parent.toArray(), arrayContaining((Object) "a"));
+		assertThat(child.toArray(), arrayContaining((Object) "a", "b"));
+		assertThat(child.size(), equalTo(2));
+		assertThat(child.peek(), equalTo((Object) "b"));
+		assertThat(child.pop(), sameInstance(parent));
+	}
+
+	@Test
+	public void canShareTheParentBetweenSiblings() {
+		ObjectStack parent = ObjectStack.EMPTY.push("a");
+		assertThat(parent.push("b").toArray(), arrayContaining((Object) "a", "b"));
+		assertThat(parent.push("c").toArray(), arrayContaining((Object) "a", "c"));
+	}
+
+	@Test
+	public void canReuseTheArrayForAnEntry() {
+		ObjectStack stack = ObjectStack.EMPTY.push("a").push("b");
+		assertThat(stack.toArray(), sameInstance(stack.toArray()));
+	}
+
+	@Test
+	public void canConvertAnEmptyStackToAnArray() {
+		assertThat(ObjectStack.EMPTY.toArray(), emptyArray());
+		assertThat(ObjectStack.EMPTY.isEmpty(), equalTo(true));
+	}
+}
@@ -0,0 +1,114 @@
+package org.exparity.beans.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.exparity.beans.core.naming.CamelCaseNamingStrategy;
+import org.junit.Test;
+import static org.exparity.beans.BeanPredicates.hasValue;
+import static org.exparity.beans.BeanPredicates.matchesAll;
+import static org.exparity.beans.BeanPredicates.matchesOneOf;
+import static org.exparity.beans.BeanPredicates.named;
+import static org.exparity.beans.BeanPredicates.ofType;
+import static org.exparity.beans.core.InstanceInspector.graphInspector;
+import static org.exparity.beans.testutils.BeanUtilTestFixture.aPopulatedCar;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class PredicateMatcherTest {
+
+	@Test
+	public void canMatchATypePropertyPredicate() {
+		assertThat(matchedPaths(named("diameter")), equalTo(paths("car.wheels[0].diameter", "car.wheels[1].diameter", "car.wheels[2].diameter", "car.wheels[3].diameter")));
+	}
+
+	@Test
+	public void canMatchAPredicateWhichDependsOnTheValue() {
+		assertThat(matchedPaths(matchesAll(named("diameter"), hasValue(5))), equalTo(paths("car.wheels[0].diameter", "car.wheels[1].diameter", "car.wheels[2].diameter", "car.wheels[3].diameter")));
+	}
+
+	@Test
+	public void canMatchAPlainPredicate() {
+		BeanPropertyPredicate predicate = new BeanPropertyPredicate() {
+
+			public boolean matches(final BeanProperty property) {
+				return property.hasName("engine");
+			}
+		};
+		assertThat(matchedPaths(predicate), equalTo(paths("car.engine")));
+	}
+
+	@Test
+	public void canMatchOneOfSeveralPredicates() {
+		assertThat(matchedPaths(matchesOneOf(named("engine"), ofType(Integer.class))), equalTo(paths("car.engine",
+				"car.wheels[0].diameter",
+				"car.wheels[1].diameter",
+				"car.wheels[2].diameter",
+				"car.wheels[3].diameter")));
+	}
+
+	@Test
+	public void canTestEachPropertyOfEachTypeOnce() {
+		CountingPredicate predicate = new CountingPredicate(named("diameter"), TypeMatch.MATCH);
+		matchedPaths(predicate);
+		assertThat(predicate.typeTests.get(), equalTo(4));
+		assertThat(predicate.instanceTests.get(), equalTo(0));
+	}
+
+	@Test
+	public void canSkipPropertiesWhichCannotMatchTheType() {
+		CountingPredicate predicate = new CountingPredicate(named("diameter"), TypeMatch.DEPENDS);
+		assertThat(matchedPaths(predicate), equalTo(paths("car.wheels[0].diameter", "car.wheels[1].diameter", "car.wheels[2].diameter", "car.wheels[3].diameter")));
+		assertThat(predicate.typeTests.get(), equalTo(4));
+		assertThat(predicate.instanceTests.get(), equalTo(4));
+	}
+
+	private static List<String> matchedPaths(final BeanPropertyPredicate predicate) {
+		final PredicateMatcher matcher = new PredicateMatcher(predicate);
+		final List<String> paths = new ArrayList<String>();
+		graphInspector().inspect(aPopulatedCar(), new CamelCaseNamingStrategy(), new BeanCursorVisitor() {
+
+			public void visit(final BeanCursor cursor, final AtomicBoolean stop) {
+				BeanProperty property = matcher.match(cursor);
+				if (property != null) {
+					paths.add(property.getPath().fullPath());
+				}
+			}
+		});
+		return paths;
+	}
+
+	private static List<String> paths(final String... paths) {
+		List<String> list = new ArrayList<String>();
+		for (String path : paths) {
+			list.add(path);
+		}
+		return list;
+	}
+
+	/**
+	 * A predicate which counts how often it is tested and answers a match on the type with the supplied result when the delegate matches
+	 */
+	private static class CountingPredicate implements TypePropertyPredicate {
+
+		private final TypePropertyPredicate delegate;
+		private final TypeMatch onMatch;
+		private final AtomicInteger typeTests = new AtomicInteger(), instanceTests = new AtomicInteger();
+
+		public CountingPredicate(final BeanPropertyPredicate delegate, final TypeMatch onMatch) {
+			this.delegate = (TypePropertyPredicate) delegate;
+			this.onMatch = onMatch;
+		}
+
+		public boolean matches(final BeanProperty property) {
+			instanceTests.incrementAndGet();
+			return delegate.matches(property);
+		}
+
+		public TypeMatch matchesType(final TypeProperty property) {
+			typeTests.incrementAndGet();
+			return TypeMatch.MATCH.equals(delegate.matchesType(property)) ? onMatch : TypeMatch.NO_MATCH;
+		}
+	}
+}
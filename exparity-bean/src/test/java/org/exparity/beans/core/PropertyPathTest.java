@@ -1,5 +1,6 @@
 package org.exparity.beans.core;
 
+import java.util.concurrent.atomic.AtomicInteger;
 import org.exparity.beans.core.BeanPropertyPath;
 import org.junit.Test;
 import static org.hamcrest.Matchers.equalTo;
@@ -33,6 +34,22 @@ public class PropertyPathTest {
 		assertThat(0, equalTo(new BeanPropertyPath("").depth()));
 	}
 
+	@Test
+	public void canGetPathWithNoIndexesForAnAppendedPath() {
+		BeanPropertyPath siblings = new BeanPropertyPath("person").append("siblings");
+		BeanPropertyPath firstname = siblings.appendIndex(0).appendIndex(1).append("firstname");
+		BeanPropertyPath surname = siblings.appendIndex(0).appendKey("a-b c").append("surname");
+		assertThat(firstname.fullPathWithNoIndexes(), equalTo("person.siblings.firstname"));
+		assertThat(surname.fullPathWithNoIndexes(), equalTo("person.siblings.surname"));
+		assertThat(siblings.appendIndex(2).fullPathWithNoIndexes(), equalTo("person.siblings"));
+	}
+
+	@Test
+	public void canGetPathWithNoIndexesForAPathEndingInAnIndex() {
+		assertThat(new BeanPropertyPath("x.y.z[0]").fullPathWithNoIndexes(), equalTo("x.y.z"));
+		assertThat(new BeanPropertyPath("x[0][1].y").fullPathWithNoIndexes(), equalTo("x.y"));
+	}
+
 	@Test
 	public void canTestForStartsWith() {
 		assertThat(true, equalTo(new BeanPropertyPath("x.y.x[0].a.b.c").startsWith("x")));
@@ -78,4 +95,36 @@ public class PropertyPathTest {
 		assertThat(new BeanPropertyPath("x.y.z"), not(equalTo(new BeanPropertyPath("a.b.c"))));
 	}
 
+	@Test
+	public void canAppendAMapKeyWithoutConvertingItToAString() {
+		final AtomicInteger calls = new AtomicInteger();
+		Object key = new Object() {
+
+			@Override
+			public String toString() {
+				calls.incrementAndGet();
+				return "key";
+			}
+		};
+		BeanPropertyPath path = new BeanPropertyPath("x").appendKey(key).append("y");
+		assertThat(calls.get(), equalTo(0));
+		assertThat(path.fullPath(), equalTo("x[key].y"));
+		assertThat(path.fullPathWithNoIndexes(), equalTo("x.y"));
+		assertThat(path.depth(), equalTo(1));
+		assertThat(calls.get(), equalTo(1));
+	}
+
+	@Test
+	public void canGetTheFullPathOfAVeryDeepPath() {
+		BeanPropertyPath path = new BeanPropertyPath("x");
+		for (int i = 0; i < 100000; ++i) {
+			path = path.append("y");
+		}
+		assertThat(path.depth(), equalTo(100000));
+	}
+
+	@Test
+	public void canBeEqualIfSamePathBuiltFromSegments() {
+		assertThat(new BeanPropertyPath("x").append("y").appendIndex(0).append("z"), equalTo(new BeanPropertyPath("x.y[0].z")));
+	}
 }
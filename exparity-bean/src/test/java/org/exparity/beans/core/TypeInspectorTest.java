@@ -0,0 +1,214 @@
+package org.exparity.beans.core;
+
+import static org.exparity.beans.Type.type;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import java.lang.reflect.Method;
+import java.util.List;
+import org.exparity.beans.core.TypeInspector;
+import org.exparity.beans.core.TypeVisitor;
+import org.exparity.beans.core.naming.CamelCaseNamingStrategy;
+import org.exparity.beans.core.naming.CapitalizedNamingStrategy;
+import org.exparity.beans.core.naming.ForceRootNameNamingStrategy;
+import org.exparity.beans.testutils.types.Described;
+import org.exparity.beans.testutils.types.DescribedBeanDescriptor;
+import org.exparity.beans.testutils.types.GetterWithArgs;
+import org.exparity.beans.testutils.types.NameMismatch;
+import org.exparity.beans.testutils.types.OverloadedSetter;
+import org.exparity.beans.testutils.types.Person;
+import org.exparity.beans.testutils.types.SetterWithNoArgs;
+import org.exparity.beans.testutils.types.TypeMismatch;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+/**
+ * @author Stewart Bissett
+ */
+public class TypeInspectorTest {
+
+	@Test
+	public void canInspectAType() {
+		TypeVisitor visitor = Mockito.mock(TypeVisitor.class);
+		new TypeInspector().inspect(Person.class, visitor);
+		verify(visitor).visit(type(Person.class).get("firstname"));
+		verify(visitor).visit(type(Person.class).get("surname"));
+		verify(visitor).visit(type(Person.class).get("siblings"));
+		verifyNoMoreInteractions(visitor);
+	}
+
+	@Test
+	public void canInspectATypeWithOverloadedSetter() {
+		TypeVisitor visitor = Mockito.mock(TypeVisitor.class);
+		new TypeInspector().inspect(OverloadedSetter.class, visitor);
+		verify(visitor).visit(type(OverloadedSetter.class).propertyNamed("property"));
+		verifyNoMoreInteractions(visitor);
+	}
+
+	@Test
+	public void canSkipInspectATypeWhichHasGetterWithArgs() {
+		TypeVisitor visitor = Mockito.mock(TypeVisitor.class);
+		new TypeInspector().inspect(GetterWithArgs.class, visitor);
+		verifyNoMoreInteractions(visitor);
+	}
+
+	@Test
+	public void canSkipInspectATypeWhichHasSetterWithNoArgs() {
+		TypeVisitor visitor = Mockito.mock(TypeVisitor.class);
+		new TypeInspector().inspect(SetterWithNoArgs.class, visitor);
+		verifyNoMoreInteractions(visitor);
+	}
+
+	@Test
+	public void canSkipInspectATypeWhichHasMismatchedTypes() {
+		TypeVisitor visitor = Mockito.mock(TypeVisitor.class);
+		new TypeInspector().inspect(TypeMismatch.class, visitor);
+		verifyNoMoreInteractions(visitor);
+	}
+
+	@Test
+	public void canInspectATypeWhichHasANameMismatch() {
+		TypeVisitor visitor = Mockito.mock(TypeVisitor.class);
+		new TypeInspector().inspect(NameMismatch.class, visitor);
+		verifyNoMoreInteractions(visitor);
+	}
+
+	@Test
+	public void canReuseTheInspectedPropertiesForEqualNamingStrategies() {
+		TypeInspector inspector = new TypeInspector();
+		assertThat(inspector.propertyList(Person.class, new CamelCaseNamingStrategy()),
+				sameInstance(new TypeInspector().propertyList(Person.class, new CamelCaseNamingStrategy())));
+		assertThat(inspector.accessorList(Person.class, new ForceRootNameNamingStrategy(new CamelCaseNamingStrategy(), "root")),
+				sameInstance(inspector.accessorList(Person.class, new ForceRootNameNamingStrategy(new CamelCaseNamingStrategy(), "root"))));
+	}
+
+	@Test
+	public void canReuseTheInspectedPropertiesForDifferentForcedRootNames() {
+		TypeInspector inspector = new TypeInspector();
+		assertThat(inspector.propertyList(Person.class, new ForceRootNameNamingStrategy(new CamelCaseNamingStrategy(), "a")),
+				sameInstance(inspector.propertyList(Person.class, new ForceRootNameNamingStrategy(new CamelCaseNamingStrategy(), "b"))));
+	}
+
+	@Test
+	public void canInspectWithoutSharingPropertiesBetweenSubclassedStrategiesWithDifferentState() {
+		TypeInspector inspector = new TypeInspector();
+		assertThat(inspector.propertyList(Person.class, new PrefixNamingStrategy("a")).get(0).getName(), startsWith("a."));
+		assertThat(inspector.propertyList(Person.class, new PrefixNamingStrategy("b")).get(0).getName(), startsWith("b."));
+	}
+
+	@Test
+	public void canInspectWithoutCachingForNamingStrategiesWithoutEquality() {
+		final BeanNamingStrategy delegate = new CamelCaseNamingStrategy();
+		BeanNamingStrategy naming = new BeanNamingStrategy() {
+
+			public String describeRoot(final Class<?> type) {
+				return delegate.describeRoot(type);
+			}
+
+			public String describeType(final Class<?> type) {
+				return delegate.describeType(type);
+			}
+
+			public String describeProperty(final Method method, final String prefix) {
+				return delegate.describeProperty(method, prefix);
+			}
+		};
+		TypeInspector inspector = new TypeInspector();
+		assertThat(inspector.propertyList(Person.class, naming), not(sameInstance(inspector.propertyList(Person.class, naming))));
+	}
+
+	@Test
+	public void canAssignEachPropertyASlot() {
+		List<TypeProperty> properties = new TypeInspector().propertyList(Person.class, new CamelCaseNamingStrategy());
+		for (int slot = 0; slot < properties.size(); ++slot) {
+			assertThat(properties.get(slot).getSlot(), equalTo(slot));
+		}
+	}
+
+	@Test
+	public void canInspectATypeUsingABeanDescriptor() {
+		List<TypeProperty> properties = new TypeInspector().propertyList(Described.class, new CamelCaseNamingStrategy());
+		assertThat(properties.size(), equalTo(2));
+		assertThat(new TypeInspector().accessorList(Described.class, new CamelCaseNamingStrategy()).size(), equalTo(3));
+		TypeProperty property = properties.get(0);
+		assertThat(property.getName(), equalTo("name"));
+		Described instance = new Described();
+		int calls = DescribedBeanDescriptor.CALLS.get();
+		property.setValue(instance, "Bob");
+		assertThat(property.getValue(instance), equalTo((Object) "Bob"));
+		assertThat(DescribedBeanDescriptor.CALLS.get(), equalTo(calls + 2));
+	}
+
+	@Test
+	public void canGetAndSetPrimitivesUsingABeanDescriptor() {
+		TypeProperty property = new TypeInspector().propertyNamed(Described.class, new CamelCaseNamingStrategy(), "count");
+		Described instance = new Described();
+		int calls = DescribedBeanDescriptor.CALLS.get();
+		property.setInt(instance, 12);
+		assertThat(property.getLong(instance), equalTo(12L));
+		assertThat(DescribedBeanDescriptor.CALLS.get(), equalTo(calls + 2));
+	}
+
+	@Test
+	public void canNameThePropertiesOfATypeUsingABeanDescriptorWithTheNamingStrategy() {
+		assertThat(new TypeInspector().propertyList(Described.class, new CapitalizedNamingStrategy()).get(0).getName(), equalTo("Name"));
+		assertThat(new TypeInspector().propertyList(Described.class, new PrefixNamingStrategy("p")).get(0).getName(), equalTo("p.name"));
+	}
+
+	@Test
+	public void canPairAnAccessorWithTheMostSpecificSetter() {
+		TypeProperty property = new TypeInspector().propertyNamed(MostSpecificSetter.class, new CamelCaseNamingStrategy(), "property");
+		assertThat(property.getMutator().getParameterTypes()[0], equalTo((Object) String.class));
+	}
+
+	@Test
+	public void canInspectATypeWithoutIncludingStaticMethods() {
+		assertThat(new TypeInspector().propertyList(StaticProperty.class, new CamelCaseNamingStrategy()).size(), equalTo(0));
+		assertThat(new TypeInspector().accessorList(StaticProperty.class, new CamelCaseNamingStrategy()).size(), equalTo(1));
+	}
+
+	@Test(expected = BeanPropertyException.class)
+	public void canHandleIllegalArgumentExceptionOnSetUsingABeanDescriptor() {
+		type(Described.class).propertyNamed("name").setValue(new Described(), Boolean.FALSE);
+	}
+
+	public static class MostSpecificSetter {
+
+		public void setProperty(final Object property) {}
+
+		public void setProperty(final CharSequence property) {}
+
+		public void setProperty(final String property) {}
+
+		public String getProperty() {
+			return "";
+		}
+	}
+
+	public static class StaticProperty {
+
+		public static void setProperty(final String property) {}
+
+		public static String getProperty() {
+			return "";
+		}
+	}
+
+	private static class PrefixNamingStrategy extends CamelCaseNamingStrategy {
+
+		private final String prefix;
+
+		public PrefixNamingStrategy(final String prefix) {
+			this.prefix = prefix;
+		}
+
+		@Override
+		public String describeProperty(final Method method, final String prefix) {
+			return this.prefix + "." + super.describeProperty(method, prefix);
+		}
+	}
+}
@@ -5,6 +5,7 @@ import static java.util.Arrays.asList;
 import static java.util.Collections.singletonMap;
 import static junit.framework.Assert.assertFalse;
 import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
 import static org.exparity.beans.Type.typeProperty;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
@@ -52,6 +53,16 @@ public class TypePropertyTest {
 		assertThat(property.isPrimitive(), equalTo(false));
 	}
 
+	@Test
+	public void canTestIfAPropertyIsScalar() {
+		assertThat(typeProperty(AllTypes.class, "stringValue").isScalar(), equalTo(true));
+		assertThat(typeProperty(AllTypes.class, "integerValue").isScalar(), equalTo(true));
+		assertThat(typeProperty(AllTypes.class, "bigDecimalValue").isScalar(), equalTo(true));
+		assertThat(typeProperty(AllTypes.class, "dateValue").isScalar(), equalTo(false));
+		assertThat(typeProperty(AllTypes.class, "array").isScalar(), equalTo(false));
+		assertThat(typeProperty(Person.class, "siblings").isScalar(), equalTo(false));
+	}
+
 	@Test
 	public void canWrapAShortProperty() {
 		verifyProperty(new AllTypes(), "shortValue", short.class, (short) 0, Short.MAX_VALUE);
@@ -195,6 +206,92 @@ public class TypePropertyTest {
 		typeProperty(AllTypes.class, "stringValue").getValue(Boolean.FALSE);
 	}
 
+	@Test(expected = BeanPropertyException.class)
+	public void canHandleNullForAPrimitiveOnSet() throws Exception {
+		typeProperty(AllTypes.class, "longValue").setValue(new AllTypes(), null);
+	}
+
+	@Test
+	public void canSetAPrimitiveUsingAWideningConversion() throws Exception {
+		AllTypes instance = new AllTypes();
+		assertThat(typeProperty(AllTypes.class, "longValue").setValue(instance, 12345), equalTo(true));
+		assertThat(instance.getLongValue(), equalTo(12345L));
+	}
+
+	@Test
+	public void canGetAndSetPrimitivesWithoutBoxing() throws Exception {
+		AllTypes instance = new AllTypes();
+		assertThat(typeProperty(AllTypes.class, "integerValue").setInt(instance, 12345), equalTo(true));
+		assertThat(typeProperty(AllTypes.class, "integerValue").getInt(instance), equalTo(12345));
+		assertThat(typeProperty(AllTypes.class, "doubleValue").setDouble(instance, 1.5), equalTo(true));
+		assertThat(typeProperty(AllTypes.class, "doubleValue").getDouble(instance), equalTo(1.5));
+		assertThat(typeProperty(AllTypes.class, "booleanValue").setBoolean(instance, true), equalTo(true));
+		assertThat(typeProperty(AllTypes.class, "booleanValue").getBoolean(instance), equalTo(true));
+		assertThat(typeProperty(AllTypes.class, "charValue").setChar(instance, 'x'), equalTo(true));
+		assertThat(typeProperty(AllTypes.class, "charValue").getChar(instance), equalTo('x'));
+	}
+
+	@Test
+	public void canGetAndSetPrimitivesUsingWideningAndBoxingConversions() throws Exception {
+		AllTypes instance = new AllTypes();
+		assertThat(typeProperty(AllTypes.class, "longValue").setInt(instance, 12345), equalTo(true));
+		assertThat(instance.getLongValue(), equalTo(12345L));
+		assertThat(typeProperty(AllTypes.class, "integerObjectValue").setInt(instance, 123), equalTo(true));
+		assertThat(instance.getIntegerObjectValue(), equalTo(123));
+		assertThat(typeProperty(AllTypes.class, "integerObjectValue").getLong(instance), equalTo(123L));
+		assertThat(typeProperty(AllTypes.class, "shortValue").getDouble(instance), equalTo(0.0));
+	}
+
+	@Test(expected = BeanPropertyException.class)
+	public void canHandleANarrowingConversionOnGet() throws Exception {
+		typeProperty(AllTypes.class, "longValue").getInt(new AllTypes());
+	}
+
+	@Test(expected = BeanPropertyException.class)
+	public void canHandleAPrimitiveForAnIncompatibleTypeOnSet() throws Exception {
+		typeProperty(AllTypes.class, "stringValue").setInt(new AllTypes(), 1);
+	}
+
+	@Test(expected = BeanPropertyException.class)
+	public void canHandleNullForAPrimitiveOnGet() throws Exception {
+		typeProperty(AllTypes.class, "integerObjectValue").getInt(new AllTypes());
+	}
+
+	@Test(expected = BeanPropertyException.class)
+	public void canHandleANarrowingConversionOnGetFromAMethodCalledReflectively() throws Exception {
+		typeProperty(HiddenLong.class, "value").getInt(new HiddenLong());
+	}
+
+	@Test
+	public void canGetAPrimitiveFromAMethodCalledReflectively() throws Exception {
+		assertThat(typeProperty(HiddenLong.class, "value").getDouble(new HiddenLong()), equalTo(12345.0));
+	}
+
+	@Test(expected = BeanPropertyException.class)
+	public void canHandleANarrowingConversionOnSetOfAMethodCalledReflectively() throws Exception {
+		typeProperty(HiddenLong.class, "value").setDouble(new HiddenLong(), 1.5);
+	}
+
+	@Test
+	public void canGetAPrimitiveFromAReferenceUsingAWideningConversion() throws Exception {
+		NumberHolder instance = new NumberHolder();
+		instance.setValue(123);
+		assertThat(typeProperty(NumberHolder.class, "value").getLong(instance), equalTo(123L));
+		assertThat(typeProperty(NumberHolder.class, "value").getInt(instance), equalTo(123));
+	}
+
+	@Test(expected = BeanPropertyException.class)
+	public void canHandleATypeMismatchOnGetFromAReference() throws Exception {
+		NumberHolder instance = new NumberHolder();
+		instance.setValue(123L);
+		typeProperty(NumberHolder.class, "value").getInt(instance);
+	}
+
+	@Test(expected = BeanPropertyException.class)
+	public void canHandleANonNumericReferenceOnGet() throws Exception {
+		typeProperty(AllTypes.class, "stringValue").getInt(new AllTypes());
+	}
+
 	@Test(expected = BeanPropertyException.class)
 	public void canHandleInvocationTargetExceptionOnSet() throws Exception {
 		typeProperty(Thrower.class, "property").setValue(new Thrower(), 1);
@@ -205,6 +302,33 @@ public class TypePropertyTest {
 		typeProperty(Thrower.class, "property").getValue(new Thrower());
 	}
 
+	@Test
+	public void canCallAThrowingSetterOnceWhenTheValueMustBeWidened() throws Exception {
+		CountingThrower instance = new CountingThrower();
+		try {
+			typeProperty(CountingThrower.class, "value").setValue(instance, 1);
+			fail("Expected BeanPropertyException");
+		} catch (BeanPropertyException e) {
+			assertThat(instance.getCalls(), equalTo(1));
+		}
+	}
+
+	@Test
+	public void canCallAThrowingGetterOnce() throws Exception {
+		CountingThrower instance = new CountingThrower();
+		try {
+			typeProperty(CountingThrower.class, "value").getValue(instance);
+			fail("Expected BeanPropertyException");
+		} catch (BeanPropertyException e) {
+			assertThat(instance.getCalls(), equalTo(1));
+		}
+	}
+
+	@Test(expected = AssertionError.class)
+	public void canPropagateAnErrorFromAGetter() throws Exception {
+		typeProperty(ErrorThrower.class, "value").getValue(new ErrorThrower());
+	}
+
 	@Test
 	public void canTestForInstanceEquality() {
 		TypeProperty lhs = typeProperty(AllTypes.class, "stringValue");
@@ -288,4 +412,58 @@ public class TypePropertyTest {
 			}
 		}
 	}
+
+	public static class CountingThrower {
+
+		private int calls = 0;
+
+		public int getCalls() {
+			return calls;
+		}
+
+		public long getValue() {
+			++calls;
+			throw new IllegalStateException();
+		}
+
+		public void setValue(final long value) {
+			++calls;
+			throw new IllegalStateException();
+		}
+	}
+
+	public static class NumberHolder {
+
+		private Number value;
+
+		public Number getValue() {
+			return value;
+		}
+
+		public void setValue(final Number value) {
+			this.value = value;
+		}
+	}
+
+	private static class HiddenLong {
+
+		private long value = 12345L;
+
+		public long getValue() {
+			return value;
+		}
+
+		public void setValue(final long value) {
+			this.value = value;
+		}
+	}
+
+	public static class ErrorThrower {
+
+		public long getValue() {
+			throw new AssertionError();
+		}
+
+		public void setValue(final long value) {}
+	}
 }
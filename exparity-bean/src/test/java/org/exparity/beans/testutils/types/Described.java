@@ -0,0 +1,26 @@
+package org.exparity.beans.testutils.types;
+
+import org.exparity.beans.GenerateBeanDescriptor;
+
+@GenerateBeanDescriptor
+public class Described {
+
+	private String name;
+	private int count;
+
+	public String getName() {
+		return name;
+	}
+
+	public void setName(final String name) {
+		this.name = name;
+	}
+
+	public int getCount() {
+		return count;
+	}
+
+	public void setCount(final int count) {
+		this.count = count;
+	}
+}
@@ -0,0 +1,93 @@
+package org.exparity.beans.testutils.types;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.exparity.beans.core.BeanAccessor;
+import org.exparity.beans.core.BeanDescriptor;
+
+/**
+ * Hand written equivalent of the descriptor the annotation processor generates for {@link Described}. Counts the calls made through it.
+ */
+public class DescribedBeanDescriptor implements BeanDescriptor, BeanAccessor {
+
+	public static final AtomicInteger CALLS = new AtomicInteger();
+
+	public Class<?> getType() {
+		return Described.class;
+	}
+
+	public String[] getAccessorNames() {
+		return new String[] {
+				"getClass", "getName", "getCount"
+		};
+	}
+
+	public Class<?>[] getAccessorDeclaringTypes() {
+		return new Class<?>[] {
+				Object.class, Described.class, Described.class
+		};
+	}
+
+	public Class<?>[] getAccessorTypes() {
+		return new Class<?>[] {
+				Class.class, String.class, int.class
+		};
+	}
+
+	public Class<?>[][] getAccessorTypeArguments() {
+		return new Class<?>[][] {
+				{}, {}, {}
+		};
+	}
+
+	public String[] getMutatorNames() {
+		return new String[] {
+				"setName", "setCount"
+		};
+	}
+
+	public Class<?>[] getMutatorDeclaringTypes() {
+		return new Class<?>[] {
+				Described.class, Described.class
+		};
+	}
+
+	public Class<?>[] getMutatorTypes() {
+		return new Class<?>[] {
+				String.class, int.class
+		};
+	}
+
+	public BeanAccessor getBeanAccessor() {
+		return this;
+	}
+
+	public Object get(final Object instance, final int slot) {
+		Described bean = (Described) instance;
+		CALLS.incrementAndGet();
+		switch (slot) {
+			case 0:
+				return bean.getClass();
+			case 1:
+				return bean.getName();
+			case 2:
+				return bean.getCount();
+			default:
+				throw new IllegalArgumentException("Unknown slot '" + slot + "'");
+		}
+	}
+
+	public void set(final Object instance, final int slot, final Object value) {
+		Described bean = (Described) instance;
+		CALLS.incrementAndGet();
+		switch (slot) {
+			case 0:
+				bean.setName((String) value);
+				break;
+			case 1:
+				bean.setCount((Integer) value);
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown slot '" + slot + "'");
+		}
+	}
+}